@@ -2,12 +2,22 @@ package com.platform.recipe;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class RecipeApplication {
 
+	// Enough for every bean instantiation and post processing step of a full boot; /actuator/startup reads them.
+	private static final int STARTUP_STEPS = 8192;
+
 	public static void main(String[] args) {
-		SpringApplication.run(RecipeApplication.class, args);
+		application().run(args);
+	}
+
+	static SpringApplication application() {
+		SpringApplication application = new SpringApplication(RecipeApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS));
+		return application;
 	}
 
 }
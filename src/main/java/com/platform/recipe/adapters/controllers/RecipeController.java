@@ -1,34 +1,72 @@
 package com.platform.recipe.adapters.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.adapters.controllers.admin.AdminAuthorizer;
+import com.platform.recipe.adapters.controllers.admission.SearchEndpoint;
+import com.platform.recipe.adapters.controllers.bulkhead.Bulkheads;
+import com.platform.recipe.adapters.controllers.cache.RecipeResponseCache;
+import com.platform.recipe.adapters.controllers.coalescing.CreateCoalescer;
 import com.platform.recipe.adapters.controllers.config.ResponseError;
+import com.platform.recipe.adapters.controllers.dtos.request.RecipeBulkUpdateRequest;
 import com.platform.recipe.adapters.controllers.dtos.request.RecipeCreateRequest;
 import com.platform.recipe.adapters.controllers.dtos.request.RecipeUpdateRequest;
+import com.platform.recipe.adapters.controllers.dtos.response.BulkProgressResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeChangesResponse;
 import com.platform.recipe.adapters.controllers.dtos.response.RecipeIdResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeLookupResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipePageResponse;
 import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.SearchExplainResponse;
+import com.platform.recipe.adapters.controllers.explain.SearchDiagnostics;
+import com.platform.recipe.domain.dtos.BulkProgressDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
 import com.platform.recipe.domain.dtos.RecipeDto;
-import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RecipeFilters;
 import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.RecipeSortPlanner;
+import com.platform.recipe.domain.services.RequestDeadline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -37,10 +75,30 @@ public class RecipeController {
 
   private final RecipeService recipeService;
   private final ObjectMapper objectMapper;
+  private final Bulkheads bulkheads;
+  private final SearchDiagnostics searchDiagnostics;
+  private final AdminAuthorizer adminAuthorizer;
+  private final RecipeResponseCache recipeResponseCache;
+  private final RecipePageWriter recipePageWriter;
+  private final CreateCoalescer createCoalescer;
 
-  public RecipeController(RecipeService recipeService, ObjectMapper objectMapper) {
+  public RecipeController(
+    RecipeService recipeService,
+    ObjectMapper objectMapper,
+    Bulkheads bulkheads,
+    SearchDiagnostics searchDiagnostics,
+    AdminAuthorizer adminAuthorizer,
+    RecipeResponseCache recipeResponseCache,
+    ObjectProvider<CreateCoalescer> createCoalescer
+  ) {
     this.recipeService = recipeService;
     this.objectMapper = objectMapper;
+    this.bulkheads = bulkheads;
+    this.searchDiagnostics = searchDiagnostics;
+    this.adminAuthorizer = adminAuthorizer;
+    this.recipeResponseCache = recipeResponseCache;
+    this.recipePageWriter = new RecipePageWriter(objectMapper);
+    this.createCoalescer = createCoalescer.getIfAvailable();
   }
 
   @Operation(summary = "Create recipes", description = "Create recipes")
@@ -48,17 +106,26 @@ public class RecipeController {
   @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @PostMapping
-  public ResponseEntity<RecipeIdResponse> create(@Valid @RequestBody RecipeCreateRequest recipeRequest) {
+  public CompletableFuture<ResponseEntity<RecipeIdResponse>> create(@Valid @RequestBody RecipeCreateRequest recipeRequest) {
     log.info("Received request to create recipe [{}]", recipeRequest.getTitle());
     RecipeDto recipeDto = objectMapper.convertValue(recipeRequest, RecipeDto.class);
 
-    Long id = recipeService.create(recipeDto);
+    if (createCoalescer != null) {
+      return createCoalescer.submit(recipeDto).thenApply(id -> {
+        log.info("Recipe [{}] successfully created with id [{}]", recipeRequest.getTitle(), id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(new RecipeIdResponse(id));
+      });
+    }
+
+    return bulkheads.getWrite().submit(() -> {
+      Long id = recipeService.create(recipeDto);
 
-    RecipeIdResponse response = new RecipeIdResponse(id);
+      RecipeIdResponse response = new RecipeIdResponse(id);
 
-    log.info("Recipe [{}] successfully created with id [{}]", recipeRequest.getTitle(), id);
+      log.info("Recipe [{}] successfully created with id [{}]", recipeRequest.getTitle(), id);
 
-    return ResponseEntity.status(HttpStatus.CREATED).body(response);
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    });
   }
 
   @Operation(summary = "Update recipes id", description = "Update recipes with id")
@@ -67,19 +134,21 @@ public class RecipeController {
   @ApiResponse(responseCode = "404", description = "Not found error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @PutMapping("/{id}")
-  public ResponseEntity<RecipeResponse> update(
+  public CompletableFuture<ResponseEntity<RecipeResponse>> update(
     @PathVariable Long id,
     @Valid @RequestBody RecipeUpdateRequest recipeRequest
-  ) throws DataNotFoundException {
+  ) {
     log.info("Received request to update recipe [{}]", id);
     RecipeDto recipeDto = objectMapper.convertValue(recipeRequest, RecipeDto.class);
     recipeDto.setId(id);
 
-    RecipeDto result = recipeService.update(recipeDto);
-    RecipeResponse response = objectMapper.convertValue(result, RecipeResponse.class);
+    return bulkheads.getWrite().submit(() -> {
+      RecipeDto result = recipeService.update(recipeDto);
+      RecipeResponse response = objectMapper.convertValue(result, RecipeResponse.class);
 
-    log.info("Recipe with id [{}] successfully updated", id);
-    return ResponseEntity.status(HttpStatus.OK).body(response);
+      log.info("Recipe with id [{}] successfully updated", id);
+      return ResponseEntity.status(HttpStatus.OK).body(response);
+    });
   }
 
   @Operation(summary = "Delete recipes id", description = "Delete recipes with id")
@@ -88,74 +157,411 @@ public class RecipeController {
   @ApiResponse(responseCode = "404", description = "Not found error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @DeleteMapping("/{id}")
-  public ResponseEntity<Void> delete(
+  public CompletableFuture<ResponseEntity<Void>> delete(
     @PathVariable Long id
-  ) throws DataNotFoundException {
+  ) {
     log.info("Received request to delete recipe [{}]", id);
 
-    recipeService.deleteById(id);
+    return bulkheads.getWrite().submit(() -> {
+      recipeService.deleteById(id);
+
+      log.info("Recipe with id [{}] successfully deleted", id);
+      return ResponseEntity.noContent().build();
+    });
+  }
+
+  @Operation(summary = "Mark recipes in bulk", description = "Set vegetarian on every recipe matching the filters, in chunks, streaming one progress line per chunk. Requires the admin token header")
+  @ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = BulkProgressResponse.class)))
+  @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "403", description = "Missing or invalid admin token", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "503", description = "Another bulk change is running", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @PatchMapping
+  public ResponseEntity<ResponseBodyEmitter> bulkUpdate(
+    @RequestHeader(name = AdminAuthorizer.ADMIN_TOKEN_HEADER, required = false) String adminToken,
+    @RequestParam(required = false) Boolean vegetarian,
+    @RequestParam(required = false) List<String> includedIngredients,
+    @RequestParam(required = false) List<String> excludedIngredients,
+    @RequestParam(required = false, defaultValue = "ANY") IngredientMatch match,
+    @RequestParam(required = false) String instruction,
+    @RequestParam(required = false) String title,
+    @RequestParam(required = false, defaultValue = "PREFIX") TitleMatch titleMatch,
+    @RequestParam(required = false) Instant createdAfter,
+    @RequestParam(required = false) Instant createdBefore,
+    @Valid @RequestBody RecipeBulkUpdateRequest recipeRequest
+  ) throws ForbiddenException, InvalidDataException {
+    adminAuthorizer.authorize(adminToken, ErrorCode.BULK_FORBIDDEN);
+    RecipeFilters.requireAny(vegetarian, includedIngredients, excludedIngredients, instruction, title, createdAfter,
+      createdBefore);
+    log.info("Received request to mark recipes as vegetarian [{}] in bulk, filters: vegetarian: [{}], include: [{}],"
+      + " exclude: [{}], match: [{}], instruction: [{}], title: [{}], createdAfter: [{}], createdBefore: [{}]",
+        recipeRequest.getVegetarian(), vegetarian, includedIngredients, excludedIngredients, match, instruction, title,
+        createdAfter, createdBefore);
 
-    log.info("Recipe with id [{}] successfully deleted", id);
-    return ResponseEntity.noContent().build();
+    return streamBulkProgress(progress -> recipeService.updateVegetarianWithFilters(
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore,
+      recipeRequest.getVegetarian(),
+      progress
+    ));
+  }
+
+  @Operation(summary = "Delete recipes in bulk", description = "Delete every recipe matching the filters, in chunks, streaming one progress line per chunk. Requires the admin token header")
+  @ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = BulkProgressResponse.class)))
+  @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "403", description = "Missing or invalid admin token", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "503", description = "Another bulk change is running", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @DeleteMapping
+  public ResponseEntity<ResponseBodyEmitter> bulkDelete(
+    @RequestHeader(name = AdminAuthorizer.ADMIN_TOKEN_HEADER, required = false) String adminToken,
+    @RequestParam(required = false) Boolean vegetarian,
+    @RequestParam(required = false) List<String> includedIngredients,
+    @RequestParam(required = false) List<String> excludedIngredients,
+    @RequestParam(required = false, defaultValue = "ANY") IngredientMatch match,
+    @RequestParam(required = false) String instruction,
+    @RequestParam(required = false) String title,
+    @RequestParam(required = false, defaultValue = "PREFIX") TitleMatch titleMatch,
+    @RequestParam(required = false) Instant createdAfter,
+    @RequestParam(required = false) Instant createdBefore
+  ) throws ForbiddenException, InvalidDataException {
+    adminAuthorizer.authorize(adminToken, ErrorCode.BULK_FORBIDDEN);
+    RecipeFilters.requireAny(vegetarian, includedIngredients, excludedIngredients, instruction, title, createdAfter,
+      createdBefore);
+    log.info("Received request to delete recipes in bulk, filters: vegetarian: [{}], include: [{}], exclude: [{}],"
+      + " match: [{}], instruction: [{}], title: [{}], createdAfter: [{}], createdBefore: [{}]",
+        vegetarian, includedIngredients, excludedIngredients, match, instruction, title, createdAfter, createdBefore);
+
+    return streamBulkProgress(progress -> recipeService.deleteWithFilters(
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore,
+      progress
+    ));
   }
 
   @Operation(summary = "Search recipes id", description = "Search recipes with id")
-  @ApiResponse(responseCode = "200", description = "Success")
+  @ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecipeResponse.class)))
+  @ApiResponse(responseCode = "304", description = "Not modified since the given ETag")
   @ApiResponse(responseCode = "400", description = "Invalid data error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @ApiResponse(responseCode = "404", description = "Not found error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @GetMapping("/{id}")
-  public ResponseEntity<RecipeResponse> findById(
-    @PathVariable Long id
-  ) throws DataNotFoundException {
-    log.info("Received request to find recipe [{}]", id);
+  public CompletableFuture<ResponseEntity<byte[]>> findById(
+    @PathVariable Long id,
+    @RequestParam(required = false, defaultValue = "FULL") RecipeView view,
+    @RequestHeader HttpHeaders headers
+  ) throws HttpMediaTypeNotAcceptableException {
+    log.info("Received request to find recipe [{}] with view [{}]", id, view);
+
+    RecipeResponseCache.Key key = new RecipeResponseCache.Key(id, view, recipeResponseCache.negotiate(headers.getAccept()));
+    RecipeResponseCache.Encoded cached = recipeResponseCache.get(key);
+    if (cached != null) {
+      log.info("Recipe with id [{}] served from the response cache", id);
+      return CompletableFuture.completedFuture(recipeResponseCache.respond(cached, headers));
+    }
 
-    RecipeDto recipeDto = recipeService.findById(id);
-    RecipeResponse response = objectMapper.convertValue(recipeDto, RecipeResponse.class);
+    long generation = recipeResponseCache.generation(id);
+    return bulkheads.getRead().submit(() -> {
+      RecipeDto recipeDto = recipeService.findById(id, view);
+      RecipeResponse response = objectMapper.convertValue(recipeDto, RecipeResponse.class);
+      RecipeResponseCache.Encoded encoded = recipeResponseCache.put(key, response, generation);
 
-    log.info("Recipe with id [{}] successfully found", id);
-    return ResponseEntity.status(HttpStatus.OK).body(response);
+      log.info("Recipe with id [{}] successfully found", id);
+      return recipeResponseCache.respond(encoded, headers);
+    });
   }
 
-  @Operation(summary = "Search for recipes", description = "Search recipes with optional filters")
+  @Operation(summary = "Find recipes by ids", description = "Find many recipes in one call, keeping the requested order")
+  @ApiResponse(responseCode = "200", description = "Success")
+  @ApiResponse(responseCode = "400", description = "Invalid data error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @GetMapping(params = "ids")
+  public CompletableFuture<ResponseEntity<RecipeLookupResponse>> findAllByIds(
+    @RequestParam List<Long> ids
+  ) {
+    log.info("Received request to find recipes [{}]", ids);
+
+    return bulkheads.getRead().submit(() -> {
+      RecipeLookupDto recipeLookupDto = recipeService.findAllByIds(ids);
+      RecipeLookupResponse response = objectMapper.convertValue(recipeLookupDto, RecipeLookupResponse.class);
+
+      log.info("Found [{}] recipes, missing ids [{}]", response.getRecipes().size(), response.getMissingIds());
+      return ResponseEntity.status(HttpStatus.OK).body(response);
+    });
+  }
+
+  @Operation(summary = "Recipe change feed", description = "Created, updated and deleted recipes after a cursor, in commit order")
   @ApiResponse(responseCode = "200", description = "Success")
+  @ApiResponse(responseCode = "400", description = "Invalid data error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @GetMapping("/changes")
+  public CompletableFuture<ResponseEntity<RecipeChangesResponse>> findChanges(
+    @RequestParam(required = false, defaultValue = "0") long since,
+    @RequestParam(required = false, defaultValue = "100") int limit
+  ) {
+    log.info("Received request to find recipe changes since [{}]", since);
+
+    return bulkheads.getRead().submit(() -> {
+      RecipeChangesDto recipeChangesDto = recipeService.findChanges(since, limit);
+      RecipeChangesResponse response = objectMapper.convertValue(recipeChangesDto, RecipeChangesResponse.class);
+
+      log.info("Found [{}] recipe changes, next cursor [{}]", response.getChanges().size(), response.getNextCursor());
+      return ResponseEntity.status(HttpStatus.OK).body(response);
+    });
+  }
+
+  @Operation(summary = "Search for recipes", description = "Search recipes with optional filters")
+  @ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecipePageResponse.class)))
   @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
   @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @SearchEndpoint
   @GetMapping
-  public ResponseEntity<Page<RecipeResponse>> search(
+  public CompletableFuture<ResponseEntity<RecipePageResponse>> search(
     @RequestParam(required = false) Boolean vegetarian,
     @RequestParam(required = false, defaultValue = "1") int servings,
     @RequestParam(required = false) List<String> includedIngredients,
     @RequestParam(required = false) List<String> excludedIngredients,
+    @RequestParam(required = false, defaultValue = "ANY") IngredientMatch match,
     @RequestParam(required = false) String instruction,
+    @RequestParam(required = false) String title,
+    @RequestParam(required = false, defaultValue = "PREFIX") TitleMatch titleMatch,
     @RequestParam(required = false) Instant createdAfter,
     @RequestParam(required = false) Instant createdBefore,
     @RequestParam(required = false, defaultValue = "0") int page,
     @RequestParam(required = false, defaultValue = "10") int pageSize,
-    @RequestParam(required = false, defaultValue = "createdAt") String sort
-  ) {
+    @RequestParam(required = false, defaultValue = "createdAt") String sort,
+    @RequestParam(required = false, defaultValue = "FULL") RecipeView view
+  ) throws InvalidDataException {
     log.info("Received request to serch recipe, filters: vegetarian: [{}], serving: [{}], include: [{}],"
-      + " exclude: [{}], instruction: [{}], createdAfter: [{}], createdBefore: [{}]",
-        vegetarian, servings, includedIngredients, excludedIngredients, instruction, createdAfter, createdBefore);
+      + " exclude: [{}], match: [{}], instruction: [{}], title: [{}], createdAfter: [{}], createdBefore: [{}]",
+        vegetarian, servings, includedIngredients, excludedIngredients, match, instruction, title, createdAfter, createdBefore);
 
-    Page<RecipeDto> recipes = recipeService.searchWithFilters(
-      vegetarian,
-      servings,
-      includedIngredients,
-      excludedIngredients,
-      instruction,
-      createdAfter,
-      createdBefore,
-      page,
-      pageSize,
-      sort
-    );
+    Sort plannedSort = RecipeSortPlanner.plan(sort);
+    QueryTrace trace = QueryTrace.start(false);
+    return bulkheads.getSearch().submit(() -> {
+      RecipePageResponse response = tracedSearch(
+        trace,
+        vegetarian,
+        servings,
+        includedIngredients,
+        excludedIngredients,
+        match,
+        instruction,
+        title,
+        titleMatch,
+        createdAfter,
+        createdBefore,
+        page,
+        pageSize,
+        plannedSort,
+        view
+      );
+
+      log.info("Returning recipe page successfully, filters: vegetarian: [{}], serving: [{}], include: [{}],"
+        + " exclude: [{}], match: [{}], instruction: [{}], title: [{}], createdAfter: [{}], createdBefore: [{}]",
+          vegetarian, servings, includedIngredients, excludedIngredients, match, instruction, title, createdAfter, createdBefore);
+      return ResponseEntity.status(HttpStatus.OK).body(response);
+    });
+  }
+
+  @Operation(summary = "Explain a recipe search", description = "Run a search and return its SQL, bind parameters, query plans and per-stage timings. Requires the admin token header")
+  @ApiResponse(responseCode = "200", description = "Success")
+  @ApiResponse(responseCode = "403", description = "Missing or invalid admin token", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @SearchEndpoint
+  @GetMapping(params = "explain=true")
+  public CompletableFuture<ResponseEntity<SearchExplainResponse>> explainSearch(
+    @RequestHeader(name = AdminAuthorizer.ADMIN_TOKEN_HEADER, required = false) String adminToken,
+    @RequestParam(required = false) Boolean vegetarian,
+    @RequestParam(required = false, defaultValue = "1") int servings,
+    @RequestParam(required = false) List<String> includedIngredients,
+    @RequestParam(required = false) List<String> excludedIngredients,
+    @RequestParam(required = false, defaultValue = "ANY") IngredientMatch match,
+    @RequestParam(required = false) String instruction,
+    @RequestParam(required = false) String title,
+    @RequestParam(required = false, defaultValue = "PREFIX") TitleMatch titleMatch,
+    @RequestParam(required = false) Instant createdAfter,
+    @RequestParam(required = false) Instant createdBefore,
+    @RequestParam(required = false, defaultValue = "0") int page,
+    @RequestParam(required = false, defaultValue = "10") int pageSize,
+    @RequestParam(required = false, defaultValue = "createdAt") String sort,
+    @RequestParam(required = false, defaultValue = "FULL") RecipeView view
+  ) throws ForbiddenException, InvalidDataException {
+    adminAuthorizer.authorize(adminToken, ErrorCode.EXPLAIN_FORBIDDEN);
+    log.info("Received request to explain recipe search, filters: vegetarian: [{}], serving: [{}], include: [{}],"
+      + " exclude: [{}], match: [{}], instruction: [{}], title: [{}], createdAfter: [{}], createdBefore: [{}]",
+        vegetarian, servings, includedIngredients, excludedIngredients, match, instruction, title, createdAfter, createdBefore);
 
-    Page<RecipeResponse> response = recipes.map(dto -> objectMapper.convertValue(dto, RecipeResponse.class));
+    Sort plannedSort = RecipeSortPlanner.plan(sort);
+    QueryTrace trace = QueryTrace.start(true);
+    return bulkheads.getSearch().submit(() -> {
+      RecipePageResponse response = tracedSearch(
+        trace,
+        vegetarian,
+        servings,
+        includedIngredients,
+        excludedIngredients,
+        match,
+        instruction,
+        title,
+        titleMatch,
+        createdAfter,
+        createdBefore,
+        page,
+        pageSize,
+        plannedSort,
+        view
+      );
+
+      return ResponseEntity.status(HttpStatus.OK).body(searchDiagnostics.explain(trace, response));
+    });
+  }
+
+  @Operation(summary = "Stream a page of recipes", description = "Search recipes with optional filters, writing each recipe as soon as it is loaded")
+  @ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RecipePageResponse.class)))
+  @ApiResponse(responseCode = "400", description = "Validation error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @ApiResponse(responseCode = "500", description = "Unexpected error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ResponseError.ResponseErrorMessage.class)))
+  @SearchEndpoint
+  @GetMapping("/stream")
+  public ResponseEntity<StreamingResponseBody> stream(
+    @RequestParam(required = false) Boolean vegetarian,
+    @RequestParam(required = false, defaultValue = "1") int servings,
+    @RequestParam(required = false) List<String> includedIngredients,
+    @RequestParam(required = false) List<String> excludedIngredients,
+    @RequestParam(required = false, defaultValue = "ANY") IngredientMatch match,
+    @RequestParam(required = false) String instruction,
+    @RequestParam(required = false) String title,
+    @RequestParam(required = false, defaultValue = "PREFIX") TitleMatch titleMatch,
+    @RequestParam(required = false) Instant createdAfter,
+    @RequestParam(required = false) Instant createdBefore,
+    @RequestParam(required = false, defaultValue = "0") int page,
+    @RequestParam(required = false, defaultValue = "10") int pageSize,
+    @RequestParam(required = false, defaultValue = "createdAt") String sort,
+    @RequestParam(required = false, defaultValue = "FULL") RecipeView view,
+    @RequestHeader HttpHeaders headers
+  ) throws InvalidDataException, HttpMediaTypeNotAcceptableException {
+    log.info("Received request to stream recipe page, filters: vegetarian: [{}], serving: [{}], include: [{}],"
+      + " exclude: [{}], match: [{}], instruction: [{}], title: [{}], createdAfter: [{}], createdBefore: [{}]",
+        vegetarian, servings, includedIngredients, excludedIngredients, match, instruction, title, createdAfter, createdBefore);
+
+    Sort plannedSort = RecipeSortPlanner.plan(sort);
+    MediaType mediaType = recipeResponseCache.negotiate(headers.getAccept());
+    RequestDeadline deadline = bulkheads.getSearch().newDeadline();
+    StreamingResponseBody body = outputStream -> {
+      try (RequestDeadline.Scope scope = deadline.enter()) {
+        recipePageWriter.write(outputStream, recipeResponseCache.mapper(mediaType), page, pageSize, consumer -> recipeService.streamWithFilters(
+          vegetarian,
+          servings,
+          includedIngredients,
+          excludedIngredients,
+          match,
+          instruction,
+          title,
+          titleMatch,
+          createdAfter,
+          createdBefore,
+          page,
+          pageSize,
+          plannedSort,
+          view,
+          consumer
+        ));
+      }
+    };
+
+    return ResponseEntity.status(HttpStatus.OK).contentType(mediaType).varyBy(HttpHeaders.ACCEPT).body(body);
+  }
+
+  /**
+   * Runs the bulk change on the bulk bulkhead and writes each progress report as a line of JSON as soon as its
+   * chunk commits. The headers are sent before the work starts, so a failure part way only ends the stream; a
+   * client that goes away stops the change after the chunk in flight.
+   */
+  private ResponseEntity<ResponseBodyEmitter> streamBulkProgress(BulkChange change) {
+    ResponseBodyEmitter emitter = new ResponseBodyEmitter(bulkheads.getBulk().timeout().toMillis());
+    bulkheads.getBulk().submit(() -> change.run(progress -> {
+      BulkProgressResponse response = objectMapper.convertValue(progress, BulkProgressResponse.class);
+      try {
+        emitter.send(objectMapper.writeValueAsString(response) + "\n", MediaType.TEXT_PLAIN);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    })).whenComplete((total, failure) -> {
+      if (failure == null) {
+        log.info("Bulk change completed, [{}] recipes changed", total);
+        emitter.complete();
+      } else {
+        Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+        log.info("Bulk change stopped, cause: [{}]", cause.toString());
+        emitter.completeWithError(cause);
+      }
+    });
+
+    return ResponseEntity.status(HttpStatus.OK).contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+  }
+
+  @FunctionalInterface
+  private interface BulkChange {
+
+    long run(Consumer<BulkProgressDto> progress) throws Exception;
+  }
+
+  private RecipePageResponse tracedSearch(
+    QueryTrace trace,
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
+    try (RequestDeadline.Scope scope = trace.enter()) {
+      Page<RecipeDto> recipes = recipeService.searchWithFilters(
+        vegetarian,
+        servings,
+        includedIngredients,
+        excludedIngredients,
+        match,
+        instruction,
+        title,
+        titleMatch,
+        createdAfter,
+        createdBefore,
+        page,
+        pageSize,
+        sort,
+        view
+      );
 
-    log.info("Returning recipe page successfully, filters: vegetarian: [{}], serving: [{}], include: [{}],"
-      + " exclude: [{}], instruction: [{}], createdAfter: [{}], createdBefore: [{}]",
-        vegetarian, servings, includedIngredients, excludedIngredients, instruction, createdAfter, createdBefore);
-    return ResponseEntity.status(HttpStatus.OK).body(response);
+      return QueryTrace.stage("mapping", () -> new RecipePageResponse(
+        recipes.map(dto -> objectMapper.convertValue(dto, RecipeResponse.class)).getContent(),
+        recipes.getNumber(),
+        recipes.getSize(),
+        recipes.getTotalElements(),
+        recipes.getTotalPages()
+      ));
+    } finally {
+      searchDiagnostics.observe(trace);
+    }
   }
 }
@@ -0,0 +1,56 @@
+package com.platform.recipe.adapters.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipePageResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes a {@link RecipePageResponse} incrementally, in the format of the given mapper: each recipe is serialized
+ * and flushed as soon as the producer hands it over, and the totals are appended once the producer is done.
+ */
+public class RecipePageWriter {
+
+  private final ObjectMapper objectMapper;
+
+  public RecipePageWriter(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  public void write(
+    OutputStream outputStream,
+    ObjectMapper encoder,
+    int page,
+    int pageSize,
+    ToLongFunction<Consumer<RecipeDto>> producer
+  ) throws IOException {
+    try (JsonGenerator generator = encoder.getFactory().createGenerator(outputStream)) {
+      generator.writeStartObject();
+      generator.writeArrayFieldStart("content");
+
+      long totalElements = producer.applyAsLong(recipeDto -> writeRecipe(encoder, generator, recipeDto));
+
+      generator.writeEndArray();
+      generator.writeNumberField("page", page);
+      generator.writeNumberField("pageSize", pageSize);
+      generator.writeNumberField("totalElements", totalElements);
+      generator.writeNumberField("totalPages", pageSize == 0 ? 1 : (int) Math.ceil((double) totalElements / pageSize));
+      generator.writeEndObject();
+    }
+  }
+
+  private void writeRecipe(ObjectMapper encoder, JsonGenerator generator, RecipeDto recipeDto) {
+    try {
+      encoder.writeValue(generator, objectMapper.convertValue(recipeDto, RecipeResponse.class));
+      generator.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.platform.recipe.adapters.controllers.admin;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Guards the admin-only operations with the token from {@code recipe.admin.token}. Each operation refuses with its
+ * own error code, so a client can tell which one was denied.
+ */
+public class AdminAuthorizer {
+
+  public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+  private final AdminProperties properties;
+
+  public AdminAuthorizer(AdminProperties properties) {
+    this.properties = properties;
+  }
+
+  public void authorize(String adminToken, ErrorCode refusal) throws ForbiddenException {
+    String expected = properties.getToken();
+    if (expected == null || expected.isBlank() || adminToken == null
+      || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), adminToken.getBytes(StandardCharsets.UTF_8))) {
+      throw new ForbiddenException(refusal);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.platform.recipe.adapters.controllers.admin;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AdminProperties.class)
+public class AdminConfig {
+
+  @Bean
+  public AdminAuthorizer adminAuthorizer(AdminProperties properties) {
+    return new AdminAuthorizer(properties);
+  }
+}
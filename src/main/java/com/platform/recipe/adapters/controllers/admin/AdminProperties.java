@@ -0,0 +1,16 @@
+package com.platform.recipe.adapters.controllers.admin;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.admin")
+public class AdminProperties {
+
+  /**
+   * Token expected in the admin header for explain and bulk changes; they are refused while it is blank.
+   */
+  private String token = "";
+}
@@ -0,0 +1,35 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdmissionConfig {
+
+  @Bean
+  public static PoolPressure poolPressure(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new PoolPressure(() -> {
+      MeterRegistry registry = meterRegistry.getIfAvailable();
+      return registry == null ? null : new MicrometerMetricsTrackerFactory(registry);
+    });
+  }
+
+  @Bean
+  public static BeanPostProcessor poolPressureInstaller(PoolPressure poolPressure) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null
+          && dataSource.getMetricRegistry() == null) {
+          dataSource.setMetricsTrackerFactory(poolPressure);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,124 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.exceptions.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.security.Principal;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Rejects recipe requests up front instead of letting them queue on the connection pool. Each client, the
+ * authenticated principal or else the remote address, is rate limited first (429), then searches are shed while the pool is saturated, and finally searches, point reads and
+ * writes each get a bounded number of in-flight slots (503). Only handlers marked with {@link SearchEndpoint} count
+ * as searches. The slot is held until the response has been completed, including streamed responses.
+ */
+@Slf4j
+public class AdmissionInterceptor implements AsyncHandlerInterceptor {
+
+  private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+  private final AdmissionProperties properties;
+  private final PoolPressure poolPressure;
+  private final ClientRateLimiter clientRateLimiter;
+  private final Semaphore searchPermits;
+  private final Semaphore readPermits;
+  private final Semaphore writePermits;
+
+  public AdmissionInterceptor(AdmissionProperties properties, PoolPressure poolPressure) {
+    this.properties = properties;
+    this.poolPressure = poolPressure;
+    this.clientRateLimiter = new ClientRateLimiter(
+      properties.getClientBurst(),
+      properties.getClientRequestsPerSecond(),
+      properties.getMaxTrackedClients()
+    );
+    this.searchPermits = new Semaphore(properties.getMaxConcurrentSearches());
+    this.readPermits = new Semaphore(properties.getMaxConcurrentReads());
+    this.writePermits = new Semaphore(properties.getMaxConcurrentWrites());
+  }
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+    throws ServiceBusyException, TooManyRequestsException {
+
+    if (!properties.isEnabled() || request.getDispatcherType() == DispatcherType.ASYNC) {
+      return true;
+    }
+
+    String client = clientOf(request);
+    long waitNanos = clientRateLimiter.tryAcquire(client);
+    if (waitNanos > 0) {
+      log.info("Rate limit exceeded for client [{}]", client);
+      throw new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS, toRetryAfterSeconds(waitNanos));
+    }
+
+    RequestKind kind = kindOf(request, handler);
+    if (kind == RequestKind.SEARCH && isPoolSaturated()) {
+      log.info("Shedding search [{}], pool wait [{}] pending connections [{}]",
+        request.getRequestURI(), poolPressure.averageWait(), poolPressure.pendingConnections());
+      throw busy();
+    }
+
+    Semaphore permits = switch (kind) {
+      case SEARCH -> searchPermits;
+      case READ -> readPermits;
+      case WRITE -> writePermits;
+    };
+    if (!permits.tryAcquire()) {
+      log.info("Rejecting [{} {}], no {} slot available", request.getMethod(), request.getRequestURI(),
+        kind.name().toLowerCase());
+      throw busy();
+    }
+
+    request.setAttribute(PERMIT_ATTRIBUTE, permits);
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+    if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Semaphore permits) {
+      request.removeAttribute(PERMIT_ATTRIBUTE);
+      permits.release();
+    }
+  }
+
+  private RequestKind kindOf(HttpServletRequest request, Object handler) {
+    if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(SearchEndpoint.class)) {
+      return RequestKind.SEARCH;
+    }
+    boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    return read ? RequestKind.READ : RequestKind.WRITE;
+  }
+
+  private boolean isPoolSaturated() {
+    return poolPressure.averageWait().compareTo(properties.getMaxPoolWait()) > 0
+      || poolPressure.pendingConnections() > properties.getMaxPendingConnections();
+  }
+
+  private ServiceBusyException busy() {
+    return new ServiceBusyException(ErrorCode.SERVICE_BUSY, Math.max(1, properties.getRetryAfter().toSeconds()));
+  }
+
+  private String clientOf(HttpServletRequest request) {
+    Principal principal = request.getUserPrincipal();
+    return principal != null ? "principal:" + principal.getName() : request.getRemoteAddr();
+  }
+
+  private long toRetryAfterSeconds(long waitNanos) {
+    return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+  }
+
+  private enum RequestKind {
+    SEARCH,
+    READ,
+    WRITE
+  }
+}
@@ -0,0 +1,23 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.admission")
+public class AdmissionProperties {
+
+  private boolean enabled = true;
+  private int maxConcurrentSearches = 8;
+  private int maxConcurrentReads = 16;
+  private int maxConcurrentWrites = 4;
+  private Duration maxPoolWait = Duration.ofMillis(250);
+  private int maxPendingConnections = 10;
+  private Duration retryAfter = Duration.ofSeconds(1);
+  private int clientBurst = 50;
+  private int clientRequestsPerSecond = 20;
+  private int maxTrackedClients = 10_000;
+}
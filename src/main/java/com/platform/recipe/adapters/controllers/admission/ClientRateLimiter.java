@@ -0,0 +1,63 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One token bucket per client, kept in access order so the least recently seen client is dropped once the table is
+ * full. A dropped client starts again with a full bucket, which only happens to clients that have been idle while
+ * {@code maxTrackedClients} others were seen.
+ */
+class ClientRateLimiter {
+
+  private final Map<String, TokenBucket> buckets;
+  private final int capacity;
+  private final long nanosPerToken;
+
+  ClientRateLimiter(int capacity, int tokensPerSecond, int maxTrackedClients) {
+    this.capacity = capacity;
+    this.nanosPerToken = TimeUnit.SECONDS.toNanos(1) / tokensPerSecond;
+    this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+        return size() > maxTrackedClients;
+      }
+    };
+  }
+
+  /**
+   * Takes a token for the client and returns 0, or returns how many nanoseconds remain until one is available.
+   */
+  long tryAcquire(String client) {
+    long now = System.nanoTime();
+    synchronized (buckets) {
+      return buckets.computeIfAbsent(client, key -> new TokenBucket(now)).tryAcquire(now);
+    }
+  }
+
+  int trackedClients() {
+    synchronized (buckets) {
+      return buckets.size();
+    }
+  }
+
+  private class TokenBucket {
+
+    private long emptyAt;
+
+    TokenBucket(long now) {
+      this.emptyAt = now - capacity * nanosPerToken;
+    }
+
+    long tryAcquire(long now) {
+      long floor = now - capacity * nanosPerToken;
+      long start = Math.max(emptyAt, floor);
+      if (start + nanosPerToken > now) {
+        return start + nanosPerToken - now;
+      }
+      emptyAt = start + nanosPerToken;
+      return 0;
+    }
+  }
+}
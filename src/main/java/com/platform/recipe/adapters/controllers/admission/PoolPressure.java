@@ -0,0 +1,88 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Follows how long requests wait for a pooled connection and how many threads are queued for one. Installed
+ * on the Hikari pool as its metrics tracker, so every connection checkout is sampled; samples are forwarded
+ * to the delegate tracker, if any, so the pool's regular metrics keep being published.
+ */
+public class PoolPressure implements MetricsTrackerFactory {
+
+  private static final long SAMPLE_TTL_NANOS = Duration.ofSeconds(1).toNanos();
+
+  private final Supplier<MetricsTrackerFactory> delegate;
+  private volatile long averageWaitNanos;
+  private volatile long lastSampleNanos;
+  private volatile PoolStats poolStats;
+
+  public PoolPressure() {
+    this(() -> null);
+  }
+
+  public PoolPressure(Supplier<MetricsTrackerFactory> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public IMetricsTracker create(String poolName, PoolStats poolStats) {
+    this.poolStats = poolStats;
+    MetricsTrackerFactory delegateFactory = delegate.get();
+    IMetricsTracker tracker = delegateFactory == null ? new IMetricsTracker() { } : delegateFactory.create(poolName, poolStats);
+
+    return new IMetricsTracker() {
+      @Override
+      public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        tracker.recordConnectionCreatedMillis(connectionCreatedMillis);
+      }
+
+      @Override
+      public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        record(elapsedAcquiredNanos);
+        tracker.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+      }
+
+      @Override
+      public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        tracker.recordConnectionUsageMillis(elapsedBorrowedMillis);
+      }
+
+      @Override
+      public void recordConnectionTimeout() {
+        tracker.recordConnectionTimeout();
+      }
+
+      @Override
+      public void close() {
+        tracker.close();
+      }
+    };
+  }
+
+  /**
+   * Exponentially weighted average of recent connection waits. Samples older than a second are ignored so the
+   * signal recovers once traffic has been shed and no new checkouts happen.
+   */
+  public Duration averageWait() {
+    if (System.nanoTime() - lastSampleNanos > SAMPLE_TTL_NANOS) {
+      return Duration.ZERO;
+    }
+    return Duration.ofNanos(averageWaitNanos);
+  }
+
+  public int pendingConnections() {
+    PoolStats stats = poolStats;
+    return stats == null ? 0 : stats.getPendingThreads();
+  }
+
+  void record(long waitNanos) {
+    long now = System.nanoTime();
+    long previous = now - lastSampleNanos > SAMPLE_TTL_NANOS ? waitNanos : averageWaitNanos;
+    averageWaitNanos = previous + (waitNanos - previous) / 4;
+    lastSampleNanos = now;
+  }
+}
@@ -0,0 +1,17 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a handler that runs a search, so it is admitted against the search limit and shed while the connection
+ * pool is saturated. Other reads are point lookups with their own limit.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SearchEndpoint {
+}
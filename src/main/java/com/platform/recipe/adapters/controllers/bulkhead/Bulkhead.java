@@ -0,0 +1,129 @@
+package com.platform.recipe.adapters.controllers.bulkhead;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.services.RequestDeadline;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * A bounded executor for one kind of request. Work that does not fit in its threads and queue is rejected
+ * straight away. Work runs under a {@link RequestDeadline} of the bulkhead's timeout; once it passes, the
+ * running statement is cancelled, the worker interrupted and the request answered with a 503.
+ */
+@Slf4j
+public class Bulkhead {
+
+  @FunctionalInterface
+  public interface Task<T> {
+
+    T call() throws Exception;
+  }
+
+  static final String DEADLINE_ATTRIBUTE = Bulkhead.class.getName() + ".deadline";
+
+  private final String name;
+  private final boolean enabled;
+  private final ThreadPoolTaskExecutor executor;
+  private final Duration timeout;
+  private final long retryAfterSeconds;
+  private final Counter rejected;
+  private final Counter timeouts;
+
+  Bulkhead(String name, boolean enabled, BulkheadProperties.Pool pool, Duration retryAfter, MeterRegistry registry) {
+    this.name = name;
+    this.enabled = enabled;
+    this.timeout = pool.getTimeout();
+    this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+    this.rejected = Counter.builder("recipe.bulkhead.rejected").tag("name", name).register(registry);
+    this.timeouts = Counter.builder("recipe.bulkhead.timeouts").tag("name", name).register(registry);
+
+    this.executor = new ThreadPoolTaskExecutor();
+    this.executor.setThreadNamePrefix("recipe-" + name + "-");
+    this.executor.setCorePoolSize(pool.getThreads());
+    this.executor.setMaxPoolSize(pool.getThreads());
+    this.executor.setQueueCapacity(pool.getQueueCapacity());
+    this.executor.setRejectedExecutionHandler((task, threadPool) -> {
+      rejected.increment();
+      new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, threadPool);
+    });
+    this.executor.initialize();
+
+    new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, "recipe.bulkhead", List.of()).bindTo(registry);
+  }
+
+  /**
+   * Starts the deadline of a request handled by this bulkhead and attaches it to the current web request, so
+   * it can be cancelled if the client goes away.
+   */
+  public RequestDeadline newDeadline() {
+    RequestDeadline deadline = RequestDeadline.after(timeout);
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes != null) {
+      attributes.setAttribute(DEADLINE_ATTRIBUTE, deadline, RequestAttributes.SCOPE_REQUEST);
+    }
+    return deadline;
+  }
+
+  public <T> CompletableFuture<T> submit(Task<T> task) {
+    RequestDeadline deadline = newDeadline();
+
+    if (!enabled) {
+      try (RequestDeadline.Scope scope = deadline.enter()) {
+        return CompletableFuture.completedFuture(task.call());
+      } catch (Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    CompletableFuture<T> result = new CompletableFuture<>();
+    Future<?> running = executor.submit(() -> {
+      try (RequestDeadline.Scope scope = deadline.enter()) {
+        result.complete(task.call());
+      } catch (Exception e) {
+        result.completeExceptionally(e);
+      }
+    });
+
+    return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS).handle((value, failure) -> {
+      if (failure == null) {
+        return value;
+      }
+      if (failure instanceof TimeoutException) {
+        timeouts.increment();
+        deadline.cancel();
+        running.cancel(true);
+        log.info("Request on bulkhead [{}] timed out after [{}]", name, timeout);
+        throw new CompletionException(new ServiceBusyException(ErrorCode.REQUEST_TIMEOUT, retryAfterSeconds));
+      }
+      throw failure instanceof CompletionException completionException
+        ? completionException
+        : new CompletionException(failure);
+    });
+  }
+
+  public Duration timeout() {
+    return timeout;
+  }
+
+  ThreadPoolTaskExecutor executor() {
+    return executor;
+  }
+
+  void shutdown() {
+    executor.shutdown();
+  }
+}
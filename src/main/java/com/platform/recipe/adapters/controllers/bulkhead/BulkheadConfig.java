@@ -0,0 +1,38 @@
+package com.platform.recipe.adapters.controllers.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+  private final BulkheadProperties properties;
+  private final ObjectProvider<Bulkheads> bulkheads;
+
+  public BulkheadConfig(BulkheadProperties properties, ObjectProvider<Bulkheads> bulkheads) {
+    this.properties = properties;
+    this.bulkheads = bulkheads;
+  }
+
+  @Bean
+  public Bulkheads bulkheads(ObjectProvider<MeterRegistry> meterRegistry) {
+    return new Bulkheads(properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+
+  @Override
+  public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+    configurer.setTaskExecutor(bulkheads.getObject().getSearch().executor());
+    configurer.setDefaultTimeout(properties.getSearch().getTimeout().toMillis());
+
+    DeadlineCancellingInterceptor deadlineCancellingInterceptor = new DeadlineCancellingInterceptor();
+    configurer.registerCallableInterceptors(deadlineCancellingInterceptor);
+    configurer.registerDeferredResultInterceptors(deadlineCancellingInterceptor);
+  }
+}
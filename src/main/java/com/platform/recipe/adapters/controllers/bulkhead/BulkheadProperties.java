@@ -0,0 +1,32 @@
+package com.platform.recipe.adapters.controllers.bulkhead;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.bulkhead")
+public class BulkheadProperties {
+
+  private boolean enabled = true;
+  private Pool search = new Pool(8, 32, Duration.ofSeconds(10));
+  private Pool read = new Pool(16, 64, Duration.ofSeconds(2));
+  private Pool write = new Pool(4, 16, Duration.ofSeconds(5));
+  private Pool bulk = new Pool(1, 0, Duration.ofMinutes(30));
+  private Duration retryAfter = Duration.ofSeconds(1);
+
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Pool {
+
+    private int threads;
+    private int queueCapacity;
+    private Duration timeout;
+  }
+}
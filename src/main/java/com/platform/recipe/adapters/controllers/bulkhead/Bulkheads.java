@@ -0,0 +1,33 @@
+package com.platform.recipe.adapters.controllers.bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+
+/**
+ * Separate executors for searches, point reads and writes, so a slow search pattern can only exhaust the
+ * search threads and never delays a lookup by id or a write. Bulk changes get their own, by default one at a
+ * time with nothing queued behind it.
+ */
+@Getter
+public class Bulkheads implements AutoCloseable {
+
+  private final Bulkhead search;
+  private final Bulkhead read;
+  private final Bulkhead write;
+  private final Bulkhead bulk;
+
+  public Bulkheads(BulkheadProperties properties, MeterRegistry registry) {
+    this.search = new Bulkhead("search", properties.isEnabled(), properties.getSearch(), properties.getRetryAfter(), registry);
+    this.read = new Bulkhead("read", properties.isEnabled(), properties.getRead(), properties.getRetryAfter(), registry);
+    this.write = new Bulkhead("write", properties.isEnabled(), properties.getWrite(), properties.getRetryAfter(), registry);
+    this.bulk = new Bulkhead("bulk", properties.isEnabled(), properties.getBulk(), properties.getRetryAfter(), registry);
+  }
+
+  @Override
+  public void close() {
+    search.shutdown();
+    read.shutdown();
+    write.shutdown();
+    bulk.shutdown();
+  }
+}
@@ -0,0 +1,49 @@
+package com.platform.recipe.adapters.controllers.bulkhead;
+
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.DeferredResultProcessingInterceptor;
+
+/**
+ * Cancels the deadline of an async request when the container reports an error or a timeout for it, which is
+ * how a client disconnect surfaces, so the query running on its behalf does not keep a connection busy.
+ */
+@Slf4j
+class DeadlineCancellingInterceptor implements DeferredResultProcessingInterceptor, CallableProcessingInterceptor {
+
+  @Override
+  public <T> boolean handleError(NativeWebRequest request, DeferredResult<T> deferredResult, Throwable t) {
+    cancel(request, t);
+    return true;
+  }
+
+  @Override
+  public <T> boolean handleTimeout(NativeWebRequest request, DeferredResult<T> deferredResult) {
+    cancel(request, null);
+    return true;
+  }
+
+  @Override
+  public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+    cancel(request, t);
+    return RESULT_NONE;
+  }
+
+  @Override
+  public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+    cancel(request, null);
+    return RESULT_NONE;
+  }
+
+  private void cancel(NativeWebRequest request, Throwable cause) {
+    if (request.getAttribute(Bulkhead.DEADLINE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof RequestDeadline deadline) {
+      log.info("Cancelling request work, cause: [{}]", cause == null ? "async timeout" : cause.toString());
+      deadline.cancel();
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.platform.recipe.adapters.controllers.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.services.InvalidationBus;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+/**
+ * Fully encoded {@code GET /v1/recipes/{id}} bodies, one per recipe, view and format, optionally pre-gzipped. A
+ * hit is written as is, without touching the service, the mappers or the bulkhead. Entries are dropped through
+ * the invalidation bus, and a load that raced with an invalidation of its recipe is never stored.
+ */
+public class RecipeResponseCache implements InvalidationBus.Listener {
+
+  private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+  private static final List<MediaType> SUPPORTED = List.of(MediaType.APPLICATION_JSON, SMILE, MediaType.APPLICATION_CBOR);
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final ResponseCacheProperties properties;
+  private final Map<MediaType, ObjectMapper> mappers;
+  private final Map<Key, Encoded> entries;
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+  private final AtomicLong clears = new AtomicLong();
+
+  public RecipeResponseCache(
+    ResponseCacheProperties properties,
+    ObjectMapper jsonMapper,
+    ObjectMapper smileMapper,
+    ObjectMapper cborMapper
+  ) {
+    this.properties = properties;
+    this.mappers = Map.of(MediaType.APPLICATION_JSON, jsonMapper, SMILE, smileMapper, MediaType.APPLICATION_CBOR, cborMapper);
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Encoded> eldest) {
+        return size() > properties.getMaxEntries();
+      }
+    };
+  }
+
+  public MediaType negotiate(List<MediaType> accept) throws HttpMediaTypeNotAcceptableException {
+    if (accept.isEmpty()) {
+      return MediaType.APPLICATION_JSON;
+    }
+
+    List<MediaType> requested = new ArrayList<>(accept);
+    requested.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+    for (MediaType mediaType : requested) {
+      if (mediaType.getQualityValue() > 0) {
+        for (MediaType supported : SUPPORTED) {
+          if (mediaType.isCompatibleWith(supported)) {
+            return supported;
+          }
+        }
+      }
+    }
+    throw new HttpMediaTypeNotAcceptableException(SUPPORTED);
+  }
+
+  /**
+   * Mapper for a media type returned by {@link #negotiate}.
+   */
+  public ObjectMapper mapper(MediaType mediaType) {
+    return mappers.get(mediaType);
+  }
+
+  public Encoded get(Key key) {
+    if (!properties.isEnabled()) {
+      return null;
+    }
+    synchronized (entries) {
+      return entries.get(key);
+    }
+  }
+
+  /**
+   * Generation of the recipe to read before loading it and hand back to {@link #put}, which skips storing when
+   * the recipe was invalidated in between. Recipes share a generation only when their ids fall on the same stripe,
+   * so invalidating one recipe rarely holds back loads of the others.
+   */
+  public long generation(Long recipeId) {
+    return clears.get() + generations.get(stripe(recipeId));
+  }
+
+  public Encoded put(Key key, RecipeResponse response, long generationSeen) throws IOException {
+    byte[] body = mappers.get(key.mediaType()).writeValueAsBytes(response);
+    byte[] gzipped = properties.isGzip() && body.length >= properties.getGzipMinBytes() ? gzip(body) : null;
+    long version = response.getUpdatedAt() == null ? 0 : response.getUpdatedAt().getTime();
+    String etag = "\"" + key.id() + "-" + version + "-" + key.view().name().toLowerCase() + "-"
+      + key.mediaType().getSubtype() + "\"";
+    Encoded encoded = new Encoded(key.mediaType(), body, gzipped, etag);
+
+    if (properties.isEnabled() && generation(key.id()) == generationSeen) {
+      synchronized (entries) {
+        entries.put(key, encoded);
+      }
+      if (generation(key.id()) != generationSeen) {
+        remove(key.id());
+      }
+    }
+    return encoded;
+  }
+
+  public ResponseEntity<byte[]> respond(Encoded encoded, HttpHeaders request) {
+    if (request.getIfNoneMatch().contains(encoded.etag())) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(encoded.etag()).build();
+    }
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+      .contentType(encoded.mediaType())
+      .eTag(encoded.etag())
+      .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+    if (encoded.gzipped() != null && acceptsGzip(request)) {
+      return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzipped());
+    }
+    return response.body(encoded.body());
+  }
+
+  @Override
+  public void invalidate(Long recipeId) {
+    generations.incrementAndGet(stripe(recipeId));
+    remove(recipeId);
+  }
+
+  @Override
+  public void invalidateAll() {
+    clears.incrementAndGet();
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private void remove(Long recipeId) {
+    synchronized (entries) {
+      for (RecipeView view : RecipeView.values()) {
+        for (MediaType mediaType : SUPPORTED) {
+          entries.remove(new Key(recipeId, view, mediaType));
+        }
+      }
+    }
+  }
+
+  private static int stripe(Long recipeId) {
+    return Long.hashCode(recipeId) & (GENERATION_STRIPES - 1);
+  }
+
+  private static boolean acceptsGzip(HttpHeaders request) {
+    String acceptEncoding = request.getFirst(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.trim().split(";");
+      if (parts[0].trim().equalsIgnoreCase("gzip")) {
+        return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+      }
+    }
+    return false;
+  }
+
+  private static byte[] gzip(byte[] body) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 2);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+      gzip.write(body);
+    }
+    return buffer.toByteArray();
+  }
+
+  public record Key(Long id, RecipeView view, MediaType mediaType) {
+  }
+
+  public record Encoded(MediaType mediaType, byte[] body, byte[] gzipped, String etag) {
+  }
+}
@@ -0,0 +1,36 @@
+package com.platform.recipe.adapters.controllers.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.platform.recipe.adapters.snapshot.MappedSnapshot;
+import com.platform.recipe.domain.services.InvalidationBus;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+  @Bean
+  public RecipeResponseCache recipeResponseCache(
+    ResponseCacheProperties properties,
+    ObjectMapper objectMapper,
+    Jackson2ObjectMapperBuilder objectMapperBuilder,
+    ObjectProvider<InvalidationBus> invalidationBus,
+    ObjectProvider<MappedSnapshot> mappedSnapshot
+  ) {
+    RecipeResponseCache cache = new RecipeResponseCache(
+      properties,
+      objectMapper,
+      objectMapperBuilder.factory(new SmileFactory()).build(),
+      objectMapperBuilder.factory(new CBORFactory()).build()
+    );
+    invalidationBus.ifAvailable(bus -> bus.subscribe(cache));
+    mappedSnapshot.ifAvailable(snapshot -> snapshot.subscribe(cache));
+    return cache;
+  }
+}
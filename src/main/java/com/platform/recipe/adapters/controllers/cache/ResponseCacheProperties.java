@@ -0,0 +1,16 @@
+package com.platform.recipe.adapters.controllers.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.response-cache")
+public class ResponseCacheProperties {
+
+  private boolean enabled = true;
+  private int maxEntries = 2048;
+  private boolean gzip = true;
+  private int gzipMinBytes = 1024;
+}
@@ -0,0 +1,25 @@
+package com.platform.recipe.adapters.controllers.coalescing;
+
+import com.platform.recipe.domain.services.RecipeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "recipe.coalescing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(CoalescingProperties.class)
+public class CoalescingConfig {
+
+  @Bean(destroyMethod = "close")
+  public CreateCoalescer createCoalescer(
+    CoalescingProperties properties,
+    RecipeService recipeService,
+    ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    return new CreateCoalescer(recipeService, properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+}
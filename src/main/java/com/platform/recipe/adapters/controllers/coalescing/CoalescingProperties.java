@@ -0,0 +1,32 @@
+package com.platform.recipe.adapters.controllers.coalescing;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.coalescing")
+public class CoalescingProperties {
+
+  /**
+   * Gather concurrent creates into shared transactions instead of running each on the write bulkhead.
+   */
+  private boolean enabled = false;
+  /**
+   * At most this many creates per transaction; matches the JDBC batch size.
+   */
+  private int maxBatch = 50;
+  /**
+   * How long the first create of a batch waits for others to join it.
+   */
+  private Duration maxDelay = Duration.ofMillis(5);
+  /**
+   * Threads writing batches at the same time, each holding one connection while its transaction runs.
+   */
+  private int writers = 1;
+  private int queueCapacity = 1000;
+  private Duration timeout = Duration.ofSeconds(5);
+  private Duration retryAfter = Duration.ofSeconds(1);
+}
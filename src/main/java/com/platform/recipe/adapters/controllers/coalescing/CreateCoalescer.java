@@ -0,0 +1,152 @@
+package com.platform.recipe.adapters.controllers.coalescing;
+
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.services.RecipeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Group commit for creates. Callers queue their recipe and get a future back without holding a thread; a
+ * writer takes the first waiting create, lets others join it for up to {@code maxDelay} or until the batch is
+ * full, and saves them with {@link RecipeService#createAll(List)} in one transaction. Writers share the queue
+ * and commit independently: one writer makes the largest batches and the fewest commits, more writers keep
+ * several batches in flight at the cost of one connection each and smaller batches. When a batch fails, each
+ * of its creates is retried on its own, so only the ones that fail by themselves report an error.
+ */
+@Slf4j
+public class CreateCoalescer implements AutoCloseable {
+
+  private final RecipeService recipeService;
+  private final BlockingQueue<PendingCreate> queue;
+  private final int maxBatch;
+  private final long maxDelayNanos;
+  private final long timeoutMillis;
+  private final long retryAfterSeconds;
+  private final List<Thread> writers = new ArrayList<>();
+  private final DistributionSummary batchSizes;
+  private final Counter rejected;
+  private final Counter timeouts;
+  private final Counter retriedAlone;
+
+  public CreateCoalescer(RecipeService recipeService, CoalescingProperties properties, MeterRegistry registry) {
+    this.recipeService = recipeService;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    this.maxBatch = properties.getMaxBatch();
+    this.maxDelayNanos = properties.getMaxDelay().toNanos();
+    this.timeoutMillis = properties.getTimeout().toMillis();
+    this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+    this.batchSizes = DistributionSummary.builder("recipe.coalescing.batch.size").register(registry);
+    this.rejected = Counter.builder("recipe.coalescing.rejected").register(registry);
+    this.timeouts = Counter.builder("recipe.coalescing.timeouts").register(registry);
+    this.retriedAlone = Counter.builder("recipe.coalescing.retried").register(registry);
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("recipe-coalescer-");
+    threadFactory.setDaemon(true);
+    for (int i = 0; i < properties.getWriters(); i++) {
+      Thread writer = threadFactory.newThread(this::writeBatches);
+      writers.add(writer);
+      writer.start();
+    }
+  }
+
+  public CompletableFuture<Long> submit(RecipeDto recipe) {
+    PendingCreate create = new PendingCreate(recipe, new CompletableFuture<>());
+    if (!queue.offer(create)) {
+      rejected.increment();
+      return CompletableFuture.failedFuture(new ServiceBusyException(ErrorCode.SERVICE_BUSY, retryAfterSeconds));
+    }
+
+    // A create still queued when it times out is skipped; one already being written may still be saved.
+    return create.result().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS).handle((id, failure) -> {
+      if (failure == null) {
+        return id;
+      }
+      if (failure instanceof TimeoutException) {
+        timeouts.increment();
+        throw new CompletionException(new ServiceBusyException(ErrorCode.REQUEST_TIMEOUT, retryAfterSeconds));
+      }
+      throw failure instanceof CompletionException completionException
+        ? completionException
+        : new CompletionException(failure);
+    });
+  }
+
+  @Override
+  public void close() {
+    writers.forEach(Thread::interrupt);
+  }
+
+  private void writeBatches() {
+    List<PendingCreate> batch = new ArrayList<>(maxBatch);
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        batch.add(queue.take());
+        long joinUntil = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatch) {
+          long remaining = joinUntil - System.nanoTime();
+          PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+
+        write(batch);
+        batch.clear();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      List<PendingCreate> abandoned = new ArrayList<>(batch);
+      queue.drainTo(abandoned);
+      abandoned.forEach(create -> create.result().completeExceptionally(
+        new ServiceBusyException(ErrorCode.SERVICE_BUSY, retryAfterSeconds)));
+    }
+  }
+
+  void write(List<PendingCreate> batch) {
+    List<PendingCreate> waiting = batch.stream().filter(create -> !create.result().isDone()).toList();
+    if (waiting.isEmpty()) {
+      return;
+    }
+
+    batchSizes.record(waiting.size());
+    try {
+      List<Long> ids = recipeService.createAll(waiting.stream().map(PendingCreate::recipe).toList());
+      for (int i = 0; i < waiting.size(); i++) {
+        waiting.get(i).result().complete(ids.get(i));
+      }
+    } catch (Exception batchFailure) {
+      if (waiting.size() == 1) {
+        waiting.get(0).result().completeExceptionally(batchFailure);
+        return;
+      }
+
+      log.info("Batch of [{}] creates failed with [{}], saving each on its own", waiting.size(), batchFailure.getMessage());
+      retriedAlone.increment(waiting.size());
+      waiting.forEach(create -> {
+        try {
+          create.result().complete(recipeService.create(create.recipe()));
+        } catch (Exception e) {
+          create.result().completeExceptionally(e);
+        }
+      });
+    }
+  }
+
+  record PendingCreate(RecipeDto recipe, CompletableFuture<Long> result) {
+  }
+}
@@ -0,0 +1,37 @@
+package com.platform.recipe.adapters.controllers.config;
+
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalConverter;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+
+/**
+ * Parses the given request enums case-insensitively. Any other enum keeps Spring's exact-name conversion.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class CaseInsensitiveEnumConverterFactory implements ConverterFactory<String, Enum>, ConditionalConverter {
+
+  private final Set<Class<? extends Enum>> types;
+
+  @SafeVarargs
+  public CaseInsensitiveEnumConverterFactory(Class<? extends Enum>... types) {
+    this.types = Set.of(types);
+  }
+
+  @Override
+  public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+    return types.contains(targetType.getType());
+  }
+
+  @Override
+  public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
+    return source -> {
+      if (source.isBlank()) {
+        return null;
+      }
+      return (T) Enum.valueOf(targetType, source.trim().toUpperCase(Locale.ROOT));
+    };
+  }
+}
@@ -2,18 +2,24 @@ package com.platform.recipe.adapters.controllers.config;
 
 import com.platform.recipe.domain.exceptions.DataNotFoundException;
 import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
 import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.exceptions.TooManyRequestsException;
 import com.platform.recipe.domain.exceptions.UnexpectedErrorException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -90,4 +96,40 @@ public class CustomResponseExceptionHandler extends ResponseEntityExceptionHandl
     log.info(ex.getMessage(), ex);
     return new ResponseEntity<>(ResponseError.build(ex.getErrorCode()), HttpStatus.NOT_FOUND);
   }
+
+  @ExceptionHandler(ForbiddenException.class)
+  public ResponseEntity<ResponseError.ResponseErrorMessage> forbiddenException(ForbiddenException ex) {
+    log.info(ex.getMessage());
+    return new ResponseEntity<>(ResponseError.build(ex.getErrorCode()), HttpStatus.FORBIDDEN);
+  }
+
+  @ExceptionHandler(ServiceBusyException.class)
+  public ResponseEntity<ResponseError.ResponseErrorMessage> serviceBusyException(ServiceBusyException ex) {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+      .body(ResponseError.build(ex.getErrorCode()));
+  }
+
+  @ExceptionHandler(TaskRejectedException.class)
+  public ResponseEntity<ResponseError.ResponseErrorMessage> taskRejectedException(TaskRejectedException ex) {
+    log.info("Rejecting request, executor is full: [{}]", ex.getMessage());
+    return serviceBusyException(new ServiceBusyException(ErrorCode.SERVICE_BUSY, 1));
+  }
+
+  @ExceptionHandler({
+    QueryTimeoutException.class,
+    jakarta.persistence.QueryTimeoutException.class,
+    TransactionTimedOutException.class
+  })
+  public ResponseEntity<ResponseError.ResponseErrorMessage> queryTimeoutException(Exception ex) {
+    log.info("Query cancelled before completing: [{}]", ex.getMessage());
+    return serviceBusyException(new ServiceBusyException(ErrorCode.REQUEST_TIMEOUT, 1));
+  }
+
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<ResponseError.ResponseErrorMessage> tooManyRequestsException(TooManyRequestsException ex) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+      .body(ResponseError.build(ex.getErrorCode()));
+  }
 }
@@ -0,0 +1,57 @@
+package com.platform.recipe.adapters.controllers.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.platform.recipe.adapters.controllers.admission.AdmissionInterceptor;
+import com.platform.recipe.adapters.controllers.admission.AdmissionProperties;
+import com.platform.recipe.adapters.controllers.admission.PoolPressure;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class WebConfig implements WebMvcConfigurer {
+
+  private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+  private final AdmissionProperties admissionProperties;
+  private final ObjectProvider<PoolPressure> poolPressure;
+
+  public WebConfig(
+    Jackson2ObjectMapperBuilder objectMapperBuilder,
+    AdmissionProperties admissionProperties,
+    ObjectProvider<PoolPressure> poolPressure
+  ) {
+    this.objectMapperBuilder = objectMapperBuilder;
+    this.admissionProperties = admissionProperties;
+    this.poolPressure = poolPressure;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new AdmissionInterceptor(admissionProperties, poolPressure.getIfAvailable(PoolPressure::new)))
+      .addPathPatterns("/v1/recipes", "/v1/recipes/**");
+  }
+
+  @Override
+  public void addFormatters(FormatterRegistry registry) {
+    registry.addConverterFactory(new CaseInsensitiveEnumConverterFactory(IngredientMatch.class, TitleMatch.class, RecipeView.class));
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.factory(new SmileFactory()).build()));
+    converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.factory(new CBORFactory()).build()));
+  }
+}
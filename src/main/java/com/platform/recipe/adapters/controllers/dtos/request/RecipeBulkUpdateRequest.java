@@ -0,0 +1,17 @@
+package com.platform.recipe.adapters.controllers.dtos.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RecipeBulkUpdateRequest {
+
+  @NotNull(message = "Vegetarian is required.")
+  private Boolean vegetarian;
+}
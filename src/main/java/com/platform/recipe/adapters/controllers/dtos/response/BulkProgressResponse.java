@@ -0,0 +1,14 @@
+package com.platform.recipe.adapters.controllers.dtos.response;
+
+import lombok.Value;
+
+@Value
+public class BulkProgressResponse {
+
+  int chunk;
+  long afterId;
+  long lastId;
+  int affected;
+  long totalAffected;
+  boolean done;
+}
@@ -0,0 +1,17 @@
+package com.platform.recipe.adapters.controllers.dtos.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import java.sql.Timestamp;
+import lombok.Value;
+
+@Value
+public class RecipeChangeResponse {
+
+  Long seq;
+  Long recipeId;
+  RecipeChangeType type;
+  Timestamp changedAt;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  RecipeResponse recipe;
+}
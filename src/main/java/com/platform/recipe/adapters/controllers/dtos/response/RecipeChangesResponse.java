@@ -0,0 +1,12 @@
+package com.platform.recipe.adapters.controllers.dtos.response;
+
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class RecipeChangesResponse {
+
+  List<RecipeChangeResponse> changes;
+  long nextCursor;
+  boolean hasMore;
+}
@@ -0,0 +1,11 @@
+package com.platform.recipe.adapters.controllers.dtos.response;
+
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class RecipeLookupResponse {
+
+  List<RecipeResponse> recipes;
+  List<Long> missingIds;
+}
@@ -0,0 +1,14 @@
+package com.platform.recipe.adapters.controllers.dtos.response;
+
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class RecipePageResponse {
+
+  List<RecipeResponse> content;
+  int page;
+  int pageSize;
+  long totalElements;
+  int totalPages;
+}
@@ -1,5 +1,6 @@
 package com.platform.recipe.adapters.controllers.dtos.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.sql.Timestamp;
 import java.util.List;
 import lombok.Value;
@@ -11,7 +12,9 @@ public class RecipeResponse {
   String title;
   String description;
   boolean vegetarian;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   String instructions;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   List<IngredientResponse> ingredients;
   Timestamp createdAt;
   Timestamp updatedAt;
@@ -0,0 +1,24 @@
+package com.platform.recipe.adapters.controllers.dtos.response;
+
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+
+@Value
+public class SearchExplainResponse {
+
+  List<RecipeResponse> content;
+  long totalElements;
+  double totalMillis;
+  Map<String, Double> stageMillis;
+  List<StatementExplain> statements;
+
+  @Value
+  public static class StatementExplain {
+
+    String sql;
+    List<Object> parameters;
+    double millis;
+    String plan;
+  }
+}
@@ -0,0 +1,37 @@
+package com.platform.recipe.adapters.controllers.explain;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ExplainProperties.class)
+public class ExplainConfig {
+
+  @Bean
+  public static BeanPostProcessor tracingDataSourceInstaller() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+          return new TracingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  public SearchDiagnostics searchDiagnostics(
+    ExplainProperties properties,
+    ObjectProvider<DataSource> dataSource,
+    ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    return new SearchDiagnostics(properties, dataSource.getIfAvailable(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+}
@@ -0,0 +1,17 @@
+package com.platform.recipe.adapters.controllers.explain;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.explain")
+public class ExplainProperties {
+
+  private Duration slowSearchThreshold = Duration.ofMillis(500);
+  private boolean slowSearchAnalyze = false;
+  private Duration planTimeout = Duration.ofSeconds(5);
+  private int slowSearchQueueCapacity = 16;
+}
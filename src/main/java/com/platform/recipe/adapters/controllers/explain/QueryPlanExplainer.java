@@ -0,0 +1,61 @@
+package com.platform.recipe.adapters.controllers.explain;
+
+import com.platform.recipe.domain.services.QueryTrace;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.StringJoiner;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs {@code EXPLAIN} for a traced statement with the parameters it was executed with. PostgreSQL gets
+ * {@code EXPLAIN (ANALYZE, BUFFERS)}; other databases fall back to the closest form they understand.
+ */
+@Slf4j
+class QueryPlanExplainer {
+
+  private final DataSource dataSource;
+  private final Duration timeout;
+
+  QueryPlanExplainer(DataSource dataSource, Duration timeout) {
+    this.dataSource = dataSource;
+    this.timeout = timeout;
+  }
+
+  String explain(QueryTrace.Statement statement, boolean analyze) {
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setReadOnly(true);
+      String prefix = prefix(connection.getMetaData().getDatabaseProductName(), analyze);
+
+      try (PreparedStatement explain = connection.prepareStatement(prefix + statement.sql())) {
+        explain.setQueryTimeout((int) Math.max(1, timeout.toSeconds()));
+        List<Object> parameters = statement.parameters();
+        for (int index = 0; index < parameters.size(); index++) {
+          explain.setObject(index + 1, parameters.get(index));
+        }
+
+        StringJoiner plan = new StringJoiner("\n");
+        try (ResultSet rows = explain.executeQuery()) {
+          while (rows.next()) {
+            plan.add(rows.getString(1));
+          }
+        }
+        return plan.toString();
+      }
+    } catch (SQLException ex) {
+      log.info("Could not explain statement [{}]: [{}]", statement.sql(), ex.getMessage());
+      return "Plan unavailable: " + ex.getMessage();
+    }
+  }
+
+  private static String prefix(String product, boolean analyze) {
+    if (!analyze) {
+      return "EXPLAIN ";
+    }
+    return "PostgreSQL".equals(product) ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ANALYZE ";
+  }
+}
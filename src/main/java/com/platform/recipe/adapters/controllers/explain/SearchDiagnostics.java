@@ -0,0 +1,102 @@
+package com.platform.recipe.adapters.controllers.explain;
+
+import com.platform.recipe.adapters.controllers.dtos.response.RecipePageResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.SearchExplainResponse;
+import com.platform.recipe.domain.services.QueryTrace;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Turns search traces into data: the admin-only explain response, and a slow-search log that captures the plan
+ * of the slowest statement in the background once a search crosses the threshold.
+ */
+@Slf4j
+public class SearchDiagnostics implements AutoCloseable {
+
+  private static final double NANOS_PER_MILLI = 1_000_000d;
+
+  private final ExplainProperties properties;
+  private final QueryPlanExplainer explainer;
+  private final ThreadPoolExecutor slowSearchExecutor;
+  private final Counter slowSearches;
+
+  public SearchDiagnostics(ExplainProperties properties, DataSource dataSource, MeterRegistry registry) {
+    this.properties = properties;
+    this.explainer = dataSource == null ? null : new QueryPlanExplainer(dataSource, properties.getPlanTimeout());
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("slow-search-");
+    threadFactory.setDaemon(true);
+    this.slowSearchExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(properties.getSlowSearchQueueCapacity()), threadFactory,
+      new ThreadPoolExecutor.DiscardPolicy());
+    this.slowSearches = Counter.builder("recipe.search.slow")
+      .description("Searches slower than the slow search threshold")
+      .register(registry);
+  }
+
+  public SearchExplainResponse explain(QueryTrace trace, RecipePageResponse page) {
+    List<SearchExplainResponse.StatementExplain> statements = trace.statements().stream()
+      .map(statement -> new SearchExplainResponse.StatementExplain(
+        statement.sql(),
+        statement.parameters(),
+        millis(statement.nanos()),
+        explainer == null ? null : explainer.explain(statement, true)
+      ))
+      .toList();
+
+    return new SearchExplainResponse(
+      page.getContent(),
+      page.getTotalElements(),
+      millis(trace.elapsedNanos()),
+      stageMillis(trace),
+      statements
+    );
+  }
+
+  public void observe(QueryTrace trace) {
+    long threshold = properties.getSlowSearchThreshold().toNanos();
+    if (threshold <= 0 || trace.elapsedNanos() < threshold) {
+      return;
+    }
+
+    slowSearches.increment();
+    trace.statements().stream()
+      .max(Comparator.comparingLong(QueryTrace.Statement::nanos))
+      .ifPresentOrElse(
+        slowest -> slowSearchExecutor.execute(() -> logSlowSearch(trace, slowest)),
+        () -> log.warn("Slow search took [{}] ms without running a statement, stages [{}]",
+          millis(trace.elapsedNanos()), stageMillis(trace))
+      );
+  }
+
+  @Override
+  public void close() {
+    slowSearchExecutor.shutdownNow();
+  }
+
+  private void logSlowSearch(QueryTrace trace, QueryTrace.Statement slowest) {
+    String plan = explainer == null ? null : explainer.explain(slowest, properties.isSlowSearchAnalyze());
+    log.warn("Slow search took [{}] ms, stages [{}], slowest statement took [{}] ms: [{}] with parameters [{}]\n{}",
+      millis(trace.elapsedNanos()), stageMillis(trace), millis(slowest.nanos()), slowest.sql(), slowest.parameters(), plan);
+  }
+
+  private static Map<String, Double> stageMillis(QueryTrace trace) {
+    Map<String, Double> stages = new LinkedHashMap<>();
+    trace.stages().forEach((stage, nanos) -> stages.put(stage, millis(nanos)));
+    return stages;
+  }
+
+  private static double millis(long nanos) {
+    return nanos / NANOS_PER_MILLI;
+  }
+}
@@ -0,0 +1,102 @@
+package com.platform.recipe.adapters.controllers.explain;
+
+import com.platform.recipe.domain.services.QueryTrace;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Hands out connections that record prepared statements, their bind parameters and execution time into the
+ * {@link QueryTrace} of the calling thread. Connections taken outside a trace are returned untouched.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+  public TracingDataSource(DataSource targetDataSource) {
+    super(targetDataSource);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return trace(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return trace(super.getConnection(username, password));
+  }
+
+  private Connection trace(Connection connection) {
+    QueryTrace trace = QueryTrace.current();
+    if (trace == null) {
+      return connection;
+    }
+    return proxy(Connection.class, (proxy, method, args) -> {
+      Object result = invoke(connection, method, args);
+      if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+        return proxy(PreparedStatement.class, new StatementRecorder(trace, statement, (String) args[0]));
+      }
+      return result;
+    });
+  }
+
+  private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+    return type.cast(Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler));
+  }
+
+  private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException ex) {
+      throw ex.getTargetException();
+    }
+  }
+
+  private static final class StatementRecorder implements InvocationHandler {
+
+    private final QueryTrace trace;
+    private final PreparedStatement statement;
+    private final String sql;
+    private final TreeMap<Integer, Object> parameters = new TreeMap<>();
+
+    private StatementRecorder(QueryTrace trace, PreparedStatement statement, String sql) {
+      this.trace = trace;
+      this.statement = statement;
+      this.sql = sql;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+        parameters.put(index, name.equals("setNull") ? null : args[1]);
+      } else if (name.equals("clearParameters")) {
+        parameters.clear();
+      } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+        long started = System.nanoTime();
+        try {
+          return TracingDataSource.invoke(statement, method, args);
+        } finally {
+          trace.record(sql, bindings(), System.nanoTime() - started);
+        }
+      }
+      return TracingDataSource.invoke(statement, method, args);
+    }
+
+    private List<Object> bindings() {
+      int size = parameters.isEmpty() ? 0 : parameters.lastKey();
+      List<Object> bindings = new ArrayList<>(Arrays.asList(new Object[size]));
+      parameters.forEach((index, value) -> bindings.set(index - 1, value));
+      return bindings;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package com.platform.recipe.adapters.invalidation;
+
+import com.platform.recipe.domain.services.InvalidationBus;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Delivers every invalidation to the local listeners once the publishing transaction commits, in their
+ * {@link org.springframework.core.Ordered} order, and leaves reaching the other nodes to {@link #broadcast(Collection)}.
+ */
+@Slf4j
+public abstract class AbstractInvalidationBus implements InvalidationBus, AutoCloseable {
+
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(Long recipeId) {
+    publish(List.of(recipeId));
+  }
+
+  @Override
+  public void publish(Collection<Long> recipeIds) {
+    if (recipeIds.isEmpty()) {
+      return;
+    }
+    List<Long> published = List.copyOf(recipeIds);
+    broadcast(published);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          published.forEach(AbstractInvalidationBus.this::deliver);
+        }
+      });
+    } else {
+      published.forEach(this::deliver);
+    }
+  }
+
+  @Override
+  public void subscribe(Listener listener) {
+    listeners.add(listener);
+    AnnotationAwareOrderComparator.sort(listeners);
+  }
+
+  @Override
+  public void close() {
+  }
+
+  /**
+   * Sends the invalidation to the other nodes; runs inside the publishing transaction when there is one.
+   */
+  protected abstract void broadcast(Collection<Long> recipeIds);
+
+  protected void deliver(Long recipeId) {
+    notifyListeners(listener -> listener.invalidate(recipeId));
+  }
+
+  protected void deliverAll() {
+    notifyListeners(Listener::invalidateAll);
+  }
+
+  private void notifyListeners(Consumer<Listener> notification) {
+    listeners.forEach(listener -> {
+      try {
+        notification.accept(listener);
+      } catch (RuntimeException ex) {
+        log.warn("Invalidation listener [{}] failed", listener, ex);
+      }
+    });
+  }
+}
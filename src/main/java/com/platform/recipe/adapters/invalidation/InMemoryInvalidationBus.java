@@ -0,0 +1,13 @@
+package com.platform.recipe.adapters.invalidation;
+
+import java.util.Collection;
+
+/**
+ * Single process bus: only the listeners of this instance are told. Meant for tests and single node setups.
+ */
+public class InMemoryInvalidationBus extends AbstractInvalidationBus {
+
+  @Override
+  protected void broadcast(Collection<Long> recipeIds) {
+  }
+}
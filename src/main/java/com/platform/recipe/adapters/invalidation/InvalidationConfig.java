@@ -0,0 +1,42 @@
+package com.platform.recipe.adapters.invalidation;
+
+import java.sql.DriverManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@ConditionalOnProperty(prefix = "recipe.snapshot", name = "serve", havingValue = "false", matchIfMissing = true)
+@EnableConfigurationProperties(InvalidationProperties.class)
+public class InvalidationConfig {
+
+  @Bean(destroyMethod = "close")
+  public AbstractInvalidationBus invalidationBus(
+    InvalidationProperties properties,
+    DataSourceProperties dataSourceProperties,
+    JdbcTemplate jdbcTemplate
+  ) {
+    String url = dataSourceProperties.determineUrl();
+    InvalidationProperties.Mode mode = properties.getMode();
+    if (mode == InvalidationProperties.Mode.AUTO) {
+      mode = url != null && url.startsWith("jdbc:postgresql:")
+        ? InvalidationProperties.Mode.POSTGRES
+        : InvalidationProperties.Mode.POLLING;
+    }
+
+    return switch (mode) {
+      case POSTGRES -> new PostgresInvalidationBus(
+        jdbcTemplate,
+        () -> DriverManager.getConnection(url, dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+        properties.getChannel(),
+        properties.getListenTimeout(),
+        properties.getReconnectDelay()
+      );
+      case POLLING -> new PollingInvalidationBus(jdbcTemplate, properties.getPollInterval());
+      default -> new InMemoryInvalidationBus();
+    };
+  }
+}
@@ -0,0 +1,29 @@
+package com.platform.recipe.adapters.invalidation;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.invalidation")
+public class InvalidationProperties {
+
+  /**
+   * AUTO uses LISTEN/NOTIFY on PostgreSQL and polls the change feed on any other database.
+   */
+  private Mode mode = Mode.AUTO;
+  private String channel = "recipe_invalidation";
+  private Duration listenTimeout = Duration.ofMillis(500);
+  private Duration reconnectDelay = Duration.ofSeconds(5);
+  private Duration pollInterval = Duration.ofSeconds(1);
+
+  public enum Mode {
+
+    AUTO,
+    POSTGRES,
+    POLLING,
+    MEMORY
+  }
+}
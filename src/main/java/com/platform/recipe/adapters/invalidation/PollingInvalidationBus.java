@@ -0,0 +1,84 @@
+package com.platform.recipe.adapters.invalidation;
+
+import com.platform.recipe.domain.services.ChangeFeedWatermark;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Fallback for databases without notifications: every write already appends to {@code recipe_change}, so the
+ * bus only has to poll that table past the last position it has seen, up to the {@link ChangeFeedWatermark}.
+ */
+@Slf4j
+public class PollingInvalidationBus extends AbstractInvalidationBus {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ScheduledExecutorService poller;
+  private Long lastSeq;
+
+  public PollingInvalidationBus(JdbcTemplate jdbcTemplate, Duration pollInterval) {
+    this.jdbcTemplate = jdbcTemplate;
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("invalidation-poller-");
+    threadFactory.setDaemon(true);
+    this.poller = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    this.poller.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  protected void broadcast(Collection<Long> recipeIds) {
+  }
+
+  @Override
+  public void close() {
+    poller.shutdownNow();
+  }
+
+  synchronized void poll() {
+    try {
+      if (lastSeq == null) {
+        // Anything newer than the settled changes may still be joined by lower positions; delivering twice is harmless.
+        lastSeq = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM recipe_change WHERE changed_at <= ?",
+          Long.class, Timestamp.from(ChangeFeedWatermark.settledBefore(Instant.now())));
+        return;
+      }
+
+      List<RecipeChange> changes;
+      int admitted;
+      do {
+        changes = jdbcTemplate.query(
+          "SELECT seq, recipe_id, changed_at FROM recipe_change WHERE seq > ? ORDER BY seq FETCH FIRST " + BATCH_SIZE
+            + " ROWS ONLY",
+          (rows, rowNum) -> new RecipeChange(rows.getLong("seq"), rows.getLong("recipe_id"), rows.getTimestamp("changed_at")),
+          lastSeq
+        );
+        ChangeFeedWatermark watermark = new ChangeFeedWatermark(lastSeq, Instant.now());
+        admitted = 0;
+        for (RecipeChange change : changes) {
+          if (!watermark.admit(change.seq(), change.changedAt())) {
+            break;
+          }
+          deliver(change.recipeId());
+          admitted++;
+        }
+        lastSeq = watermark.last();
+      } while (admitted == BATCH_SIZE);
+    } catch (DataAccessException ex) {
+      log.warn("Could not poll recipe changes after [{}]", lastSeq, ex);
+    }
+  }
+
+  private record RecipeChange(long seq, long recipeId, Timestamp changedAt) {
+  }
+}
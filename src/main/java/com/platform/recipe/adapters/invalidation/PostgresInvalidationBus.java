@@ -0,0 +1,140 @@
+package com.platform.recipe.adapters.invalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Broadcasts with {@code pg_notify} inside the write transaction, so PostgreSQL only delivers the notification
+ * if the write commits, and listens on a dedicated connection outside the pool. After losing that connection
+ * every listener is told to drop everything, since notifications sent meanwhile are gone. Ids published together
+ * share a notification as a comma separated list, split only to stay under the payload limit.
+ */
+@Slf4j
+public class PostgresInvalidationBus extends AbstractInvalidationBus {
+
+  private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]*");
+  // PostgreSQL rejects payloads of 8000 bytes or more.
+  private static final int MAX_PAYLOAD_LENGTH = 7900;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ConnectionFactory connectionFactory;
+  private final String channel;
+  private final Duration listenTimeout;
+  private final Duration reconnectDelay;
+  private final Thread listener;
+  private volatile boolean running = true;
+
+  public PostgresInvalidationBus(
+    JdbcTemplate jdbcTemplate,
+    ConnectionFactory connectionFactory,
+    String channel,
+    Duration listenTimeout,
+    Duration reconnectDelay
+  ) {
+    if (!CHANNEL.matcher(channel).matches()) {
+      throw new IllegalArgumentException("Invalid notification channel [" + channel + "]");
+    }
+
+    this.jdbcTemplate = jdbcTemplate;
+    this.connectionFactory = connectionFactory;
+    this.channel = channel;
+    this.listenTimeout = listenTimeout;
+    this.reconnectDelay = reconnectDelay;
+    this.listener = new Thread(this::listen, "invalidation-listener");
+    this.listener.setDaemon(true);
+    this.listener.start();
+  }
+
+  @Override
+  protected void broadcast(Collection<Long> recipeIds) {
+    StringBuilder payload = new StringBuilder();
+    for (Long recipeId : recipeIds) {
+      String id = String.valueOf(recipeId);
+      if (!payload.isEmpty() && payload.length() + 1 + id.length() > MAX_PAYLOAD_LENGTH) {
+        notify(payload.toString());
+        payload.setLength(0);
+      }
+      if (!payload.isEmpty()) {
+        payload.append(',');
+      }
+      payload.append(id);
+    }
+    notify(payload.toString());
+  }
+
+  private void notify(String payload) {
+    jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+  }
+
+  @Override
+  public void close() {
+    running = false;
+    listener.interrupt();
+  }
+
+  private void listen() {
+    boolean reconnecting = false;
+    while (running) {
+      try (Connection connection = connectionFactory.connect()) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        if (reconnecting) {
+          log.info("Listening to [{}] again, dropping every cached recipe", channel);
+          deliverAll();
+        }
+        reconnecting = false;
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications((int) listenTimeout.toMillis());
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              deliver(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException ex) {
+        if (!running) {
+          return;
+        }
+        log.warn("Lost the [{}] listener connection, reconnecting in [{}]", channel, reconnectDelay, ex);
+        reconnecting = true;
+        sleep();
+      }
+    }
+  }
+
+  private void deliver(String parameter) {
+    for (String recipeId : parameter.split(",")) {
+      try {
+        deliver(Long.valueOf(recipeId));
+      } catch (NumberFormatException ex) {
+        log.warn("Ignoring invalidation with payload [{}]", recipeId);
+      }
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(reconnectDelay.toMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  @FunctionalInterface
+  public interface ConnectionFactory {
+
+    Connection connect() throws SQLException;
+  }
+}
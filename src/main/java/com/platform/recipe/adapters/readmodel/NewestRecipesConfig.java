@@ -0,0 +1,33 @@
+package com.platform.recipe.adapters.readmodel;
+
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.implementations.NewestRecipesService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * The read model already answers these listings from memory, so the newest recipes are only kept without it.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "recipe.newest", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(NewestRecipesProperties.class)
+public class NewestRecipesConfig {
+
+  @Bean
+  @Primary
+  @ConditionalOnProperty(prefix = "recipe.read-model", name = "enabled", havingValue = "false", matchIfMissing = true)
+  public NewestRecipesService newestRecipesService(
+    NewestRecipesProperties properties,
+    @Qualifier("recipeServiceImpl") RecipeService recipeService,
+    InvalidationBus invalidationBus
+  ) {
+    NewestRecipesService newestRecipes = new NewestRecipesService(recipeService, properties.getCapacity());
+    invalidationBus.subscribe(newestRecipes);
+    return newestRecipes;
+  }
+}
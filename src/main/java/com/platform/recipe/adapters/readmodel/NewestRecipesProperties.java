@@ -0,0 +1,20 @@
+package com.platform.recipe.adapters.readmodel;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.newest")
+public class NewestRecipesProperties {
+
+  /**
+   * Serve the first pages of the unfiltered, newest first listing from memory.
+   */
+  private boolean enabled = false;
+  /**
+   * Recipes kept per listing: all recipes, vegetarian ones and the others.
+   */
+  private int capacity = 100;
+}
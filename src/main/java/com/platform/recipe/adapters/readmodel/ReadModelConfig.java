@@ -0,0 +1,30 @@
+package com.platform.recipe.adapters.readmodel;
+
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.implementations.ReadModelRecipeService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(prefix = "recipe.read-model", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadModelProperties.class)
+public class ReadModelConfig {
+
+  @Bean(destroyMethod = "close")
+  @Primary
+  public ReadModelRecipeService readModelRecipeService(
+    ReadModelProperties properties,
+    @Qualifier("recipeServiceImpl") RecipeService recipeService,
+    InvalidationBus invalidationBus
+  ) {
+    ReadModelRecipeService readModel = new ReadModelRecipeService(recipeService, properties.getParallelism());
+    invalidationBus.subscribe(readModel);
+    readModel.loadInBackground();
+    return readModel;
+  }
+}
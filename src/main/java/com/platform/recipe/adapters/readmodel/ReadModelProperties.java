@@ -0,0 +1,20 @@
+package com.platform.recipe.adapters.readmodel;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.read-model")
+public class ReadModelProperties {
+
+  /**
+   * Answer searches from an in-memory columnar copy of the catalog instead of the database.
+   */
+  private boolean enabled = false;
+  /**
+   * Threads of the fork-join pool the search filters are evaluated on.
+   */
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+}
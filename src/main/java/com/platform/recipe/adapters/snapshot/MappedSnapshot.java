@@ -0,0 +1,85 @@
+package com.platform.recipe.adapters.snapshot;
+
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.snapshot.RecipeSnapshot;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Keeps the latest snapshot mapped on a serving node. Startup only maps the file, and a background check maps the
+ * replacement whenever the builder moves a new file into place; reads already running keep the mapping they
+ * started with. A serving node has no invalidation bus, so listeners subscribed here are told to drop everything
+ * each time a replacement is mapped.
+ */
+@Slf4j
+public class MappedSnapshot implements AutoCloseable {
+
+  private final Path path;
+  private final ScheduledExecutorService reloader;
+  private final List<InvalidationBus.Listener> listeners = new CopyOnWriteArrayList<>();
+  private volatile RecipeSnapshot current;
+  private FileTime loadedModified;
+
+  public MappedSnapshot(Path path, Duration reloadInterval) throws IOException {
+    this.path = path;
+    if (!reload()) {
+      throw new IOException("No recipe snapshot to serve at [" + path.toAbsolutePath() + "]");
+    }
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("snapshot-reloader-");
+    threadFactory.setDaemon(true);
+    this.reloader = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    this.reloader.scheduleWithFixedDelay(this::reloadQuietly, reloadInterval.toMillis(), reloadInterval.toMillis(),
+      TimeUnit.MILLISECONDS);
+  }
+
+  public RecipeSnapshot current() {
+    return current;
+  }
+
+  public void subscribe(InvalidationBus.Listener listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void close() {
+    reloader.shutdownNow();
+  }
+
+  synchronized boolean reload() throws IOException {
+    if (!Files.exists(path)) {
+      return false;
+    }
+
+    FileTime modified = Files.getLastModifiedTime(path);
+    if (modified.equals(loadedModified)) {
+      return true;
+    }
+
+    RecipeSnapshot snapshot = RecipeSnapshot.open(path);
+    current = snapshot;
+    loadedModified = modified;
+    listeners.forEach(InvalidationBus.Listener::invalidateAll);
+    log.info("Serving recipe snapshot built at [{}] with [{}] recipes", snapshot.builtAt(), snapshot.size());
+    return true;
+  }
+
+  private void reloadQuietly() {
+    try {
+      reload();
+    } catch (IOException | RuntimeException ex) {
+      log.warn("Could not map the recipe snapshot at [{}], still serving the one built at [{}]", path,
+        current.builtAt(), ex);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.platform.recipe.adapters.snapshot;
+
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.implementations.SnapshotRecipeService;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SnapshotProperties.class)
+public class SnapshotConfig {
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "recipe.snapshot", name = "serve", havingValue = "true")
+  public MappedSnapshot mappedSnapshot(SnapshotProperties properties) throws IOException {
+    return new MappedSnapshot(properties.getPath(), properties.getReloadInterval());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "recipe.snapshot", name = "serve", havingValue = "true")
+  public RecipeService snapshotRecipeService(MappedSnapshot mappedSnapshot) {
+    return new SnapshotRecipeService(mappedSnapshot::current);
+  }
+
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "recipe.snapshot", name = "build", havingValue = "true")
+  public SnapshotPublisher snapshotPublisher(SnapshotProperties properties, RecipeService recipeService) {
+    return new SnapshotPublisher(recipeService, properties.getPath(), properties.getBuildInterval());
+  }
+}
@@ -0,0 +1,25 @@
+package com.platform.recipe.adapters.snapshot;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.snapshot")
+public class SnapshotProperties {
+
+  private Path path = Path.of("snapshots", "recipes.snapshot");
+  /**
+   * Rewrite the snapshot from the database every {@code buildInterval}; only nodes that have one can build.
+   */
+  private boolean build = false;
+  private Duration buildInterval = Duration.ofMinutes(5);
+  /**
+   * Serve reads from the mapped snapshot with no database at all; writes and the change feed are refused.
+   */
+  private boolean serve = false;
+  private Duration reloadInterval = Duration.ofSeconds(10);
+}
@@ -0,0 +1,108 @@
+package com.platform.recipe.adapters.snapshot;
+
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.snapshot.RecipeSnapshotWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Rewrites the snapshot from the database on a node that has one. The catalog is read with the same streaming
+ * search the API uses and each recipe is handed to the writer as it arrives, so only the index is held on the heap.
+ * The file is written next to the target and moved over it in one step, so serving nodes only ever map a
+ * complete file. The title order is read from the database as well, so it follows the database collation.
+ */
+@Slf4j
+public class SnapshotPublisher implements AutoCloseable {
+
+  private static final Sort BY_ID = Sort.by(Sort.Direction.ASC, "id");
+  private static final Sort BY_TITLE = Sort.by(Sort.Direction.ASC, "title", "id");
+
+  private final RecipeService recipeService;
+  private final Path target;
+  private final ScheduledExecutorService builder;
+
+  public SnapshotPublisher(RecipeService recipeService, Path target, Duration interval) {
+    this.recipeService = recipeService;
+    this.target = target;
+
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("snapshot-builder-");
+    threadFactory.setDaemon(true);
+    this.builder = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    this.builder.scheduleWithFixedDelay(this::publishQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void close() {
+    builder.shutdownNow();
+  }
+
+  synchronized int publish() throws IOException {
+    Instant builtAt = Instant.now();
+    Path directory = target.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+    try (RecipeSnapshotWriter writer = new RecipeSnapshotWriter(temporary, builtAt)) {
+      stream(BY_ID, RecipeView.FULL, recipe -> {
+        try {
+          writer.add(recipe);
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+      stream(BY_TITLE, RecipeView.SUMMARY, recipe -> writer.title(recipe.getId()));
+      writer.finish();
+      Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      return writer.size();
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  private void stream(Sort sort, RecipeView view, Consumer<RecipeDto> consumer) {
+    recipeService.streamWithFilters(
+      null,
+      1,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      null,
+      null,
+      null,
+      null,
+      0,
+      Integer.MAX_VALUE,
+      sort,
+      view,
+      consumer
+    );
+  }
+
+  private void publishQuietly() {
+    try {
+      long started = System.nanoTime();
+      int recipes = publish();
+      log.info("Published a recipe snapshot of [{}] recipes to [{}] in [{}] ms", recipes, target,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    } catch (IOException | RuntimeException ex) {
+      log.warn("Could not publish a recipe snapshot to [{}]", target, ex);
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.platform.recipe.adapters.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.domain.services.RecipeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class StartupConfig {
+
+  @Bean
+  public StartupWarmup startupWarmup(
+    WarmupProperties properties,
+    ObjectProvider<DataSource> dataSource,
+    RecipeService recipeService,
+    ObjectMapper objectMapper,
+    ObjectProvider<MeterRegistry> meterRegistry
+  ) {
+    return new StartupWarmup(properties, dataSource.getIfAvailable(), recipeService, objectMapper, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+  }
+}
@@ -0,0 +1,144 @@
+package com.platform.recipe.adapters.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.services.RecipeService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Runs the read path a few times before the instance reports ready. Application runners complete before
+ * readiness flips to accepting traffic, so the first real requests find the pool filled, the classes loaded and
+ * the hot methods compiled instead of paying for it themselves. Only reads are issued, and a failure is logged
+ * rather than keeping the instance from starting.
+ */
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+  private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+  private static final String TITLE_PREFIX = "a";
+
+  private final WarmupProperties properties;
+  private final DataSource dataSource;
+  private final RecipeService recipeService;
+  private final ObjectMapper objectMapper;
+  private final Timer duration;
+
+  public StartupWarmup(
+    WarmupProperties properties,
+    DataSource dataSource,
+    RecipeService recipeService,
+    ObjectMapper objectMapper,
+    MeterRegistry registry
+  ) {
+    this.properties = properties;
+    this.dataSource = dataSource;
+    this.recipeService = recipeService;
+    this.objectMapper = objectMapper;
+    this.duration = Timer.builder("recipe.startup.warmup").register(registry);
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    long started = System.nanoTime();
+    long deadline = started + properties.getTimeout().toNanos();
+    int rounds = 0;
+    try {
+      int connections = primeConnections();
+      while (rounds < properties.getIterations() && System.nanoTime() < deadline) {
+        exerciseReads();
+        rounds++;
+      }
+      log.info("Startup warm-up opened [{}] connections and ran [{}] read rounds in [{}] ms", connections, rounds,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    } catch (Exception e) {
+      log.warn("Startup warm-up stopped after [{}] read rounds, accepting traffic anyway", rounds, e);
+    } finally {
+      duration.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  int primeConnections() throws SQLException {
+    if (dataSource == null) {
+      // Snapshot serving nodes read from a mapped file and have no pool to fill.
+      return 0;
+    }
+
+    int target = properties.getConnections();
+    if (target <= 0) {
+      target = dataSource.isWrapperFor(HikariDataSource.class)
+        ? Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle())
+        : 1;
+    }
+
+    // Held together so the pool has to open each one rather than handing the same connection back.
+    List<Connection> connections = new ArrayList<>(target);
+    try {
+      for (int i = 0; i < target; i++) {
+        connections.add(dataSource.getConnection());
+      }
+    } finally {
+      for (Connection connection : connections) {
+        connection.close();
+      }
+    }
+    return connections.size();
+  }
+
+  private void exerciseReads() throws Exception {
+    for (RecipeView view : RecipeView.values()) {
+      Page<RecipeDto> page = search(null, view);
+      search(TITLE_PREFIX, view);
+      objectMapper.writeValueAsBytes(page.map(dto -> objectMapper.convertValue(dto, RecipeResponse.class)));
+
+      if (page.hasContent()) {
+        try {
+          RecipeDto recipe = recipeService.findById(page.getContent().get(0).getId(), view);
+          objectMapper.writeValueAsBytes(objectMapper.convertValue(recipe, RecipeResponse.class));
+        } catch (DataNotFoundException e) {
+          // Deleted since the page was read; the next round picks another one.
+        }
+      }
+    }
+  }
+
+  private Page<RecipeDto> search(String title, RecipeView view) {
+    return recipeService.searchWithFilters(
+      null,
+      1,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      title,
+      TitleMatch.PREFIX,
+      null,
+      null,
+      0,
+      properties.getPageSize(),
+      DEFAULT_SORT,
+      view
+    );
+  }
+}
@@ -0,0 +1,21 @@
+package com.platform.recipe.adapters.startup;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "recipe.warmup")
+public class WarmupProperties {
+
+  private boolean enabled = true;
+  private int iterations = 50;
+  private int pageSize = 10;
+  /**
+   * Connections opened before readiness; 0 follows the pool's minimum idle size.
+   */
+  private int connections = 0;
+  private Duration timeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,24 @@
+package com.platform.recipe.domain.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One chunk of a bulk change: the recipes with ids after {@code afterId} up to {@code lastId} that matched. The
+ * last report of a run has {@code done} set and carries the totals only.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProgressDto {
+
+  private int chunk;
+  private long afterId;
+  private long lastId;
+  private int affected;
+  private long totalAffected;
+  private boolean done;
+}
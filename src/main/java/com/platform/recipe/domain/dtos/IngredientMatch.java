@@ -0,0 +1,7 @@
+package com.platform.recipe.domain.dtos;
+
+public enum IngredientMatch {
+
+  ALL,
+  ANY
+}
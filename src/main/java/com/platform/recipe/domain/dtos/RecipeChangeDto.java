@@ -0,0 +1,20 @@
+package com.platform.recipe.domain.dtos;
+
+import java.sql.Timestamp;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeChangeDto {
+
+  private Long seq;
+  private Long recipeId;
+  private RecipeChangeType type;
+  private Timestamp changedAt;
+  private RecipeDto recipe;
+}
@@ -0,0 +1,18 @@
+package com.platform.recipe.domain.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeChangesDto {
+
+  private List<RecipeChangeDto> changes;
+  private long nextCursor;
+  private boolean hasMore;
+}
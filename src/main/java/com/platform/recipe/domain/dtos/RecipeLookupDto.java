@@ -0,0 +1,17 @@
+package com.platform.recipe.domain.dtos;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeLookupDto {
+
+  private List<RecipeDto> recipes;
+  private List<Long> missingIds;
+}
@@ -0,0 +1,7 @@
+package com.platform.recipe.domain.dtos;
+
+public enum TitleMatch {
+
+  PREFIX,
+  FUZZY
+}
@@ -0,0 +1,29 @@
+package com.platform.recipe.domain.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "ingredient_catalog")
+@Getter
+@Setter
+public class CatalogIngredient {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Integer id;
+
+  @Column(name = "name", nullable = false)
+  private String name;
+
+  @Column(name = "normalized_name", nullable = false, unique = true)
+  private String normalizedName;
+}
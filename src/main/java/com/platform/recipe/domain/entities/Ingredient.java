@@ -8,7 +8,9 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -19,17 +21,26 @@ import lombok.Setter;
 public class Ingredient {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ingredient_seq")
+  @SequenceGenerator(name = "ingredient_seq", sequenceName = "ingredient_seq", allocationSize = 50)
   @Column(name = "id", unique = true)
   private Long id;
 
-  @Column(name = "name", nullable = false)
+  @Column(name = "catalog_id", nullable = false)
+  @JsonIgnore
+  private Integer catalogId;
+
+  @Transient
   private String name;
 
   @Column(name = "quantity", nullable = false)
   private int quantity;
 
-  @Column(name = "unit")
+  @Column(name = "unit_id")
+  @JsonIgnore
+  private Integer unitId;
+
+  @Transient
   private String unit;
 
   @ManyToOne
@@ -1,5 +1,6 @@
 package com.platform.recipe.domain.entities;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.sql.Timestamp;
 import java.util.ArrayList;
@@ -24,7 +26,8 @@ import org.hibernate.annotations.UpdateTimestamp;
 public class Recipe {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recipe_seq")
+  @SequenceGenerator(name = "recipe_seq", sequenceName = "recipe_seq", allocationSize = 50)
   private Long id;
 
   @Column(name = "title", nullable = false)
@@ -36,6 +39,7 @@ public class Recipe {
   @Column(name = "is_vegetarian", nullable = false)
   private boolean vegetarian;
 
+  @Basic(fetch = FetchType.LAZY)
   @Column(name = "instructions", columnDefinition = "TEXT", nullable = false)
   private String instructions;
 
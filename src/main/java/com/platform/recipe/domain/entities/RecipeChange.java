@@ -0,0 +1,35 @@
+package com.platform.recipe.domain.entities;
+
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.sql.Timestamp;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "recipe_change")
+@Getter
+@Setter
+public class RecipeChange {
+
+  @Id
+  @Column(name = "seq")
+  private Long seq;
+
+  @Column(name = "recipe_id", nullable = false)
+  private Long recipeId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "change_type", nullable = false, length = 16)
+  private RecipeChangeType changeType;
+
+  @Column(name = "changed_at", nullable = false)
+  private Timestamp changedAt;
+}
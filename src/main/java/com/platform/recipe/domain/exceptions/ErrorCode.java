@@ -7,9 +7,19 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum ErrorCode {
 
-  UNEXPECTED_ERROR  (100, "Unexpected Error", "An unexpected error has occurred, please try again."),
-  INVALID_DATA      (101, "Invalid data", "The data provided is invalid for this operation."),
-  RECIPE_NOT_FOUND  (102, "Data not found", "Recipe not found.");
+  UNEXPECTED_ERROR    (100, "Unexpected Error", "An unexpected error has occurred, please try again."),
+  INVALID_DATA        (101, "Invalid data", "The data provided is invalid for this operation."),
+  RECIPE_NOT_FOUND    (102, "Data not found", "Recipe not found."),
+  TOO_MANY_IDS        (103, "Invalid data", "A lookup accepts between 1 and 100 distinct ids."),
+  SERVICE_BUSY        (104, "Service unavailable", "The service is busy, please try again later."),
+  TOO_MANY_REQUESTS   (105, "Too many requests", "Request rate limit exceeded, please try again later."),
+  REQUEST_TIMEOUT     (106, "Service unavailable", "The request took too long to complete, please try again later."),
+  EXPLAIN_FORBIDDEN   (107, "Forbidden", "A valid admin token is required to explain a search."),
+  INVALID_CURSOR      (108, "Invalid data", "Changes are read from a cursor of 0 or more, between 1 and 500 at a time."),
+  INVALID_SORT        (109, "Invalid data", "Sort by createdAt, updatedAt, title or id, optionally followed by ,asc or ,desc."),
+  READ_ONLY_SNAPSHOT  (110, "Forbidden", "This node serves a read-only snapshot, send writes and change feed reads to the primary."),
+  BULK_FORBIDDEN      (111, "Forbidden", "A valid admin token is required to change recipes in bulk."),
+  BULK_FILTER_REQUIRED(112, "Invalid data", "A bulk change needs at least one filter.");
 
   private final Integer code;
   private final String title;
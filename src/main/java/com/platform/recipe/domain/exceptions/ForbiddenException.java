@@ -0,0 +1,8 @@
+package com.platform.recipe.domain.exceptions;
+
+public class ForbiddenException extends GenericException {
+
+  public ForbiddenException(ErrorCode errorCodes) {
+    super(errorCodes);
+  }
+}
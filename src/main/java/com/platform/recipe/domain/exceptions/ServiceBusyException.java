@@ -0,0 +1,14 @@
+package com.platform.recipe.domain.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceBusyException extends GenericException {
+
+  private final long retryAfterSeconds;
+
+  public ServiceBusyException(ErrorCode errorCodes, long retryAfterSeconds) {
+    super(errorCodes);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
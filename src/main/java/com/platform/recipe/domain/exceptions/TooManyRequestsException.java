@@ -0,0 +1,14 @@
+package com.platform.recipe.domain.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends GenericException {
+
+  private final long retryAfterSeconds;
+
+  public TooManyRequestsException(ErrorCode errorCodes, long retryAfterSeconds) {
+    super(errorCodes);
+    this.retryAfterSeconds = retryAfterSeconds;
+  }
+}
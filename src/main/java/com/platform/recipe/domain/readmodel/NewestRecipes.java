@@ -0,0 +1,194 @@
+package com.platform.recipe.domain.readmodel;
+
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.services.RecipeSortPlanner;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The newest recipes, either all of them or those with one vegetarian flag, in the order of the default search:
+ * creation time descending, then id descending. They sit in a ring of fixed capacity whose head is the newest, so
+ * a created recipe takes the head in constant time and pushes the oldest out; next to it is the number of
+ * matching recipes, kept up to date from the same changes.
+ *
+ * <p>A change the ring cannot place with certainty, such as the deletion of a recipe older than all it holds,
+ * marks it stale, and the owner reloads it from the database before serving from it again.
+ */
+public final class NewestRecipes {
+
+  public static final Sort ORDER = Sort.by(Sort.Direction.DESC, "createdAt", RecipeSortPlanner.TIE_BREAKER);
+
+  private static final Comparator<RecipeDto> NEWEST_FIRST = Comparator.comparing(RecipeDto::getCreatedAt)
+    .thenComparing(RecipeDto::getId)
+    .reversed();
+
+  private final Boolean vegetarian;
+  private final RecipeDto[] ring;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private int head;
+  private int size;
+  private long total;
+  private boolean stale = true;
+
+  /**
+   * @param vegetarian the flag the recipes must have, or {@code null} for all recipes
+   */
+  public NewestRecipes(Boolean vegetarian, int capacity) {
+    this.vegetarian = vegetarian;
+    this.ring = new RecipeDto[capacity];
+  }
+
+  public Boolean vegetarian() {
+    return vegetarian;
+  }
+
+  public int capacity() {
+    return ring.length;
+  }
+
+  public boolean isStale() {
+    lock.readLock().lock();
+    try {
+      return stale;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void markStale() {
+    lock.writeLock().lock();
+    try {
+      stale = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Replaces the contents with the first page of the default search and its total.
+   */
+  public void load(List<RecipeDto> newest, long total) {
+    lock.writeLock().lock();
+    try {
+      head = 0;
+      size = Math.min(newest.size(), ring.length);
+      for (int rank = 0; rank < ring.length; rank++) {
+        ring[rank] = rank < size ? newest.get(rank) : null;
+      }
+      this.total = total;
+      this.stale = false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Applies the current state of a changed recipe, {@code null} once it has been deleted.
+   */
+  public void apply(Long id, RecipeDto current) {
+    lock.writeLock().lock();
+    try {
+      if (stale) {
+        return;
+      }
+
+      int rank = rankOf(id);
+      boolean matches = current != null && (vegetarian == null || vegetarian == current.isVegetarian());
+      if (rank >= 0) {
+        if (matches) {
+          // Creation times never change, so an updated recipe keeps its place.
+          ring[slot(rank)] = current;
+        } else {
+          removeAt(rank);
+          total--;
+        }
+        return;
+      }
+
+      boolean complete = size == total;
+      if (matches && (complete || isNewerThanOldest(current))) {
+        insert(current);
+        total++;
+      } else if (!complete && (current == null || vegetarian != null && !isNewerThanOldest(current))) {
+        // Older than anything held, so it may have joined or left the matching recipes without the ring having
+        // seen it before; a deletion does not even say how old the recipe was.
+        stale = true;
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * The recipes at ranks {@code offset} to {@code offset + limit}, with the total, or {@code null} when the ring
+   * is stale or does not reach that far.
+   */
+  public Slice slice(long offset, int limit) {
+    lock.readLock().lock();
+    try {
+      if (stale || offset + limit > size && size < total) {
+        return null;
+      }
+      List<RecipeDto> recipes = new ArrayList<>(limit);
+      for (long rank = offset; rank < Math.min(size, offset + limit); rank++) {
+        recipes.add(ring[slot((int) rank)]);
+      }
+      return new Slice(recipes, total);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private boolean isNewerThanOldest(RecipeDto recipe) {
+    return size == 0 || NEWEST_FIRST.compare(recipe, ring[slot(size - 1)]) < 0;
+  }
+
+  private int rankOf(Long id) {
+    for (int rank = 0; rank < size; rank++) {
+      if (ring[slot(rank)].getId().equals(id)) {
+        return rank;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * A recipe newer than the head moves the head back one slot, overwriting the oldest when the ring is full; one
+   * created on another node with a slightly older clock is shifted into place.
+   */
+  private void insert(RecipeDto recipe) {
+    int rank = 0;
+    while (rank < size && NEWEST_FIRST.compare(ring[slot(rank)], recipe) < 0) {
+      rank++;
+    }
+    if (rank == ring.length) {
+      return;
+    }
+
+    head = Math.floorMod(head - 1, ring.length);
+    size = Math.min(size + 1, ring.length);
+    for (int moved = 0; moved < rank; moved++) {
+      ring[slot(moved)] = ring[slot(moved + 1)];
+    }
+    ring[slot(rank)] = recipe;
+  }
+
+  private void removeAt(int rank) {
+    for (int moved = rank; moved < size - 1; moved++) {
+      ring[slot(moved)] = ring[slot(moved + 1)];
+    }
+    ring[slot(size - 1)] = null;
+    size--;
+  }
+
+  private int slot(int rank) {
+    return (head + rank) % ring.length;
+  }
+
+  public record Slice(List<RecipeDto> recipes, long total) {
+  }
+}
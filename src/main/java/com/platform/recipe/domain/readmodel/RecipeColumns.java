@@ -0,0 +1,333 @@
+package com.platform.recipe.domain.readmodel;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.services.IngredientVocabulary;
+import com.platform.recipe.domain.services.RecipeSortPlanner;
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The searchable fields of every recipe kept in memory as primitive columns, one slot per recipe: creation and
+ * update times as epoch microseconds, vegetarian as a bit set and ingredients as sorted dictionary codes. Instructions
+ * are not kept, so loading the model never reads them. Searches evaluate the filters over slot ranges in parallel on
+ * a fork-join pool, with the same semantics as the database predicates, and only keep the rows of the requested page
+ * in order.
+ */
+public final class RecipeColumns {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int SCAN_CHUNK = 4096;
+  private static final int[] NO_INGREDIENTS = new int[0];
+
+  private final ForkJoinPool pool;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<Long, Integer> slotsById = new HashMap<>();
+  private final Map<String, Integer> ingredientCodes = new HashMap<>();
+  private final Deque<Integer> freeSlots = new ArrayDeque<>();
+  private final BitSet live = new BitSet();
+  private final BitSet vegetarian = new BitSet();
+
+  private int slotCount;
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private long[] createdAt = new long[INITIAL_CAPACITY];
+  private long[] updatedAt = new long[INITIAL_CAPACITY];
+  private int[][] ingredients = new int[INITIAL_CAPACITY][];
+  private String[] titles = new String[INITIAL_CAPACITY];
+  private String[] descriptions = new String[INITIAL_CAPACITY];
+
+  public RecipeColumns(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return slotsById.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void upsert(RecipeDto recipe) {
+    lock.writeLock().lock();
+    try {
+      Integer slot = slotsById.get(recipe.getId());
+      if (slot == null) {
+        slot = freeSlots.isEmpty() ? allocate() : freeSlots.pop();
+        slotsById.put(recipe.getId(), slot);
+        live.set(slot);
+      }
+
+      ids[slot] = recipe.getId();
+      createdAt[slot] = toMicros(recipe.getCreatedAt());
+      updatedAt[slot] = toMicros(recipe.getUpdatedAt());
+      vegetarian.set(slot, recipe.isVegetarian());
+      titles[slot] = recipe.getTitle();
+      descriptions[slot] = recipe.getDescription();
+      ingredients[slot] = encode(recipe.getIngredients());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long id) {
+    lock.writeLock().lock();
+    try {
+      Integer slot = slotsById.remove(id);
+      if (slot != null) {
+        live.clear(slot);
+        titles[slot] = null;
+        descriptions[slot] = null;
+        ingredients[slot] = NO_INGREDIENTS;
+        freeSlots.push(slot);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Matches the filters, orders the matches by {@code sort} and returns the summaries of the rows between
+   * {@code offset} and {@code offset + limit} with the total number of matches. Title and instruction filters and
+   * title sorts are not handled here: the relevance ranking and collation of titles live in the database, and
+   * instructions are not kept.
+   */
+  public Matches search(
+    Boolean vegetarianOnly,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    Instant createdAfter,
+    Instant createdBefore,
+    Sort sort,
+    long offset,
+    int limit
+  ) {
+    RequestDeadline deadline = RequestDeadline.current();
+    lock.readLock().lock();
+    try {
+      IntPredicate filter = filter(vegetarianOnly, includedIngredients, excludedIngredients, match, createdAfter,
+        createdBefore);
+      if (filter == null) {
+        return new Matches(List.of(), 0);
+      }
+
+      BitSet matches = pool.invoke(new Scan(0, slotCount, filter, deadline));
+      int total = matches.cardinality();
+      if (offset >= total || limit <= 0) {
+        return new Matches(List.of(), total);
+      }
+
+      Comparator<Integer> order = comparator(sort);
+      int wanted = (int) Math.min(total, offset + limit);
+      List<Integer> page = firstInOrder(matches, order, wanted);
+
+      List<RecipeDto> summaries = new ArrayList<>(page.size() - (int) offset);
+      page.stream().skip(offset).forEach(slot -> summaries.add(summary(slot)));
+      return new Matches(summaries, total);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Null when the filters cannot match anything, such as an included ingredient no recipe uses.
+   */
+  private IntPredicate filter(
+    Boolean vegetarianOnly,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    Instant createdAfter,
+    Instant createdBefore
+  ) {
+    IntPredicate filter = live::get;
+
+    if (vegetarianOnly != null) {
+      filter = filter.and(slot -> vegetarian.get(slot) == vegetarianOnly);
+    }
+
+    if (createdAfter != null) {
+      long after = ChronoUnit.MICROS.between(Instant.EPOCH, createdAfter);
+      filter = filter.and(slot -> createdAt[slot] >= after);
+    }
+
+    if (createdBefore != null) {
+      long before = ChronoUnit.MICROS.between(Instant.EPOCH, createdBefore);
+      filter = filter.and(slot -> createdAt[slot] <= before);
+    }
+
+    if (includedIngredients != null && !includedIngredients.isEmpty()) {
+      List<String> keys = includedIngredients.stream().map(IngredientVocabulary::nameKey).distinct().toList();
+      int[] codes = codes(keys);
+      if (codes.length == 0 || match == IngredientMatch.ALL && codes.length < keys.size()) {
+        return null;
+      }
+      filter = filter.and(match == IngredientMatch.ALL
+        ? slot -> Arrays.stream(codes).allMatch(code -> Arrays.binarySearch(ingredients[slot], code) >= 0)
+        : slot -> Arrays.stream(codes).anyMatch(code -> Arrays.binarySearch(ingredients[slot], code) >= 0));
+    }
+
+    if (excludedIngredients != null && !excludedIngredients.isEmpty()) {
+      int[] codes = codes(excludedIngredients.stream().map(IngredientVocabulary::nameKey).distinct().toList());
+      if (codes.length > 0) {
+        filter = filter.and(slot -> Arrays.stream(codes).noneMatch(code -> Arrays.binarySearch(ingredients[slot], code) >= 0));
+      }
+    }
+
+    return filter;
+  }
+
+  /**
+   * Keeps the best {@code wanted} slots in a bounded heap, so a page costs a pass over the matches rather than a
+   * sort of all of them.
+   */
+  private List<Integer> firstInOrder(BitSet matches, Comparator<Integer> order, int wanted) {
+    PriorityQueue<Integer> best = new PriorityQueue<>(wanted, order.reversed());
+    for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+      if (best.size() < wanted) {
+        best.add(slot);
+      } else if (order.compare(slot, best.peek()) < 0) {
+        best.poll();
+        best.add(slot);
+      }
+    }
+
+    List<Integer> page = new ArrayList<>(best);
+    page.sort(order);
+    return page;
+  }
+
+  private Comparator<Integer> comparator(Sort sort) {
+    Comparator<Integer> comparator = null;
+    for (Sort.Order order : sort.isSorted() ? sort : Sort.by(Sort.Direction.DESC, RecipeSortPlanner.TIE_BREAKER)) {
+      Comparator<Integer> field = switch (order.getProperty()) {
+        case "createdAt" -> Comparator.comparingLong(slot -> createdAt[slot]);
+        case "updatedAt" -> Comparator.comparingLong(slot -> updatedAt[slot]);
+        case RecipeSortPlanner.TIE_BREAKER -> Comparator.comparingLong(slot -> ids[slot]);
+        default -> throw new IllegalArgumentException("Read model cannot sort by [" + order.getProperty() + "]");
+      };
+      field = order.isAscending() ? field : field.reversed();
+      comparator = comparator == null ? field : comparator.thenComparing(field);
+    }
+    return comparator;
+  }
+
+  private RecipeDto summary(int slot) {
+    RecipeDto recipe = new RecipeDto();
+    recipe.setId(ids[slot]);
+    recipe.setTitle(titles[slot]);
+    recipe.setDescription(descriptions[slot]);
+    recipe.setVegetarian(vegetarian.get(slot));
+    recipe.setCreatedAt(toTimestamp(createdAt[slot]));
+    recipe.setUpdatedAt(toTimestamp(updatedAt[slot]));
+    return recipe;
+  }
+
+  private int[] codes(List<String> keys) {
+    return keys.stream().map(ingredientCodes::get).filter(Objects::nonNull).mapToInt(Integer::intValue).toArray();
+  }
+
+  private int[] encode(List<IngredientDto> recipeIngredients) {
+    if (recipeIngredients == null || recipeIngredients.isEmpty()) {
+      return NO_INGREDIENTS;
+    }
+    return recipeIngredients.stream()
+      .mapToInt(ingredient -> ingredientCodes.computeIfAbsent(IngredientVocabulary.nameKey(ingredient.getName()),
+        key -> ingredientCodes.size()))
+      .distinct()
+      .sorted()
+      .toArray();
+  }
+
+  private int allocate() {
+    if (slotCount == ids.length) {
+      int capacity = ids.length * 2;
+      ids = Arrays.copyOf(ids, capacity);
+      createdAt = Arrays.copyOf(createdAt, capacity);
+      updatedAt = Arrays.copyOf(updatedAt, capacity);
+      ingredients = Arrays.copyOf(ingredients, capacity);
+      titles = Arrays.copyOf(titles, capacity);
+      descriptions = Arrays.copyOf(descriptions, capacity);
+    }
+    return slotCount++;
+  }
+
+  private static long toMicros(Timestamp timestamp) {
+    if (timestamp == null) {
+      return 0;
+    }
+    Instant instant = timestamp.toInstant();
+    return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+  }
+
+  private static Timestamp toTimestamp(long micros) {
+    return Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L));
+  }
+
+  public record Matches(List<RecipeDto> summaries, long total) {
+  }
+
+  /**
+   * Splits the slots in halves down to {@link #SCAN_CHUNK} and tests each chunk on its own worker. The request
+   * deadline is checked per chunk since the workers do not see the caller's thread-local one.
+   */
+  private static final class Scan extends RecursiveTask<BitSet> {
+
+    private final int from;
+    private final int to;
+    private final IntPredicate filter;
+    private final RequestDeadline deadline;
+
+    private Scan(int from, int to, IntPredicate filter, RequestDeadline deadline) {
+      this.from = from;
+      this.to = to;
+      this.filter = filter;
+      this.deadline = deadline;
+    }
+
+    @Override
+    protected BitSet compute() {
+      if (to - from <= SCAN_CHUNK) {
+        if (deadline.isExpired()) {
+          throw new QueryTimeoutException("Request deadline exceeded while scanning the read model");
+        }
+        BitSet matches = new BitSet(to);
+        for (int slot = from; slot < to; slot++) {
+          if (filter.test(slot)) {
+            matches.set(slot);
+          }
+        }
+        return matches;
+      }
+
+      int middle = (from + to) >>> 1;
+      Scan left = new Scan(from, middle, filter, deadline);
+      left.fork();
+      BitSet matches = new Scan(middle, to, filter, deadline).compute();
+      matches.or(left.join());
+      return matches;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.platform.recipe.domain.repositories;
+
+import com.platform.recipe.domain.entities.Ingredient;
+import java.util.Collection;
+import java.util.Map;
+
+public interface CustomIngredientCatalogRepository {
+
+  /**
+   * Sets the catalog and unit ids of the ingredients from their names and units, adding entries for the ones
+   * the catalog does not know yet.
+   */
+  void assignIds(Collection<Ingredient> ingredients);
+
+  /**
+   * Sets the names and units of loaded ingredients from their ids.
+   */
+  void resolveLabels(Collection<Ingredient> ingredients);
+
+  /**
+   * Catalog ids of the given names keyed by their normalized name; names not in the catalog are left out.
+   */
+  Map<String, Integer> findIdsByName(Collection<String> names);
+}
@@ -1,8 +1,14 @@
 package com.platform.recipe.domain.repositories;
 
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.TitleMatch;
 import com.platform.recipe.domain.entities.Recipe;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,9 +18,97 @@ public interface CustomRecipeJpaRepository {
     Boolean vegetarian,
     List<String> includedIngredients,
     List<String> excludedIngredients,
+    IngredientMatch match,
     String instruction,
+    String title,
+    TitleMatch titleMatch,
     Instant createdAfter,
     Instant createdBefore,
     Pageable pageable
   );
+
+  Page<Recipe> searchSummariesWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Pageable pageable
+  );
+
+  Stream<Recipe> streamWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Pageable pageable
+  );
+
+  long countWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore
+  );
+
+  /**
+   * Ids of the matching recipes after {@code afterId}, in id order, at most {@code limit} of them.
+   */
+  List<Long> findIdsWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    long afterId,
+    int limit
+  );
+
+  /**
+   * Locks those of {@code ids} that still match the filters and returns them in id order, so a bulk change
+   * applies to exactly the recipes that match when it runs. Must be called inside a transaction.
+   */
+  List<Long> lockIdsWithFilters(
+    List<Long> ids,
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore
+  );
+
+  /**
+   * The summary fields of every recipe in id order, as unmanaged recipes with no ingredients.
+   */
+  Stream<Recipe> streamSummaries();
+
+  void detach(Collection<Recipe> recipes);
+
+  Optional<Recipe> findSummaryById(Long id);
+
+  Map<Long, String> findInstructionsByIds(List<Long> ids);
+
+  Runnable queryCanceller();
 }
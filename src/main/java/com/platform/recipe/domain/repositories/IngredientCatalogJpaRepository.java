@@ -0,0 +1,10 @@
+package com.platform.recipe.domain.repositories;
+
+import com.platform.recipe.domain.entities.CatalogIngredient;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IngredientCatalogJpaRepository
+  extends JpaRepository<CatalogIngredient, Integer>, CustomIngredientCatalogRepository {
+}
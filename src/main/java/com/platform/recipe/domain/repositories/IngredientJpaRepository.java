@@ -3,10 +3,27 @@ package com.platform.recipe.domain.repositories;
 import com.platform.recipe.domain.entities.Ingredient;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface IngredientJpaRepository extends JpaRepository<Ingredient, Long> {
 
-  List<Ingredient> findByRecipeIdIn(List<Long> recipeIds);
+  /**
+   * Reads the foreign key column directly; the derived query joined {@code recipe} and scanned every ingredient.
+   */
+  @Query("SELECT i FROM Ingredient i WHERE i.recipe.id IN :recipeIds")
+  List<Ingredient> findByRecipeIdIn(@Param("recipeIds") List<Long> recipeIds);
+
+  /**
+   * {@code (recipe id, catalog id)} pairs, without loading the ingredients or their recipes.
+   */
+  @Query("SELECT i.recipe.id, i.catalogId FROM Ingredient i WHERE i.recipe.id IN :recipeIds")
+  List<Object[]> findCatalogIdsByRecipeIdIn(@Param("recipeIds") List<Long> recipeIds);
+
+  @Modifying
+  @Query("DELETE FROM Ingredient i WHERE i.recipe.id IN :recipeIds")
+  int deleteByRecipeIds(@Param("recipeIds") List<Long> recipeIds);
 }
@@ -0,0 +1,51 @@
+package com.platform.recipe.domain.repositories;
+
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import com.platform.recipe.domain.entities.RecipeChange;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecipeChangeJpaRepository extends JpaRepository<RecipeChange, Long> {
+
+  List<RecipeChange> findBySeqGreaterThanOrderBySeqAsc(Long seq, Limit limit);
+
+  /**
+   * Appends a change at the next position of {@code recipe_change_seq}. Positions are not in commit order, so
+   * read them through {@link com.platform.recipe.domain.services.ChangeFeedWatermark}; call this as the last
+   * statement of the write to keep the window between drawing a position and committing it short.
+   */
+  default void record(Long recipeId, RecipeChangeType changeType) {
+    insert(recipeId, changeType.name());
+  }
+
+  /**
+   * Appends a change for each of the recipes in one statement. The changes are read from the recipe rows, so
+   * record deletes before the rows are deleted.
+   */
+  default void recordAll(List<Long> recipeIds, RecipeChangeType changeType) {
+    insertAll(recipeIds, changeType.name());
+  }
+
+  @Modifying
+  @Query(
+    value = "INSERT INTO recipe_change (seq, recipe_id, change_type, changed_at)"
+      + " VALUES (nextval('recipe_change_seq'), :recipeId, :changeType, CURRENT_TIMESTAMP)",
+    nativeQuery = true
+  )
+  void insert(@Param("recipeId") Long recipeId, @Param("changeType") String changeType);
+
+  @Modifying
+  @Query(
+    value = "INSERT INTO recipe_change (seq, recipe_id, change_type, changed_at)"
+      + " SELECT nextval('recipe_change_seq'), r.id, :changeType, CURRENT_TIMESTAMP"
+      + " FROM recipe r WHERE r.id IN (:recipeIds) ORDER BY r.id",
+    nativeQuery = true
+  )
+  void insertAll(@Param("recipeIds") List<Long> recipeIds, @Param("changeType") String changeType);
+}
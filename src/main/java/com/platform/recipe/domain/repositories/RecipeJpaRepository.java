@@ -1,9 +1,30 @@
 package com.platform.recipe.domain.repositories;
 
 import com.platform.recipe.domain.entities.Recipe;
+import java.sql.Timestamp;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface RecipeJpaRepository extends JpaRepository<Recipe, Long>, CustomRecipeJpaRepository {
+
+  @Modifying
+  @Query("UPDATE Recipe r SET r.vegetarian = :vegetarian, r.updatedAt = :updatedAt"
+    + " WHERE r.id IN :ids AND r.vegetarian <> :vegetarian")
+  int updateVegetarianByIds(
+    @Param("ids") List<Long> ids,
+    @Param("vegetarian") boolean vegetarian,
+    @Param("updatedAt") Timestamp updatedAt
+  );
+
+  /**
+   * Deletes the rows only; the ingredients have to be deleted first.
+   */
+  @Modifying
+  @Query("DELETE FROM Recipe r WHERE r.id IN :ids")
+  int deleteByIds(@Param("ids") List<Long> ids);
 }
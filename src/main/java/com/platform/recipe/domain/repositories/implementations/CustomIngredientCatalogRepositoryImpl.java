@@ -0,0 +1,210 @@
+package com.platform.recipe.domain.repositories.implementations;
+
+import com.platform.recipe.domain.entities.Ingredient;
+import com.platform.recipe.domain.repositories.CustomIngredientCatalogRepository;
+import com.platform.recipe.domain.services.IngredientVocabulary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The catalog and unit vocabulary are small and append-only, so both are cached in full as they are used and
+ * every loaded ingredient shares the cached name and unit strings. Ids are never reused, which makes caching
+ * a label safe as soon as it is read; a name is only cached against its id once the transaction that saw it
+ * commits, so a rolled back insert can never be handed out.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "recipe.snapshot", name = "serve", havingValue = "false", matchIfMissing = true)
+public class CustomIngredientCatalogRepositoryImpl implements CustomIngredientCatalogRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final Vocabulary names = new Vocabulary("ingredient_catalog", "normalized_name", "name");
+  private final Vocabulary units = new Vocabulary("ingredient_unit", "code", "code");
+
+  @Override
+  public void assignIds(Collection<Ingredient> ingredients) {
+    Map<String, String> nameLabels = new LinkedHashMap<>();
+    Map<String, String> unitLabels = new LinkedHashMap<>();
+    ingredients.forEach(ingredient -> {
+      nameLabels.putIfAbsent(IngredientVocabulary.nameKey(ingredient.getName()),
+        IngredientVocabulary.displayName(ingredient.getName()));
+      String unitCode = IngredientVocabulary.unitCode(ingredient.getUnit());
+      if (unitCode != null) {
+        unitLabels.putIfAbsent(unitCode, unitCode);
+      }
+    });
+
+    Map<String, Integer> nameIds = names.assign(nameLabels);
+    Map<String, Integer> unitIds = units.assign(unitLabels);
+    ingredients.forEach(ingredient -> {
+      ingredient.setCatalogId(nameIds.get(IngredientVocabulary.nameKey(ingredient.getName())));
+      String unitCode = IngredientVocabulary.unitCode(ingredient.getUnit());
+      ingredient.setUnitId(unitCode == null ? null : unitIds.get(unitCode));
+    });
+  }
+
+  @Override
+  public void resolveLabels(Collection<Ingredient> ingredients) {
+    Map<Integer, String> nameLabels = names.labels(ingredients.stream()
+      .map(Ingredient::getCatalogId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet()));
+    Map<Integer, String> unitLabels = units.labels(ingredients.stream()
+      .map(Ingredient::getUnitId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet()));
+
+    ingredients.forEach(ingredient -> {
+      ingredient.setName(nameLabels.get(ingredient.getCatalogId()));
+      ingredient.setUnit(ingredient.getUnitId() == null ? null : unitLabels.get(ingredient.getUnitId()));
+    });
+  }
+
+  @Override
+  public Map<String, Integer> findIdsByName(Collection<String> names) {
+    return this.names.find(names.stream()
+      .filter(Objects::nonNull)
+      .map(IngredientVocabulary::nameKey)
+      .collect(Collectors.toSet()));
+  }
+
+  private final class Vocabulary {
+
+    private final String table;
+    private final String keyColumn;
+    private final String labelColumn;
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+    private final Map<Integer, String> labelsById = new ConcurrentHashMap<>();
+
+    private Vocabulary(String table, String keyColumn, String labelColumn) {
+      this.table = table;
+      this.keyColumn = keyColumn;
+      this.labelColumn = labelColumn;
+    }
+
+    private Map<String, Integer> find(Collection<String> keys) {
+      Map<String, Integer> ids = new HashMap<>();
+      List<String> missing = new ArrayList<>();
+      keys.forEach(key -> {
+        Integer id = idsByKey.get(key);
+        if (id == null) {
+          missing.add(key);
+        } else {
+          ids.put(key, id);
+        }
+      });
+
+      if (!missing.isEmpty()) {
+        Map<String, Integer> loaded = select(keyColumn, missing);
+        ids.putAll(loaded);
+        rememberAfterCommit(loaded);
+      }
+      return ids;
+    }
+
+    /**
+     * Concurrent writers adding the same key both insert it; the unique key keeps one row and the other
+     * insert does nothing, so both read back the same id.
+     */
+    private Map<String, Integer> assign(Map<String, String> labelsByKey) {
+      Map<String, Integer> ids = find(labelsByKey.keySet());
+      Map<String, String> missing = new LinkedHashMap<>(labelsByKey);
+      missing.keySet().removeAll(ids.keySet());
+
+      if (!missing.isEmpty()) {
+        insert(missing);
+        Map<String, Integer> created = select(keyColumn, missing.keySet());
+        ids.putAll(created);
+        rememberAfterCommit(created);
+      }
+      return ids;
+    }
+
+    private Map<Integer, String> labels(Collection<Integer> ids) {
+      Map<Integer, String> labels = new HashMap<>();
+      List<Integer> missing = new ArrayList<>();
+      ids.forEach(id -> {
+        String label = labelsById.get(id);
+        if (label == null) {
+          missing.add(id);
+        } else {
+          labels.put(id, label);
+        }
+      });
+
+      if (!missing.isEmpty()) {
+        select("id", missing).forEach((key, id) -> labels.put(id, labelsById.get(id)));
+      }
+      return labels;
+    }
+
+    private void insert(Map<String, String> labelsByKey) {
+      boolean labelled = !keyColumn.equals(labelColumn);
+      StringJoiner values = new StringJoiner(", ");
+      for (int i = 0; i < labelsByKey.size(); i++) {
+        values.add(labelled ? "(:key" + i + ", :label" + i + ")" : "(:key" + i + ")");
+      }
+
+      Query query = entityManager.createNativeQuery("INSERT INTO " + table + " (" + keyColumn
+        + (labelled ? ", " + labelColumn : "") + ") VALUES " + values + " ON CONFLICT DO NOTHING");
+      int i = 0;
+      for (Map.Entry<String, String> entry : labelsByKey.entrySet()) {
+        query.setParameter("key" + i, entry.getKey());
+        if (labelled) {
+          query.setParameter("label" + i, entry.getValue());
+        }
+        i++;
+      }
+      query.executeUpdate();
+    }
+
+    /**
+     * Loads the rows whose column is one of the values, caching their labels, and returns their ids by key.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Integer> select(String column, Collection<?> values) {
+      List<Object[]> rows = entityManager.createNativeQuery("SELECT id, " + keyColumn + ", " + labelColumn
+          + " FROM " + table + " WHERE " + column + " IN (:values)")
+        .setParameter("values", values)
+        .getResultList();
+
+      Map<String, Integer> ids = new HashMap<>();
+      rows.forEach(row -> {
+        Integer id = ((Number) row[0]).intValue();
+        labelsById.putIfAbsent(id, (String) row[2]);
+        ids.put((String) row[1], id);
+      });
+      return ids;
+    }
+
+    private void rememberAfterCommit(Map<String, Integer> ids) {
+      if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+        idsByKey.putAll(ids);
+        return;
+      }
+
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          idsByKey.putAll(ids);
+        }
+      });
+    }
+  }
+}
@@ -1,39 +1,77 @@
 package com.platform.recipe.domain.repositories.implementations;
 
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.TitleMatch;
 import com.platform.recipe.domain.entities.Ingredient;
 import com.platform.recipe.domain.entities.Recipe;
 import com.platform.recipe.domain.repositories.CustomRecipeJpaRepository;
+import com.platform.recipe.domain.repositories.IngredientCatalogJpaRepository;
+import com.platform.recipe.domain.services.IngredientVocabulary;
+import com.platform.recipe.domain.services.QueryTrace;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CommonAbstractCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Order;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import jakarta.persistence.criteria.Subquery;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 @Repository
+@ConditionalOnProperty(prefix = "recipe.snapshot", name = "serve", havingValue = "false", matchIfMissing = true)
 public class CustomRecipeJpaRepositoryImpl implements CustomRecipeJpaRepository {
 
   @PersistenceContext
   private EntityManager entityManager;
 
+  private final IngredientCatalogJpaRepository ingredientCatalogJpaRepository;
+
+  private volatile Boolean trigramSearch;
+
+  private static final int STREAM_FETCH_SIZE = 50;
+
+  private static final List<String> SUMMARY_FIELDS = List.of(
+    "id", "title", "description", "vegetarian", "createdAt", "updatedAt"
+  );
+
+  public CustomRecipeJpaRepositoryImpl(IngredientCatalogJpaRepository ingredientCatalogJpaRepository) {
+    this.ingredientCatalogJpaRepository = ingredientCatalogJpaRepository;
+  }
+
   @Override
   public Page<Recipe> searchWithFilters(
     Boolean vegetarian,
     List<String> includedIngredients,
     List<String> excludedIngredients,
+    IngredientMatch match,
     String instruction,
+    String title,
+    TitleMatch titleMatch,
     Instant createdAfter,
     Instant createdBefore,
     Pageable pageable
@@ -45,55 +83,353 @@ public class CustomRecipeJpaRepositoryImpl implements CustomRecipeJpaRepository
 
     Predicate predicate = buildPredicate(
       criteriaBuilder,
+      criteriaQuery,
       root,
       vegetarian,
       includedIngredients,
       excludedIngredients,
+      match,
       instruction,
+      title,
+      titleMatch,
       createdAfter,
       createdBefore
     );
 
     criteriaQuery.select(root).where(predicate);
 
-    if (!pageable.getSort().isEmpty()) {
-      List<Order> orders = pageable.getSort().stream()
-        .map(order -> order.isAscending()
-          ? criteriaBuilder.asc(root.get(order.getProperty()))
-          : criteriaBuilder.desc(root.get(order.getProperty())))
-        .toList();
-      criteriaQuery.orderBy(orders);
-    }
+    List<Recipe> content = QueryTrace.stage("page", () -> pageQuery(criteriaBuilder, criteriaQuery, root, title, titleMatch, pageable)
+      .setHint(HibernateHints.HINT_READ_ONLY, true)
+      .getResultList());
 
-    TypedQuery<Recipe> query = entityManager.createQuery(criteriaQuery);
-    query.setFirstResult((int) pageable.getOffset());
-    query.setMaxResults(pageable.getPageSize());
+    long total = countWithFilters(
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
+
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  @Override
+  public Page<Recipe> searchSummariesWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Pageable pageable
+  ) {
+
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    Predicate predicate = buildPredicate(
+      criteriaBuilder,
+      criteriaQuery,
+      root,
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
+
+    criteriaQuery.multiselect(summarySelection(root)).where(predicate);
+
+    List<Recipe> content = QueryTrace.stage("page", () -> pageQuery(criteriaBuilder, criteriaQuery, root, title, titleMatch, pageable)
+      .getResultList()
+      .stream()
+      .map(this::toSummary)
+      .toList());
+
+    long total = countWithFilters(
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
 
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  @Override
+  public Stream<Recipe> streamWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Pageable pageable
+  ) {
+
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Recipe> criteriaQuery = criteriaBuilder.createQuery(Recipe.class);
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    Predicate predicate = buildPredicate(
+      criteriaBuilder,
+      criteriaQuery,
+      root,
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
+
+    criteriaQuery.select(root).where(predicate);
+
+    return pageQuery(criteriaBuilder, criteriaQuery, root, title, titleMatch, pageable)
+      .setHint(HibernateHints.HINT_READ_ONLY, true)
+      .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+      .getResultStream();
+  }
+
+  @Override
+  public long countWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore
+  ) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
     CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
     Root<Recipe> countRoot = countQuery.from(Recipe.class);
     Predicate countPredicate = buildPredicate(
       criteriaBuilder,
+      countQuery,
       countRoot,
       vegetarian,
       includedIngredients,
       excludedIngredients,
+      match,
       instruction,
+      title,
+      titleMatch,
       createdAfter,
       createdBefore
     );
     countQuery.select(criteriaBuilder.count(countRoot)).where(countPredicate);
-    Long total = entityManager.createQuery(countQuery).getSingleResult();
+    return QueryTrace.stage("count", () -> entityManager.createQuery(countQuery).getSingleResult());
+  }
 
-    return new PageImpl<>(query.getResultList(), pageable, total);
+  @Override
+  public List<Long> findIdsWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    long afterId,
+    int limit
+  ) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    Predicate predicate = buildPredicate(
+      criteriaBuilder,
+      criteriaQuery,
+      root,
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
+
+    // Keyset on the primary key, so every chunk starts with an index seek wherever the previous one stopped.
+    criteriaQuery.select(root.get("id"))
+      .where(criteriaBuilder.and(predicate, criteriaBuilder.greaterThan(root.get("id"), afterId)))
+      .orderBy(criteriaBuilder.asc(root.get("id")));
+
+    return entityManager.createQuery(criteriaQuery).setMaxResults(limit).getResultList();
+  }
+
+  @Override
+  public List<Long> lockIdsWithFilters(
+    List<Long> ids,
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore
+  ) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery(Long.class);
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    Predicate predicate = buildPredicate(
+      criteriaBuilder,
+      criteriaQuery,
+      root,
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
+
+    criteriaQuery.select(root.get("id"))
+      .where(criteriaBuilder.and(predicate, root.get("id").in(ids)))
+      .orderBy(criteriaBuilder.asc(root.get("id")));
+
+    return entityManager.createQuery(criteriaQuery).setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+  }
+
+  @Override
+  public Stream<Recipe> streamSummaries() {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    criteriaQuery.multiselect(summarySelection(root)).orderBy(criteriaBuilder.asc(root.get("id")));
+
+    return entityManager.createQuery(criteriaQuery)
+      .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+      .getResultStream()
+      .map(this::toSummary);
+  }
+
+  @Override
+  public void detach(Collection<Recipe> recipes) {
+    recipes.forEach(entityManager::detach);
+  }
+
+  @Override
+  public Optional<Recipe> findSummaryById(Long id) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    criteriaQuery.multiselect(summarySelection(root)).where(criteriaBuilder.equal(root.get("id"), id));
+
+    return entityManager.createQuery(criteriaQuery).getResultStream().findFirst().map(this::toSummary);
+  }
+
+  @Override
+  public Map<Long, String> findInstructionsByIds(List<Long> ids) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+    Root<Recipe> root = criteriaQuery.from(Recipe.class);
+
+    criteriaQuery.multiselect(root.get("id").alias("id"), root.get("instructions").alias("instructions"))
+      .where(root.get("id").in(ids));
+
+    return entityManager.createQuery(criteriaQuery).getResultStream()
+      .collect(Collectors.toMap(tuple -> tuple.get("id", Long.class), tuple -> tuple.get("instructions", String.class)));
+  }
+
+  /**
+   * Cancels whatever statement the current session is running; meant to be called from another thread. The
+   * shared entity manager proxy already implements {@code Session}, so the actual session is unwrapped through
+   * {@code SessionImplementor} to avoid resolving it on the cancelling thread.
+   */
+  @Override
+  public Runnable queryCanceller() {
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    return session::cancelQuery;
+  }
+
+  private <T> TypedQuery<T> pageQuery(
+    CriteriaBuilder criteriaBuilder,
+    CriteriaQuery<T> criteriaQuery,
+    Root<Recipe> root,
+    String title,
+    TitleMatch titleMatch,
+    Pageable pageable
+  ) {
+    List<Order> orders = new ArrayList<>(titleRelevance(criteriaBuilder, root, title, titleMatch));
+    pageable.getSort().forEach(order -> orders.add(order.isAscending()
+      ? criteriaBuilder.asc(root.get(order.getProperty()))
+      : criteriaBuilder.desc(root.get(order.getProperty()))));
+    if (!orders.isEmpty()) {
+      criteriaQuery.orderBy(orders);
+    }
+
+    TypedQuery<T> query = entityManager.createQuery(criteriaQuery);
+    query.setFirstResult((int) pageable.getOffset());
+    query.setMaxResults(pageable.getPageSize());
+    return query;
+  }
+
+  private List<Selection<?>> summarySelection(Root<Recipe> root) {
+    return SUMMARY_FIELDS.stream().<Selection<?>>map(field -> root.get(field).alias(field)).toList();
+  }
+
+  private Recipe toSummary(Tuple tuple) {
+    Recipe recipe = new Recipe();
+    recipe.setId(tuple.get("id", Long.class));
+    recipe.setTitle(tuple.get("title", String.class));
+    recipe.setDescription(tuple.get("description", String.class));
+    recipe.setVegetarian(tuple.get("vegetarian", Boolean.class));
+    recipe.setCreatedAt(tuple.get("createdAt", Timestamp.class));
+    recipe.setUpdatedAt(tuple.get("updatedAt", Timestamp.class));
+    recipe.setIngredients(null);
+    return recipe;
   }
 
   private Predicate buildPredicate(
     CriteriaBuilder cb,
+    CommonAbstractCriteria query,
     Root<Recipe> root,
     Boolean vegetarian,
     List<String> includedIngredients,
     List<String> excludedIngredients,
+    IngredientMatch match,
     String instruction,
+    String title,
+    TitleMatch titleMatch,
     Instant createdAfter,
     Instant createdBefore
   ) {
@@ -115,25 +451,117 @@ public class CustomRecipeJpaRepositoryImpl implements CustomRecipeJpaRepository
       predicate = cb.and(predicate, cb.lessThanOrEqualTo(root.get("createdAt"), Timestamp.from(createdBefore)));
     }
 
+    if (title != null && !title.isBlank()) {
+      predicate = cb.and(predicate, titlePredicate(cb, root, title, titleMatch));
+    }
+
     if (includedIngredients != null && !includedIngredients.isEmpty() ) {
-      Join<Recipe, Ingredient> ingredientJoin = root.join("ingredients", JoinType.LEFT);
-      predicate = cb.and(predicate, ingredientJoin.get("name").in(includedIngredients));
+      Set<String> names = includedIngredients.stream().map(IngredientVocabulary::nameKey).collect(Collectors.toSet());
+      Collection<Integer> catalogIds = ingredientCatalogJpaRepository.findIdsByName(includedIngredients).values();
+
+      // A name missing from the catalog is on no recipe.
+      if (catalogIds.isEmpty() || match == IngredientMatch.ALL && catalogIds.size() < names.size()) {
+        predicate = cb.and(predicate, cb.disjunction());
+      } else {
+        predicate = cb.and(predicate, root.get("id").in(includedRecipeIds(cb, query, catalogIds, match)));
+      }
     }
 
     if (excludedIngredients != null && !excludedIngredients.isEmpty() ) {
-      Subquery<Long> subquery = cb.createQuery().subquery(Long.class);
-      Root<Ingredient> ingredientRoot = subquery.from(Ingredient.class);
-      subquery.select(cb.literal(1L));
-      subquery.where(
-        cb.and(
-          cb.equal(ingredientRoot.get("recipe"), root),
-          ingredientRoot.get("name").in(excludedIngredients)
-        )
-      );
-
-      predicate = cb.and(predicate, cb.not(cb.exists(subquery)));
+      Collection<Integer> catalogIds = ingredientCatalogJpaRepository.findIdsByName(excludedIngredients).values();
+
+      if (!catalogIds.isEmpty()) {
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<Ingredient> ingredientRoot = subquery.from(Ingredient.class);
+        subquery.select(cb.literal(1L));
+        subquery.where(
+          cb.and(
+            cb.equal(ingredientRoot.get("recipe"), root),
+            ingredientRoot.get("catalogId").in(catalogIds)
+          )
+        );
+
+        predicate = cb.and(predicate, cb.not(cb.exists(subquery)));
+      }
     }
 
     return predicate;
   }
+
+  /**
+   * Prefix matching compares the lower-cased title so Postgres can use its text_pattern_ops index. Fuzzy
+   * matching uses trigram word similarity where pg_trgm is available and falls back to a substring match.
+   */
+  private Predicate titlePredicate(CriteriaBuilder cb, Root<Recipe> root, String title, TitleMatch titleMatch) {
+    String text = title.strip().toLowerCase(Locale.ROOT);
+    if (titleMatch == TitleMatch.FUZZY && trigramSearch()) {
+      return cb.isTrue(cb.function(TitleSearchFunctionContributor.WORD_MATCH, Boolean.class, cb.literal(text),
+        root.get("title")));
+    }
+
+    String pattern = escapeLike(text) + "%";
+    return cb.like(cb.lower(root.get("title")), titleMatch == TitleMatch.FUZZY ? "%" + pattern : pattern, '\\');
+  }
+
+  /**
+   * Best title matches first, ahead of the requested sort: by trigram word similarity where available,
+   * otherwise exact titles, then titles where the text appears earliest, then shorter titles.
+   */
+  private List<Order> titleRelevance(CriteriaBuilder cb, Root<Recipe> root, String title, TitleMatch titleMatch) {
+    if (title == null || title.isBlank()) {
+      return List.of();
+    }
+
+    String text = title.strip().toLowerCase(Locale.ROOT);
+    if (titleMatch == TitleMatch.FUZZY && trigramSearch()) {
+      return List.of(cb.desc(cb.function(TitleSearchFunctionContributor.WORD_SIMILARITY, Double.class,
+        cb.literal(text), root.get("title"))));
+    }
+
+    Expression<String> lowerTitle = cb.lower(root.get("title"));
+    return List.of(
+      cb.asc(cb.<Integer>selectCase().when(cb.equal(lowerTitle, text), 0).otherwise(1)),
+      cb.asc(cb.locate(lowerTitle, text)),
+      cb.asc(cb.length(root.get("title")))
+    );
+  }
+
+  private boolean trigramSearch() {
+    if (trigramSearch == null) {
+      trigramSearch = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactoryImplementor.class)
+        .getQueryEngine()
+        .getSqmFunctionRegistry()
+        .findFunctionDescriptor(TitleSearchFunctionContributor.WORD_MATCH) != null;
+    }
+    return trigramSearch;
+  }
+
+  private static String escapeLike(String text) {
+    return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+
+  /**
+   * Semi-join on the ingredient table so each recipe is returned once, whatever the number of matching ingredients.
+   * Names are resolved to catalog ids first, so both the filter and the ALL count compare integers. ALL keeps only
+   * recipes whose distinct matching ids cover the whole requested set.
+   */
+  private Subquery<Long> includedRecipeIds(
+    CriteriaBuilder cb,
+    CommonAbstractCriteria query,
+    Collection<Integer> catalogIds,
+    IngredientMatch match
+  ) {
+    Subquery<Long> subquery = query.subquery(Long.class);
+    Root<Ingredient> ingredientRoot = subquery.from(Ingredient.class);
+    subquery.select(ingredientRoot.get("recipe").get("id"));
+    subquery.where(ingredientRoot.get("catalogId").in(catalogIds));
+
+    if (match == IngredientMatch.ALL) {
+      subquery.groupBy(ingredientRoot.get("recipe").get("id"));
+      subquery.having(cb.equal(cb.countDistinct(ingredientRoot.get("catalogId")), (long) catalogIds.size()));
+    }
+
+    return subquery;
+  }
 }
@@ -0,0 +1,30 @@
+package com.platform.recipe.domain.repositories.implementations;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes the pg_trgm word similarity operator and function to criteria queries on Postgres, where the trigram
+ * index on recipe titles serves them. Other databases get no functions and title search falls back to LIKE.
+ */
+public class TitleSearchFunctionContributor implements FunctionContributor {
+
+  static final String WORD_MATCH = "trigram_word_match";
+  static final String WORD_SIMILARITY = "trigram_word_similarity";
+
+  @Override
+  public void contributeFunctions(FunctionContributions functionContributions) {
+    if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+      return;
+    }
+
+    BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+    SqmFunctionRegistry functions = functionContributions.getFunctionRegistry();
+    functions.registerPattern(WORD_MATCH, "(?1 <% ?2)", types.resolve(StandardBasicTypes.BOOLEAN));
+    functions.registerPattern(WORD_SIMILARITY, "word_similarity(?1, ?2)", types.resolve(StandardBasicTypes.DOUBLE));
+  }
+}
@@ -0,0 +1,52 @@
+package com.platform.recipe.domain.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Decides how far a reader of {@code recipe_change} may go. Positions come from a sequence and are drawn right
+ * before commit, so a lower position can still be in flight when a higher one is already visible. A reader keeps
+ * going while positions are consecutive; at a gap it stops, unless the change after the gap was made longer ago
+ * than {@link #SETTLE_TIME}, by which time every write that could own the missing position has committed or
+ * rolled back.
+ */
+public final class ChangeFeedWatermark {
+
+  /**
+   * Upper bound on the write transactions that record changes.
+   */
+  public static final Duration WRITE_TIMEOUT = Duration.ofSeconds(30);
+
+  /**
+   * Twice the write timeout, leaving the second half for the commit after the position is drawn and clock skew.
+   */
+  public static final Duration SETTLE_TIME = WRITE_TIMEOUT.multipliedBy(2);
+
+  private final Instant settledBefore;
+  private long last;
+
+  public ChangeFeedWatermark(long since, Instant now) {
+    this.last = since;
+    this.settledBefore = settledBefore(now);
+  }
+
+  public static Instant settledBefore(Instant now) {
+    return now.minus(SETTLE_TIME);
+  }
+
+  /**
+   * Whether the next change in position order can be handed out; reading stops at the first one that cannot.
+   */
+  public boolean admit(long seq, Date changedAt) {
+    if (seq != last + 1 && (changedAt == null || changedAt.toInstant().isAfter(settledBefore))) {
+      return false;
+    }
+    last = seq;
+    return true;
+  }
+
+  public long last() {
+    return last;
+  }
+}
@@ -0,0 +1,88 @@
+package com.platform.recipe.domain.services;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization rules for the ingredient catalog and unit vocabulary. Names are matched on a key that ignores
+ * case, surrounding and repeated whitespace and simple English plurals, so "Tomato", "tomato " and "tomatoes"
+ * resolve to the same catalog entry. Units are folded onto a short code.
+ */
+public final class IngredientVocabulary {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final Map<String, String> UNIT_ALIASES = Map.ofEntries(
+    Map.entry("gram", "g"),
+    Map.entry("grams", "g"),
+    Map.entry("gr", "g"),
+    Map.entry("kilogram", "kg"),
+    Map.entry("kilograms", "kg"),
+    Map.entry("kilo", "kg"),
+    Map.entry("kilos", "kg"),
+    Map.entry("milligram", "mg"),
+    Map.entry("milligrams", "mg"),
+    Map.entry("milliliter", "ml"),
+    Map.entry("milliliters", "ml"),
+    Map.entry("millilitre", "ml"),
+    Map.entry("millilitres", "ml"),
+    Map.entry("liter", "l"),
+    Map.entry("liters", "l"),
+    Map.entry("litre", "l"),
+    Map.entry("litres", "l"),
+    Map.entry("tablespoon", "tbsp"),
+    Map.entry("tablespoons", "tbsp"),
+    Map.entry("teaspoon", "tsp"),
+    Map.entry("teaspoons", "tsp"),
+    Map.entry("cups", "cup"),
+    Map.entry("pieces", "piece"),
+    Map.entry("pc", "piece"),
+    Map.entry("pcs", "piece"),
+    Map.entry("pinches", "pinch"),
+    Map.entry("ounce", "oz"),
+    Map.entry("ounces", "oz"),
+    Map.entry("pound", "lb"),
+    Map.entry("pounds", "lb"),
+    Map.entry("lbs", "lb")
+  );
+
+  private IngredientVocabulary() {
+  }
+
+  /**
+   * The form a new catalog entry is displayed with: the first spelling seen, trimmed and with single spaces.
+   */
+  public static String displayName(String name) {
+    return WHITESPACE.matcher(name.strip()).replaceAll(" ");
+  }
+
+  public static String nameKey(String name) {
+    return singular(displayName(name).toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Returns {@code null} for a missing or blank unit.
+   */
+  public static String unitCode(String unit) {
+    if (unit == null || unit.isBlank()) {
+      return null;
+    }
+    String code = displayName(unit).toLowerCase(Locale.ROOT);
+    return UNIT_ALIASES.getOrDefault(code, code);
+  }
+
+  private static String singular(String key) {
+    int length = key.length();
+    if (length > 4 && key.endsWith("ies")) {
+      return key.substring(0, length - 3) + "y";
+    }
+    if (length > 4 && key.endsWith("oes")) {
+      return key.substring(0, length - 2);
+    }
+    if (length > 3 && key.endsWith("s") && !key.endsWith("ss") && !key.endsWith("us") && !key.endsWith("is")) {
+      return key.substring(0, length - 1);
+    }
+    return key;
+  }
+}
@@ -0,0 +1,30 @@
+package com.platform.recipe.domain.services;
+
+import java.util.Collection;
+
+/**
+ * Tells every node that a recipe changed so local caches can drop it. Publish from inside the write transaction:
+ * listeners on this node hear about it right after the commit, listeners on other nodes as soon as the
+ * implementation delivers it.
+ */
+public interface InvalidationBus {
+
+  void publish(Long recipeId);
+
+  /**
+   * Publishes several recipes at once, so buses that send messages can send one for all of them.
+   */
+  void publish(Collection<Long> recipeIds);
+
+  void subscribe(Listener listener);
+
+  interface Listener {
+
+    void invalidate(Long recipeId);
+
+    /**
+     * Called when invalidations may have been missed, for instance while the bus was reconnecting.
+     */
+    void invalidateAll();
+  }
+}
@@ -0,0 +1,101 @@
+package com.platform.recipe.domain.services;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records the statements a request runs and how long each stage of it takes. Like {@link RequestDeadline} the
+ * trace is bound to the thread doing the work; code outside a trace pays a single thread local lookup.
+ */
+public final class QueryTrace {
+
+  private static final ThreadLocal<QueryTrace> CURRENT = new ThreadLocal<>();
+
+  private final boolean explain;
+  private final long startedNanos = System.nanoTime();
+  private final Map<String, Long> stages = new LinkedHashMap<>();
+  private final List<Statement> statements = new ArrayList<>();
+  private long elapsedNanos = -1;
+
+  private QueryTrace(boolean explain) {
+    this.explain = explain;
+  }
+
+  /**
+   * An explain trace asks the services to run the request on its own instead of sharing another caller's
+   * in-flight result, so every statement shows up in it.
+   */
+  public static QueryTrace start(boolean explain) {
+    return new QueryTrace(explain);
+  }
+
+  public static QueryTrace current() {
+    return CURRENT.get();
+  }
+
+  public static boolean isExplaining() {
+    QueryTrace trace = CURRENT.get();
+    return trace != null && trace.explain;
+  }
+
+  public static <T> T stage(String name, Supplier<T> work) {
+    QueryTrace trace = CURRENT.get();
+    if (trace == null) {
+      return work.get();
+    }
+
+    long started = System.nanoTime();
+    try {
+      return work.get();
+    } finally {
+      trace.stages.merge(name, System.nanoTime() - started, Long::sum);
+    }
+  }
+
+  public static void stage(String name, Runnable work) {
+    stage(name, () -> {
+      work.run();
+      return null;
+    });
+  }
+
+  public RequestDeadline.Scope enter() {
+    QueryTrace previous = CURRENT.get();
+    CURRENT.set(this);
+    return () -> {
+      elapsedNanos = System.nanoTime() - startedNanos;
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  public void record(String sql, List<Object> parameters, long nanos) {
+    statements.add(new Statement(sql, parameters, nanos));
+  }
+
+  public boolean isExplain() {
+    return explain;
+  }
+
+  public long elapsedNanos() {
+    return elapsedNanos < 0 ? System.nanoTime() - startedNanos : elapsedNanos;
+  }
+
+  public Map<String, Long> stages() {
+    return Collections.unmodifiableMap(stages);
+  }
+
+  public List<Statement> statements() {
+    return Collections.unmodifiableList(statements);
+  }
+
+  public record Statement(String sql, List<Object> parameters, long nanos) {
+  }
+}
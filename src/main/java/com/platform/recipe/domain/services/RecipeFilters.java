@@ -0,0 +1,46 @@
+package com.platform.recipe.domain.services;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Checks on the search filters when they select recipes to change rather than to read.
+ */
+public final class RecipeFilters {
+
+  private RecipeFilters() {
+  }
+
+  /**
+   * A bulk change without any filter would touch every recipe, which is never what a maintenance call means.
+   */
+  public static void requireAny(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    String instruction,
+    String title,
+    Instant createdAfter,
+    Instant createdBefore
+  ) throws InvalidDataException {
+    if (vegetarian == null
+      && isEmpty(includedIngredients)
+      && isEmpty(excludedIngredients)
+      && isBlank(instruction)
+      && isBlank(title)
+      && createdAfter == null
+      && createdBefore == null) {
+      throw new InvalidDataException(ErrorCode.BULK_FILTER_REQUIRED);
+    }
+  }
+
+  private static boolean isEmpty(List<String> values) {
+    return values == null || values.isEmpty();
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+}
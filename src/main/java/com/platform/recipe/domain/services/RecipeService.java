@@ -1,27 +1,87 @@
 package com.platform.recipe.domain.services;
 
+import com.platform.recipe.domain.dtos.BulkProgressDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
 import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
 import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
 import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
 
 public interface RecipeService {
 
-  Long create(RecipeDto recipe);
-  RecipeDto update(RecipeDto recipe) throws DataNotFoundException;
-  void deleteById(Long id) throws DataNotFoundException;
-  RecipeDto findById(Long id) throws DataNotFoundException;
+  Long create(RecipeDto recipe) throws ForbiddenException;
+  List<Long> createAll(List<RecipeDto> recipes) throws ForbiddenException;
+  RecipeDto update(RecipeDto recipe) throws DataNotFoundException, ForbiddenException;
+  void deleteById(Long id) throws DataNotFoundException, ForbiddenException;
+  RecipeDto findById(Long id, RecipeView view) throws DataNotFoundException;
+  RecipeLookupDto findAllByIds(List<Long> ids) throws InvalidDataException;
+  RecipeChangesDto findChanges(long since, int limit) throws InvalidDataException, ForbiddenException;
   Page<RecipeDto> searchWithFilters(
     Boolean vegetarian,
     int servings,
     List<String> includedIngredients,
     List<String> excludedIngredients,
+    IngredientMatch match,
     String instruction,
+    String title,
+    TitleMatch titleMatch,
     Instant createdAfter,
     Instant createdBefore,
     int page,
     int pageSize,
-    String sort
+    Sort sort,
+    RecipeView view
   );
+  long streamWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view,
+    Consumer<RecipeDto> consumer
+  );
+  void streamSearchFields(Consumer<RecipeDto> consumer);
+  long updateVegetarianWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    boolean markVegetarian,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException, ForbiddenException;
+  long deleteWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException, ForbiddenException;
 }
@@ -0,0 +1,58 @@
+package com.platform.recipe.domain.services;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Turns the {@code sort} request parameter into an order the recipe indexes can serve. Only fields with a
+ * matching {@code (field, id)} index are accepted, and {@code id} always follows in the same direction so equal
+ * values page deterministically and the index can be scanned either way.
+ */
+public final class RecipeSortPlanner {
+
+  public static final String TIE_BREAKER = "id";
+
+  // Request name (lower case) to entity property, each backed by a (column, id) index.
+  private static final Map<String, String> SORTABLE = Map.of(
+    "createdat", "createdAt",
+    "updatedat", "updatedAt",
+    "title", "title",
+    "id", TIE_BREAKER
+  );
+
+  private RecipeSortPlanner() {
+  }
+
+  /**
+   * Accepts {@code field} or {@code field,asc|desc}; the direction defaults to descending, as it always was.
+   */
+  public static Sort plan(String sort) throws InvalidDataException {
+    if (sort == null || sort.isBlank()) {
+      throw new InvalidDataException(ErrorCode.INVALID_SORT);
+    }
+
+    String[] parts = sort.split(",", -1);
+    if (parts.length > 2) {
+      throw new InvalidDataException(ErrorCode.INVALID_SORT);
+    }
+
+    String property = SORTABLE.get(parts[0].strip().toLowerCase(Locale.ROOT));
+    if (property == null) {
+      throw new InvalidDataException(ErrorCode.INVALID_SORT);
+    }
+
+    Sort.Direction direction = Sort.Direction.DESC;
+    if (parts.length == 2) {
+      direction = Sort.Direction.fromOptionalString(parts[1].strip())
+        .orElseThrow(() -> new InvalidDataException(ErrorCode.INVALID_SORT));
+    }
+
+    if (TIE_BREAKER.equals(property)) {
+      return Sort.by(direction, TIE_BREAKER);
+    }
+    return Sort.by(new Sort.Order(direction, property), new Sort.Order(direction, TIE_BREAKER));
+  }
+}
@@ -0,0 +1,110 @@
+package com.platform.recipe.domain.services;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * The point in time by which a request must be answered. The deadline is bound to the thread doing the work,
+ * is turned into query timeouts by the services, and can be cancelled from any thread, which cancels the
+ * statement currently running for it.
+ */
+public final class RequestDeadline {
+
+  private static final RequestDeadline NONE = new RequestDeadline(0, false);
+  private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+  private final long deadlineNanos;
+  private final boolean bounded;
+  private final List<Runnable> cancellers = new CopyOnWriteArrayList<>();
+  private volatile boolean cancelled;
+
+  private RequestDeadline(long deadlineNanos, boolean bounded) {
+    this.deadlineNanos = deadlineNanos;
+    this.bounded = bounded;
+  }
+
+  public static RequestDeadline after(Duration timeout) {
+    return new RequestDeadline(System.nanoTime() + timeout.toNanos(), true);
+  }
+
+  /**
+   * A deadline with no time limit that can still be cancelled, for work that outlives the request that started it.
+   */
+  public static RequestDeadline unbounded() {
+    return new RequestDeadline(0, false);
+  }
+
+  public static RequestDeadline current() {
+    RequestDeadline deadline = CURRENT.get();
+    return deadline == null ? NONE : deadline;
+  }
+
+  public Scope enter() {
+    RequestDeadline previous = CURRENT.get();
+    CURRENT.set(this);
+    return () -> {
+      if (previous == null) {
+        CURRENT.remove();
+      } else {
+        CURRENT.set(previous);
+      }
+    };
+  }
+
+  public boolean isExpired() {
+    return cancelled || bounded && System.nanoTime() - deadlineNanos >= 0;
+  }
+
+  /**
+   * Remaining time in nanoseconds, or {@link Long#MAX_VALUE} when there is no time limit.
+   */
+  public long remainingNanos() {
+    return bounded ? Math.max(0, deadlineNanos - System.nanoTime()) : Long.MAX_VALUE;
+  }
+
+  /**
+   * Remaining time rounded up to whole seconds, the granularity of transaction and JDBC statement timeouts.
+   */
+  public int remainingSeconds() {
+    if (!bounded) {
+      return TransactionDefinition.TIMEOUT_DEFAULT;
+    }
+    long remainingNanos = Math.max(0, deadlineNanos - System.nanoTime());
+    return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+  }
+
+  /**
+   * Runs the work with a canceller registered, so {@link #cancel()} can abort it while it is running.
+   */
+  public <T> T cancellable(Runnable canceller, Supplier<T> work) {
+    if (this == NONE || canceller == null) {
+      return work.get();
+    }
+
+    cancellers.add(canceller);
+    try {
+      if (cancelled) {
+        canceller.run();
+      }
+      return work.get();
+    } finally {
+      cancellers.remove(canceller);
+    }
+  }
+
+  public void cancel() {
+    cancelled = true;
+    cancellers.forEach(Runnable::run);
+  }
+
+  @FunctionalInterface
+  public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+  }
+}
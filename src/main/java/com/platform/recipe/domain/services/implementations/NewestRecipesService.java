@@ -0,0 +1,325 @@
+package com.platform.recipe.domain.services.implementations;
+
+import com.platform.recipe.domain.dtos.BulkProgressDto;
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.readmodel.NewestRecipes;
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RecipeService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Serves the first pages of the default listing, newest first with no filter or only the vegetarian flag, from
+ * {@link NewestRecipes} rings instead of running the page, count and ingredient queries. Each ring is loaded from
+ * the database when first needed and then kept current from the changes published on the invalidation bus,
+ * which are applied before the next read; writes on this node apply theirs before they return. Everything else
+ * goes to the wrapped service.
+ */
+@Slf4j
+public class NewestRecipesService implements RecipeService, InvalidationBus.Listener {
+
+  private final RecipeService delegate;
+  private final NewestRecipes all;
+  private final NewestRecipes vegetarian;
+  private final NewestRecipes nonVegetarian;
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+  public NewestRecipesService(RecipeService delegate, int capacity) {
+    this.delegate = delegate;
+    this.all = new NewestRecipes(null, capacity);
+    this.vegetarian = new NewestRecipes(true, capacity);
+    this.nonVegetarian = new NewestRecipes(false, capacity);
+  }
+
+  @Override
+  public Long create(RecipeDto recipe) throws ForbiddenException {
+    Long id = delegate.create(recipe);
+    refresh();
+    return id;
+  }
+
+  @Override
+  public List<Long> createAll(List<RecipeDto> recipes) throws ForbiddenException {
+    List<Long> ids = delegate.createAll(recipes);
+    refresh();
+    return ids;
+  }
+
+  @Override
+  public RecipeDto update(RecipeDto recipe) throws DataNotFoundException, ForbiddenException {
+    RecipeDto updated = delegate.update(recipe);
+    refresh();
+    return updated;
+  }
+
+  @Override
+  public void deleteById(Long id) throws DataNotFoundException, ForbiddenException {
+    delegate.deleteById(id);
+    refresh();
+  }
+
+  @Override
+  public RecipeDto findById(Long id, RecipeView view) throws DataNotFoundException {
+    return delegate.findById(id, view);
+  }
+
+  @Override
+  public RecipeLookupDto findAllByIds(List<Long> ids) throws InvalidDataException {
+    return delegate.findAllByIds(ids);
+  }
+
+  @Override
+  public RecipeChangesDto findChanges(long since, int limit) throws InvalidDataException, ForbiddenException {
+    return delegate.findChanges(since, limit);
+  }
+
+  @Override
+  public Page<RecipeDto> searchWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
+    PageRequest pageRequest = PageRequest.of(page, pageSize, sort);
+    NewestRecipes.Slice slice = newest(vegetarian, includedIngredients, excludedIngredients, instruction, title,
+      createdAfter, createdBefore, pageRequest);
+    if (slice == null) {
+      return delegate.searchWithFilters(vegetarian, servings, includedIngredients, excludedIngredients, match,
+        instruction, title, titleMatch, createdAfter, createdBefore, page, pageSize, sort, view);
+    }
+
+    List<RecipeDto> content = slice.recipes().stream().map(recipe -> copy(recipe, servings, view)).toList();
+    return new PageImpl<>(content, pageRequest, slice.total());
+  }
+
+  @Override
+  public long streamWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view,
+    Consumer<RecipeDto> consumer
+  ) {
+    NewestRecipes.Slice slice = newest(vegetarian, includedIngredients, excludedIngredients, instruction, title,
+      createdAfter, createdBefore, PageRequest.of(page, pageSize, sort));
+    if (slice == null) {
+      return delegate.streamWithFilters(vegetarian, servings, includedIngredients, excludedIngredients, match,
+        instruction, title, titleMatch, createdAfter, createdBefore, page, pageSize, sort, view, consumer);
+    }
+
+    slice.recipes().forEach(recipe -> consumer.accept(copy(recipe, servings, view)));
+    return slice.total();
+  }
+
+  @Override
+  public void streamSearchFields(Consumer<RecipeDto> consumer) {
+    delegate.streamSearchFields(consumer);
+  }
+
+  @Override
+  public long updateVegetarianWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    boolean markVegetarian,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException, ForbiddenException {
+    return delegate.updateVegetarianWithFilters(vegetarian, includedIngredients, excludedIngredients, match,
+      instruction, title, titleMatch, createdAfter, createdBefore, markVegetarian, refreshing(progress));
+  }
+
+  @Override
+  public long deleteWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException, ForbiddenException {
+    return delegate.deleteWithFilters(vegetarian, includedIngredients, excludedIngredients, match, instruction,
+      title, titleMatch, createdAfter, createdBefore, refreshing(progress));
+  }
+
+  @Override
+  public void invalidate(Long recipeId) {
+    pending.add(recipeId);
+  }
+
+  @Override
+  public void invalidateAll() {
+    rings().forEach(NewestRecipes::markStale);
+  }
+
+  /**
+   * Applies the recipes changed since the last call to every ring.
+   */
+  synchronized void refresh() {
+    List<Long> changed = new ArrayList<>();
+    for (Iterator<Long> ids = pending.iterator(); ids.hasNext(); ) {
+      changed.add(ids.next());
+      ids.remove();
+    }
+    if (rings().stream().allMatch(NewestRecipes::isStale)) {
+      // Each ring reloads before it is read, so there is nothing to look the changes up for.
+      return;
+    }
+    for (int from = 0; from < changed.size(); from += RecipeServiceImpl.MAX_LOOKUP_IDS) {
+      List<Long> ids = changed.subList(from, Math.min(changed.size(), from + RecipeServiceImpl.MAX_LOOKUP_IDS));
+      Map<Long, RecipeDto> recipesById = lookup(ids).getRecipes().stream()
+        .collect(Collectors.toMap(RecipeDto::getId, Function.identity()));
+      ids.forEach(id -> rings().forEach(ring -> ring.apply(id, recipesById.get(id))));
+    }
+  }
+
+  /**
+   * Loads the ring from the database when it is stale; changes published while it loads stay pending and are
+   * applied by the next refresh.
+   */
+  private synchronized void reload(NewestRecipes ring) {
+    refresh();
+    if (!ring.isStale()) {
+      return;
+    }
+
+    Page<RecipeDto> newest = delegate.searchWithFilters(ring.vegetarian(), 1, null, null, IngredientMatch.ANY, null,
+      null, null, null, null, 0, ring.capacity(), NewestRecipes.ORDER, RecipeView.FULL);
+    ring.load(newest.getContent(), newest.getTotalElements());
+    log.info("Loaded the [{}] newest recipes with vegetarian [{}] out of [{}]", newest.getNumberOfElements(),
+      ring.vegetarian(), newest.getTotalElements());
+  }
+
+  /**
+   * The page from the ring for the request, or {@code null} when the request filters, sorts or pages beyond what
+   * the rings hold, or is being explained and needs the real queries.
+   */
+  private NewestRecipes.Slice newest(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    String instruction,
+    String title,
+    Instant createdAfter,
+    Instant createdBefore,
+    PageRequest pageRequest
+  ) {
+    NewestRecipes ring = vegetarian == null ? all : vegetarian ? this.vegetarian : nonVegetarian;
+    boolean servable = !QueryTrace.isExplaining()
+      && (includedIngredients == null || includedIngredients.isEmpty())
+      && (excludedIngredients == null || excludedIngredients.isEmpty())
+      && (instruction == null || instruction.isBlank())
+      && (title == null || title.isBlank())
+      && createdAfter == null
+      && createdBefore == null
+      && NewestRecipes.ORDER.equals(pageRequest.getSort())
+      && pageRequest.getOffset() + pageRequest.getPageSize() <= ring.capacity();
+    if (!servable) {
+      return null;
+    }
+
+    if (!pending.isEmpty()) {
+      refresh();
+    }
+    if (ring.isStale()) {
+      reload(ring);
+    }
+    NewestRecipes.Slice slice = ring.slice(pageRequest.getOffset(), pageRequest.getPageSize());
+    if (slice == null) {
+      // Deletions left the ring short of this page.
+      ring.markStale();
+      reload(ring);
+      slice = ring.slice(pageRequest.getOffset(), pageRequest.getPageSize());
+    }
+    return slice;
+  }
+
+  private List<NewestRecipes> rings() {
+    return List.of(all, vegetarian, nonVegetarian);
+  }
+
+  private Consumer<BulkProgressDto> refreshing(Consumer<BulkProgressDto> progress) {
+    return chunk -> {
+      refresh();
+      progress.accept(chunk);
+    };
+  }
+
+  /**
+   * The rings are shared, so every response gets its own copy, scaled to the servings and cut to the view. As on
+   * the database path, only servings above 1 scale the quantities.
+   */
+  private RecipeDto copy(RecipeDto recipe, int servings, RecipeView view) {
+    RecipeDto copy = new RecipeDto(recipe.getId(), recipe.getTitle(), recipe.getDescription(), recipe.isVegetarian(),
+      null, null, recipe.getCreatedAt(), recipe.getUpdatedAt());
+    if (view != RecipeView.SUMMARY) {
+      copy.setInstructions(recipe.getInstructions());
+      copy.setIngredients(recipe.getIngredients().stream()
+        .map(ingredient -> new IngredientDto(ingredient.getId(), ingredient.getName(),
+          servings > 1 ? ingredient.getQuantity() * servings : ingredient.getQuantity(), ingredient.getUnit()))
+        .toList());
+    }
+    return copy;
+  }
+
+  private RecipeLookupDto lookup(List<Long> ids) {
+    try {
+      return delegate.findAllByIds(ids);
+    } catch (InvalidDataException ex) {
+      // Lookups are chunked to the allowed number of ids, so this means the limit changed under us.
+      throw new IllegalStateException("Newest recipes lookup of [" + ids.size() + "] ids was rejected", ex);
+    }
+  }
+}
@@ -0,0 +1,384 @@
+package com.platform.recipe.domain.services.implementations;
+
+import com.platform.recipe.domain.dtos.BulkProgressDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.readmodel.RecipeColumns;
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RecipeService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Answers searches from {@link RecipeColumns} instead of the database. Summaries come straight from memory and
+ * full pages fetch only their own rows by id; title, instruction and explained searches and title sorts still go to
+ * the database, which owns the title relevance ranking and collation, the instructions and the query plans. Every
+ * change published on the invalidation bus, from this node or another, is applied before the next search, and
+ * writes on this node apply theirs before they return so a client sees its own write in the next search.
+ *
+ * <p>The catalog is loaded on a background thread with no request deadline, at startup and whenever the bus may
+ * have missed changes. Until the first load finishes searches go to the database; a reload keeps serving the
+ * previous columns until the new ones are complete.
+ */
+@Slf4j
+public class ReadModelRecipeService implements RecipeService, InvalidationBus.Listener, AutoCloseable {
+
+  private final RecipeService delegate;
+  private final ForkJoinPool pool;
+  private final Executor loader;
+  private final AtomicBoolean loadScheduled = new AtomicBoolean();
+  private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+  private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+  private volatile RecipeColumns columns;
+  private volatile boolean current;
+  private volatile boolean loading;
+
+  public ReadModelRecipeService(RecipeService delegate, int parallelism) {
+    this(delegate, parallelism, Executors.newSingleThreadExecutor(loaderThreads()));
+  }
+
+  ReadModelRecipeService(RecipeService delegate, int parallelism, Executor loader) {
+    this.delegate = delegate;
+    this.pool = new ForkJoinPool(parallelism);
+    this.loader = loader;
+  }
+
+  @Override
+  public Long create(RecipeDto recipe) throws ForbiddenException {
+    Long id = delegate.create(recipe);
+    refresh();
+    return id;
+  }
+
+  @Override
+  public List<Long> createAll(List<RecipeDto> recipes) throws ForbiddenException {
+    List<Long> ids = delegate.createAll(recipes);
+    refresh();
+    return ids;
+  }
+
+  @Override
+  public RecipeDto update(RecipeDto recipe) throws DataNotFoundException, ForbiddenException {
+    RecipeDto updated = delegate.update(recipe);
+    refresh();
+    return updated;
+  }
+
+  @Override
+  public void deleteById(Long id) throws DataNotFoundException, ForbiddenException {
+    delegate.deleteById(id);
+    refresh();
+  }
+
+  @Override
+  public RecipeDto findById(Long id, RecipeView view) throws DataNotFoundException {
+    return delegate.findById(id, view);
+  }
+
+  @Override
+  public RecipeLookupDto findAllByIds(List<Long> ids) throws InvalidDataException {
+    return delegate.findAllByIds(ids);
+  }
+
+  @Override
+  public RecipeChangesDto findChanges(long since, int limit) throws InvalidDataException, ForbiddenException {
+    return delegate.findChanges(since, limit);
+  }
+
+  @Override
+  public Page<RecipeDto> searchWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
+    PageRequest pageRequest = PageRequest.of(page, pageSize, sort);
+    RecipeColumns.Matches matches = search(vegetarian, includedIngredients, excludedIngredients, match, instruction,
+      title, createdAfter, createdBefore, pageRequest);
+    if (matches == null) {
+      return delegate.searchWithFilters(vegetarian, servings, includedIngredients, excludedIngredients, match,
+        instruction, title, titleMatch, createdAfter, createdBefore, page, pageSize, sort, view);
+    }
+
+    List<RecipeDto> content = new ArrayList<>(matches.summaries().size());
+    emit(matches.summaries(), servings, view, content::add);
+    return new PageImpl<>(content, pageRequest, matches.total());
+  }
+
+  @Override
+  public long streamWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view,
+    Consumer<RecipeDto> consumer
+  ) {
+    RecipeColumns.Matches matches = search(vegetarian, includedIngredients, excludedIngredients, match, instruction,
+      title, createdAfter, createdBefore, PageRequest.of(page, pageSize, sort));
+    if (matches == null) {
+      return delegate.streamWithFilters(vegetarian, servings, includedIngredients, excludedIngredients, match,
+        instruction, title, titleMatch, createdAfter, createdBefore, page, pageSize, sort, view, consumer);
+    }
+    emit(matches.summaries(), servings, view, consumer);
+    return matches.total();
+  }
+
+  @Override
+  public void streamSearchFields(Consumer<RecipeDto> consumer) {
+    delegate.streamSearchFields(consumer);
+  }
+
+  /**
+   * The read model catches up after every chunk, so the changes it has to apply at a time stay one chunk large.
+   */
+  @Override
+  public long updateVegetarianWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    boolean markVegetarian,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException, ForbiddenException {
+    return delegate.updateVegetarianWithFilters(vegetarian, includedIngredients, excludedIngredients, match,
+      instruction, title, titleMatch, createdAfter, createdBefore, markVegetarian, refreshing(progress));
+  }
+
+  @Override
+  public long deleteWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException, ForbiddenException {
+    return delegate.deleteWithFilters(vegetarian, includedIngredients, excludedIngredients, match, instruction,
+      title, titleMatch, createdAfter, createdBefore, refreshing(progress));
+  }
+
+  @Override
+  public void invalidate(Long recipeId) {
+    if (loading) {
+      changedWhileLoading.add(recipeId);
+    }
+    pending.add(recipeId);
+  }
+
+  @Override
+  public void invalidateAll() {
+    current = false;
+    loadInBackground();
+  }
+
+  /**
+   * Starts a load of the whole catalog unless one is already waiting to run.
+   */
+  public void loadInBackground() {
+    if (loadScheduled.compareAndSet(false, true)) {
+      loader.execute(this::loadQuietly);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (loader instanceof ExecutorService executor) {
+      executor.shutdownNow();
+    }
+    pool.shutdownNow();
+  }
+
+  private Consumer<BulkProgressDto> refreshing(Consumer<BulkProgressDto> progress) {
+    return chunk -> {
+      refresh();
+      progress.accept(chunk);
+    };
+  }
+
+  /**
+   * Reads the search fields of every recipe into new columns and swaps them in. Changes published while it reads
+   * may be missing from what it read, so they are applied to the new columns right after the swap.
+   */
+  void load() {
+    loadScheduled.set(false);
+    changedWhileLoading.clear();
+    loading = true;
+    try {
+      RecipeColumns fresh = new RecipeColumns(pool);
+      long started = System.nanoTime();
+      delegate.streamSearchFields(fresh::upsert);
+      synchronized (this) {
+        columns = fresh;
+        current = true;
+        loading = false;
+        pending.addAll(changedWhileLoading);
+        changedWhileLoading.clear();
+      }
+      log.info("Loaded [{}] recipes into the read model in [{}] ms", fresh.size(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    } finally {
+      loading = false;
+    }
+  }
+
+  private void loadQuietly() {
+    try {
+      load();
+    } catch (RuntimeException ex) {
+      log.warn("Could not load the read model, searches keep using [{}]",
+        columns == null ? "the database" : "the previous load", ex);
+    }
+  }
+
+  /**
+   * Applies the changed recipes published since the last call to the columns being served. Before the first load
+   * there is nothing to apply them to; the load reads them itself.
+   */
+  synchronized void refresh() {
+    List<Long> changed = new ArrayList<>();
+    for (Iterator<Long> ids = pending.iterator(); ids.hasNext(); ) {
+      changed.add(ids.next());
+      ids.remove();
+    }
+    if (columns == null) {
+      return;
+    }
+    for (int from = 0; from < changed.size(); from += RecipeServiceImpl.MAX_LOOKUP_IDS) {
+      RecipeLookupDto lookup = lookup(changed.subList(from, Math.min(changed.size(), from + RecipeServiceImpl.MAX_LOOKUP_IDS)));
+      lookup.getRecipes().forEach(columns::upsert);
+      lookup.getMissingIds().forEach(columns::remove);
+    }
+  }
+
+  /**
+   * The matches from memory, or {@code null} when the search has to go to the database.
+   */
+  private RecipeColumns.Matches search(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    Instant createdAfter,
+    Instant createdBefore,
+    PageRequest pageRequest
+  ) {
+    if (!current) {
+      loadInBackground();
+    }
+    if (!servesInMemory(instruction, title, pageRequest.getSort()) || columns == null) {
+      return null;
+    }
+
+    if (!pending.isEmpty()) {
+      refresh();
+    }
+    return columns.search(vegetarian, includedIngredients, excludedIngredients, match, createdAfter, createdBefore,
+      pageRequest.getSort(), pageRequest.getOffset(), pageRequest.getPageSize());
+  }
+
+  /**
+   * Summaries are complete already; full recipes are read by id a lookup at a time and handed on in page order,
+   * leaving out any deleted since the search.
+   */
+  private void emit(List<RecipeDto> summaries, int servings, RecipeView view, Consumer<RecipeDto> consumer) {
+    if (view == RecipeView.SUMMARY) {
+      summaries.forEach(consumer);
+      return;
+    }
+
+    for (int from = 0; from < summaries.size(); from += RecipeServiceImpl.MAX_LOOKUP_IDS) {
+      List<Long> ids = summaries.subList(from, Math.min(summaries.size(), from + RecipeServiceImpl.MAX_LOOKUP_IDS))
+        .stream()
+        .map(RecipeDto::getId)
+        .toList();
+      Map<Long, RecipeDto> recipesById = lookup(ids).getRecipes().stream()
+        .collect(Collectors.toMap(RecipeDto::getId, Function.identity()));
+
+      ids.stream().map(recipesById::get).filter(recipe -> recipe != null).forEach(recipe -> {
+        if (servings > 1) {
+          recipe.getIngredients().forEach(ingredient -> ingredient.setQuantity(ingredient.getQuantity() * servings));
+        }
+        consumer.accept(recipe);
+      });
+    }
+  }
+
+  private RecipeLookupDto lookup(List<Long> ids) {
+    try {
+      return delegate.findAllByIds(ids);
+    } catch (InvalidDataException ex) {
+      // Lookups are chunked to the allowed number of ids, so this means the limit changed under us.
+      throw new IllegalStateException("Read model lookup of [" + ids.size() + "] ids was rejected", ex);
+    }
+  }
+
+  private static CustomizableThreadFactory loaderThreads() {
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("read-model-loader-");
+    threadFactory.setDaemon(true);
+    return threadFactory;
+  }
+
+  private boolean servesInMemory(String instruction, String title, Sort sort) {
+    return (instruction == null || instruction.isBlank()) && (title == null || title.isBlank())
+      && sort.getOrderFor("title") == null && !QueryTrace.isExplaining();
+  }
+}
@@ -1,42 +1,141 @@
 package com.platform.recipe.domain.services.implementations;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.domain.dtos.BulkProgressDto;
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangeDto;
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
 import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
 import com.platform.recipe.domain.entities.Ingredient;
 import com.platform.recipe.domain.entities.Recipe;
+import com.platform.recipe.domain.entities.RecipeChange;
 import com.platform.recipe.domain.exceptions.DataNotFoundException;
 import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.repositories.IngredientCatalogJpaRepository;
 import com.platform.recipe.domain.repositories.IngredientJpaRepository;
+import com.platform.recipe.domain.repositories.RecipeChangeJpaRepository;
 import com.platform.recipe.domain.repositories.RecipeJpaRepository;
+import com.platform.recipe.domain.services.ChangeFeedWatermark;
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RecipeFilters;
 import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.RequestDeadline;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service("recipeServiceImpl")
-@RequiredArgsConstructor
-public class RecipeServiceImpl implements RecipeService {
+@ConditionalOnProperty(prefix = "recipe.snapshot", name = "serve", havingValue = "false", matchIfMissing = true)
+public class RecipeServiceImpl implements RecipeService, InvalidationBus.Listener, Ordered {
+
+  static final int MAX_LOOKUP_IDS = 100;
+  private static final int STREAM_CHUNK_SIZE = 20;
+  private static final int MAX_CHANGES = 500;
+  private static final int BULK_CHUNK_SIZE = 500;
 
   private final RecipeJpaRepository recipeJpaRepository;
   private final IngredientJpaRepository ingredientJpaRepository;
+  private final IngredientCatalogJpaRepository ingredientCatalogJpaRepository;
+  private final RecipeChangeJpaRepository recipeChangeJpaRepository;
+  private final InvalidationBus invalidationBus;
   private final ObjectMapper objectMapper;
+  private final PlatformTransactionManager transactionManager;
+  private final SingleFlight<RecipeKey, Optional<RecipeDto>> recipeLoads = new SingleFlight<>();
+  private final SingleFlight<SearchKey, Page<RecipeDto>> searchLoads = new SingleFlight<>();
+
+  public RecipeServiceImpl(
+    RecipeJpaRepository recipeJpaRepository,
+    IngredientJpaRepository ingredientJpaRepository,
+    IngredientCatalogJpaRepository ingredientCatalogJpaRepository,
+    RecipeChangeJpaRepository recipeChangeJpaRepository,
+    InvalidationBus invalidationBus,
+    ObjectMapper objectMapper,
+    PlatformTransactionManager transactionManager
+  ) {
+    this.recipeJpaRepository = recipeJpaRepository;
+    this.ingredientJpaRepository = ingredientJpaRepository;
+    this.ingredientCatalogJpaRepository = ingredientCatalogJpaRepository;
+    this.recipeChangeJpaRepository = recipeChangeJpaRepository;
+    this.invalidationBus = invalidationBus;
+    this.objectMapper = objectMapper;
+    this.transactionManager = transactionManager;
+    invalidationBus.subscribe(this);
+  }
+
+  /**
+   * Loads that started before a change, here or on another node, must not be joined afterwards, or a response
+   * cache that has already moved to the new generation would store what they read.
+   */
+  @Override
+  public void invalidate(Long recipeId) {
+    for (RecipeView view : RecipeView.values()) {
+      recipeLoads.forget(new RecipeKey(recipeId, view));
+    }
+    searchLoads.forgetAll();
+  }
+
+  @Override
+  public void invalidateAll() {
+    forgetInFlightReads();
+  }
+
+  /**
+   * Ahead of the caches, so a request that sees their new generation can no longer join a load from before it.
+   */
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
 
   @Override
   public Long create(RecipeDto recipe) {
     log.info("Preparing to save new Recipe [{}]", recipe.getTitle());
-    Recipe saved = persistRecipe(recipe);
+    Recipe saved = inTransaction(() -> persistRecipe(recipe));
+    forgetInFlightReads();
     return saved.getId();
   }
 
+  /**
+   * All the recipes are saved in one transaction, so they share its commit; if one fails, none is saved.
+   */
+  @Override
+  public List<Long> createAll(List<RecipeDto> recipes) {
+    log.info("Preparing to save [{}] new recipes in one transaction", recipes.size());
+    List<Recipe> saved = inTransaction(() -> persistRecipes(recipes));
+    forgetInFlightReads();
+    return saved.stream().map(Recipe::getId).toList();
+  }
+
   @Override
   public RecipeDto update(RecipeDto recipe) throws DataNotFoundException {
     log.info("Preparing to update recipe id [{}]", recipe.getId());
@@ -44,7 +143,8 @@ public class RecipeServiceImpl implements RecipeService {
     Recipe entity = findRecipeById(recipe.getId());
 
     Timestamp createdAt = entity.getCreatedAt();
-    Recipe saved = persistRecipe(recipe);
+    Recipe saved = inTransaction(() -> persistRecipe(recipe));
+    forgetInFlightReads();
     RecipeDto recipeDto = objectMapper.convertValue(saved, RecipeDto.class);
     recipeDto.setCreatedAt(createdAt);
     return recipeDto;
@@ -54,16 +154,102 @@ public class RecipeServiceImpl implements RecipeService {
   public void deleteById(Long id) throws DataNotFoundException {
     log.info("Preparing to delete recipe id [{}]", id);
     recipeExistsById(id);
-    recipeJpaRepository.deleteById(id);
+    inTransaction(() -> {
+      recipeJpaRepository.deleteById(id);
+      recipeChangeJpaRepository.record(id, RecipeChangeType.DELETE);
+      invalidationBus.publish(id);
+      return null;
+    });
+    forgetInFlightReads();
   }
 
   @Override
-  public RecipeDto findById(Long id) throws DataNotFoundException {
-    log.info("Preparing to find recipe id [{}]", id);
+  public RecipeDto findById(Long id, RecipeView view) throws DataNotFoundException {
+    log.info("Preparing to find recipe id [{}] with view [{}]", id, view);
 
-    Recipe recipe = findRecipeById(id);
+    Optional<RecipeDto> recipe = recipeLoads.execute(
+      new RecipeKey(id, view),
+      () -> readOnly(() -> loadRecipe(id, view))
+    );
 
-    return objectMapper.convertValue(recipe, RecipeDto.class);
+    return recipe.orElseThrow(() -> {
+      log.info("Recipe not found id: [{}]", id);
+      return new DataNotFoundException(ErrorCode.RECIPE_NOT_FOUND);
+    });
+  }
+
+  @Override
+  public RecipeLookupDto findAllByIds(List<Long> ids) throws InvalidDataException {
+    log.info("Preparing to find recipes ids [{}]", ids);
+
+    List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+    if (distinctIds.isEmpty() || distinctIds.size() > MAX_LOOKUP_IDS) {
+      log.info("Invalid lookup with [{}] distinct ids", distinctIds.size());
+      throw new InvalidDataException(ErrorCode.TOO_MANY_IDS);
+    }
+
+    return readOnly(() -> {
+      Map<Long, Recipe> recipesById = loadRecipesById(distinctIds);
+
+      List<RecipeDto> found = new ArrayList<>();
+      List<Long> missingIds = new ArrayList<>();
+      distinctIds.forEach(id -> {
+        Recipe recipe = recipesById.get(id);
+        if (recipe == null) {
+          missingIds.add(id);
+        } else {
+          found.add(objectMapper.convertValue(recipe, RecipeDto.class));
+        }
+      });
+
+      return new RecipeLookupDto(found, missingIds);
+    });
+  }
+
+  @Override
+  public RecipeChangesDto findChanges(long since, int limit) throws InvalidDataException {
+    log.info("Preparing to find recipe changes since [{}], limit [{}]", since, limit);
+
+    if (since < 0 || limit < 1 || limit > MAX_CHANGES) {
+      log.info("Invalid changes request since [{}], limit [{}]", since, limit);
+      throw new InvalidDataException(ErrorCode.INVALID_CURSOR);
+    }
+
+    return readOnly(() -> {
+      ChangeFeedWatermark watermark = new ChangeFeedWatermark(since, Instant.now());
+      List<RecipeChange> changes = recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(since, Limit.of(limit))
+        .stream()
+        .takeWhile(change -> watermark.admit(change.getSeq(), change.getChangedAt()))
+        .toList();
+
+      Map<Long, RecipeChange> latestByRecipe = new LinkedHashMap<>();
+      changes.forEach(change -> {
+        latestByRecipe.remove(change.getRecipeId());
+        latestByRecipe.put(change.getRecipeId(), change);
+      });
+
+      List<Long> upsertedIds = latestByRecipe.values().stream()
+        .filter(change -> change.getChangeType() == RecipeChangeType.UPSERT)
+        .map(RecipeChange::getRecipeId)
+        .toList();
+      Map<Long, Recipe> recipesById = upsertedIds.isEmpty() ? Map.of() : loadRecipesById(upsertedIds);
+
+      List<RecipeChangeDto> feed = latestByRecipe.values().stream()
+        .filter(change -> change.getChangeType() == RecipeChangeType.DELETE || recipesById.containsKey(change.getRecipeId()))
+        .map(change -> new RecipeChangeDto(
+          change.getSeq(),
+          change.getRecipeId(),
+          change.getChangeType(),
+          change.getChangedAt(),
+          change.getChangeType() == RecipeChangeType.DELETE
+            ? null
+            : objectMapper.convertValue(recipesById.get(change.getRecipeId()), RecipeDto.class)
+        ))
+        .toList();
+
+      long nextCursor = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSeq();
+      return new RecipeChangesDto(feed, nextCursor, changes.size() == limit);
+    });
   }
 
   @Override
@@ -72,21 +258,293 @@ public class RecipeServiceImpl implements RecipeService {
     int servings,
     List<String> includedIngredients,
     List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
+
+    SearchKey key = new SearchKey(
+      vegetarian,
+      servings,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore,
+      page,
+      pageSize,
+      sort,
+      view
+    );
+
+    Supplier<Page<RecipeDto>> loader = () -> readOnly(() -> loadPage(
+      vegetarian,
+      servings,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore,
+      page,
+      pageSize,
+      sort,
+      view
+    ));
+
+    return QueryTrace.isExplaining() ? loader.get() : searchLoads.execute(key, loader);
+  }
+
+  @Override
+  public long streamWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
     String instruction,
+    String title,
+    TitleMatch titleMatch,
     Instant createdAfter,
     Instant createdBefore,
     int page,
     int pageSize,
-    String sort
+    Sort sort,
+    RecipeView view,
+    Consumer<RecipeDto> consumer
   ) {
+    return readOnly(() -> streamPage(
+      vegetarian,
+      servings,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore,
+      page,
+      pageSize,
+      sort,
+      view,
+      consumer
+    ));
+  }
+
+  /**
+   * Summaries with their ingredient names only: no instructions, quantities or units are read. Recipes are
+   * handed on {@value #MAX_LOOKUP_IDS} at a time, each batch with one ingredient query.
+   */
+  @Override
+  public void streamSearchFields(Consumer<RecipeDto> consumer) {
+    readOnly(() -> {
+      try (Stream<Recipe> recipes = recipeJpaRepository.streamSummaries()) {
+        List<Recipe> chunk = new ArrayList<>(MAX_LOOKUP_IDS);
+        recipes.forEach(recipe -> {
+          chunk.add(recipe);
+          if (chunk.size() == MAX_LOOKUP_IDS) {
+            emitSearchFields(chunk, consumer);
+          }
+        });
+        emitSearchFields(chunk, consumer);
+      }
+      return null;
+    });
+  }
+
+  /**
+   * Only recipes that are not already marked are selected, so every chunk does real work and running the same
+   * call again after a failure picks up the recipes that are left.
+   */
+  @Override
+  public long updateVegetarianWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    boolean markVegetarian,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException {
+    RecipeFilters.requireAny(vegetarian, includedIngredients, excludedIngredients, instruction, title, createdAfter,
+      createdBefore);
+    log.info("Preparing to mark recipes as vegetarian [{}] in bulk", markVegetarian);
+
+    if (vegetarian != null && vegetarian == markVegetarian) {
+      progress.accept(new BulkProgressDto(0, 0, 0, 0, 0, true));
+      return 0;
+    }
 
-    PageRequest pageRequest = PageRequest.of(page, pageSize, Sort.by(sort).descending());
+    return inChunks(!markVegetarian, includedIngredients, excludedIngredients, match, instruction, title, titleMatch,
+      createdAfter, createdBefore, progress, ids -> {
+        int updated = recipeJpaRepository.updateVegetarianByIds(ids, markVegetarian, Timestamp.from(Instant.now()));
+        recipeChangeJpaRepository.recordAll(ids, RecipeChangeType.UPSERT);
+        return updated;
+      });
+  }
+
+  @Override
+  public long deleteWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Consumer<BulkProgressDto> progress
+  ) throws InvalidDataException {
+    RecipeFilters.requireAny(vegetarian, includedIngredients, excludedIngredients, instruction, title, createdAfter,
+      createdBefore);
+    log.info("Preparing to delete recipes in bulk");
+
+    return inChunks(vegetarian, includedIngredients, excludedIngredients, match, instruction, title, titleMatch,
+      createdAfter, createdBefore, progress, ids -> {
+        ingredientJpaRepository.deleteByRecipeIds(ids);
+        recipeChangeJpaRepository.recordAll(ids, RecipeChangeType.DELETE);
+        return recipeJpaRepository.deleteByIds(ids);
+      });
+  }
+
+  private long streamPage(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view,
+    Consumer<RecipeDto> consumer
+  ) {
+
+    if (view == RecipeView.SUMMARY) {
+      Page<RecipeDto> summaryPage = loadPage(
+        vegetarian,
+        servings,
+        includedIngredients,
+        excludedIngredients,
+        match,
+        instruction,
+        title,
+        titleMatch,
+        createdAfter,
+        createdBefore,
+        page,
+        pageSize,
+        sort,
+        view
+      );
+      summaryPage.forEach(consumer);
+      return summaryPage.getTotalElements();
+    }
+
+    PageRequest pageRequest = PageRequest.of(page, pageSize, sort);
+
+    try (Stream<Recipe> recipes = recipeJpaRepository.streamWithFilters(
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore,
+      pageRequest
+    )) {
+      List<Recipe> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+      recipes.forEach(recipe -> {
+        chunk.add(recipe);
+        if (chunk.size() == STREAM_CHUNK_SIZE) {
+          emitChunk(chunk, servings, consumer);
+        }
+      });
+      emitChunk(chunk, servings, consumer);
+    }
+
+    return recipeJpaRepository.countWithFilters(
+      vegetarian,
+      includedIngredients,
+      excludedIngredients,
+      match,
+      instruction,
+      title,
+      titleMatch,
+      createdAfter,
+      createdBefore
+    );
+  }
+
+  private Page<RecipeDto> loadPage(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
+
+    PageRequest pageRequest = PageRequest.of(page, pageSize, sort);
+
+    if (view == RecipeView.SUMMARY) {
+      Page<Recipe> summaryPage = recipeJpaRepository.searchSummariesWithFilters(
+        vegetarian,
+        includedIngredients,
+        excludedIngredients,
+        match,
+        instruction,
+        title,
+        titleMatch,
+        createdAfter,
+        createdBefore,
+        pageRequest
+      );
+
+      return QueryTrace.stage("mapping", () -> summaryPage.map(recipe -> objectMapper.convertValue(recipe, RecipeDto.class)));
+    }
 
     Page<Recipe> recipePage = recipeJpaRepository.searchWithFilters(
       vegetarian,
       includedIngredients,
       excludedIngredients,
+      match,
       instruction,
+      title,
+      titleMatch,
       createdAfter,
       createdBefore,
       pageRequest
@@ -95,23 +553,91 @@ public class RecipeServiceImpl implements RecipeService {
     return convertPage(recipePage, servings);
   }
 
+  private void emitChunk(List<Recipe> chunk, int servings, Consumer<RecipeDto> consumer) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    hydrateInstructions(chunk);
+    hydrateIngredients(chunk);
+    chunk.forEach(recipe -> consumer.accept(toDto(recipe, servings)));
+
+    recipeJpaRepository.detach(chunk);
+    chunk.clear();
+  }
+
+  private void emitSearchFields(List<Recipe> chunk, Consumer<RecipeDto> consumer) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    List<Ingredient> ingredients = new ArrayList<>();
+    Map<Long, List<Ingredient>> grouped = new LinkedHashMap<>();
+    ingredientJpaRepository.findCatalogIdsByRecipeIdIn(chunk.stream().map(Recipe::getId).toList()).forEach(row -> {
+      Ingredient ingredient = new Ingredient();
+      ingredient.setCatalogId((Integer) row[1]);
+      ingredients.add(ingredient);
+      grouped.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(ingredient);
+    });
+    ingredientCatalogJpaRepository.resolveLabels(ingredients);
+
+    chunk.forEach(recipe -> consumer.accept(new RecipeDto(recipe.getId(), recipe.getTitle(), recipe.getDescription(),
+      recipe.isVegetarian(), null, grouped.getOrDefault(recipe.getId(), List.of()).stream()
+        .map(ingredient -> new IngredientDto(null, ingredient.getName(), 0, null))
+        .toList(), recipe.getCreatedAt(), recipe.getUpdatedAt())));
+    chunk.clear();
+  }
+
   private Page<RecipeDto> convertPage(Page<Recipe> recipePage, int servings) {
-    List<Long> recipeIds = recipePage.getContent().stream().map(Recipe::getId).toList();
+    QueryTrace.stage("hydration", () -> {
+      hydrateInstructions(recipePage.getContent());
+      hydrateIngredients(recipePage.getContent());
+    });
+
+    return QueryTrace.stage("mapping", () -> recipePage.map(recipe -> toDto(recipe, servings)));
+  }
+
+  private RecipeDto toDto(Recipe recipe, int servings) {
+    if (servings > 1) {
+      recipe.getIngredients().forEach(
+        ingredient -> ingredient.setQuantity(ingredient.getQuantity() * servings)
+      );
+    }
+
+    return objectMapper.convertValue(recipe, RecipeDto.class);
+  }
+
+  private Map<Long, Recipe> loadRecipesById(List<Long> ids) {
+    List<Recipe> recipes = recipeJpaRepository.findAllById(ids);
+    hydrateInstructions(recipes);
+    hydrateIngredients(recipes);
+    return recipes.stream().collect(Collectors.toMap(Recipe::getId, Function.identity()));
+  }
+
+  private void hydrateInstructions(List<Recipe> recipes) {
+    List<Long> recipeIds = recipes.stream()
+      .filter(recipe -> !Hibernate.isPropertyInitialized(recipe, "instructions"))
+      .map(Recipe::getId)
+      .toList();
+
+    if (recipeIds.isEmpty()) {
+      return;
+    }
+
+    Map<Long, String> instructions = recipeJpaRepository.findInstructionsByIds(recipeIds);
+    recipes.stream()
+      .filter(recipe -> instructions.containsKey(recipe.getId()))
+      .forEach(recipe -> recipe.setInstructions(instructions.get(recipe.getId())));
+  }
+
+  private void hydrateIngredients(List<Recipe> recipes) {
+    List<Long> recipeIds = recipes.stream().map(Recipe::getId).toList();
     List<Ingredient> ingredients = ingredientJpaRepository.findByRecipeIdIn(recipeIds);
+    ingredientCatalogJpaRepository.resolveLabels(ingredients);
     Map<Long, List<Ingredient>> grouped = ingredients.stream()
       .collect(Collectors.groupingBy(i -> i.getRecipe().getId()));
 
-    recipePage.getContent().forEach(recipe -> recipe.setIngredients(grouped.getOrDefault(recipe.getId(), List.of())));
-
-    return recipePage.map(recipe -> {
-      if (servings > 1) {
-        recipe.getIngredients().forEach(
-          ingredient -> ingredient.setQuantity(ingredient.getQuantity() * servings)
-        );
-      }
-
-      return objectMapper.convertValue(recipe, RecipeDto.class);
-    });
+    recipes.forEach(recipe -> recipe.setIngredients(grouped.getOrDefault(recipe.getId(), List.of())));
   }
 
   private Recipe findRecipeById(Long id) throws DataNotFoundException {
@@ -121,6 +647,7 @@ public class RecipeServiceImpl implements RecipeService {
     });
   }
 
+
   private void recipeExistsById(Long id) throws DataNotFoundException {
     if (!recipeJpaRepository.existsById(id)) {
       log.info("Recipe not found id [{}]", id);
@@ -128,11 +655,161 @@ public class RecipeServiceImpl implements RecipeService {
     }
   }
 
+  /**
+   * Runs the work in a read-only transaction whose timeout is the time left before the request deadline.
+   * Spring applies that timeout to every query of the transaction, and cancelling the deadline cancels the
+   * statement that is running.
+   */
+  private <T> T readOnly(Supplier<T> work) {
+    RequestDeadline deadline = RequestDeadline.current();
+    if (deadline.isExpired()) {
+      throw new QueryTimeoutException("Request deadline exceeded before the query started");
+    }
+
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setReadOnly(true);
+    transaction.setTimeout(deadline.remainingSeconds());
+
+    return transaction.execute(status -> deadline.cancellable(recipeJpaRepository.queryCanceller(), work));
+  }
+
+  /**
+   * Write transactions are bounded by {@link ChangeFeedWatermark#WRITE_TIMEOUT}, which change feed readers rely on
+   * to skip positions that will never commit.
+   */
+  private <T> T inTransaction(Supplier<T> work) {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    transaction.setTimeout((int) ChangeFeedWatermark.WRITE_TIMEOUT.toSeconds());
+    return transaction.execute(status -> work.get());
+  }
+
+  private Optional<RecipeDto> loadRecipe(Long id, RecipeView view) {
+    Optional<Recipe> recipe = view == RecipeView.SUMMARY
+      ? recipeJpaRepository.findSummaryById(id)
+      : recipeJpaRepository.findById(id);
+
+    return recipe.map(found -> {
+      if (view != RecipeView.SUMMARY) {
+        ingredientCatalogJpaRepository.resolveLabels(found.getIngredients());
+      }
+      return objectMapper.convertValue(found, RecipeDto.class);
+    });
+  }
+
+  private void forgetInFlightReads() {
+    recipeLoads.forgetAll();
+    searchLoads.forgetAll();
+  }
+
   private Recipe persistRecipe(RecipeDto recipe) {
-    Recipe entity = objectMapper.convertValue(recipe, Recipe.class);
-    entity.getIngredients().forEach(i -> i.setRecipe(entity));
+    return persistRecipes(List.of(recipe)).get(0);
+  }
 
-    return recipeJpaRepository.save(entity);
+  /**
+   * Saves the recipes, appends their changes to the feed and publishes their invalidations in the same
+   * transaction, after the saves so feed positions are drawn as close to the commit as possible and the inserts of
+   * every recipe go out in one flush. Ingredient names and units are normalized onto catalog ids first, and the saved
+   * ingredients carry the catalog spelling back.
+   */
+  private List<Recipe> persistRecipes(List<RecipeDto> recipes) {
+    List<Recipe> entities = recipes.stream().map(recipe -> {
+      Recipe entity = objectMapper.convertValue(recipe, Recipe.class);
+      entity.getIngredients().forEach(i -> i.setRecipe(entity));
+      return entity;
+    }).toList();
+    List<Ingredient> ingredients = entities.stream().flatMap(entity -> entity.getIngredients().stream()).toList();
+    ingredientCatalogJpaRepository.assignIds(ingredients);
+
+    // Pooled sequence ids let save defer every insert, so they are batched together at the first flush.
+    List<Recipe> saved = entities.stream().map(recipeJpaRepository::save).toList();
+    ingredientCatalogJpaRepository.resolveLabels(saved.stream().flatMap(recipe -> recipe.getIngredients().stream()).toList());
+    saved.forEach(recipe -> recipeChangeJpaRepository.record(recipe.getId(), RecipeChangeType.UPSERT));
+    invalidationBus.publish(saved.stream().map(Recipe::getId).toList());
+    return saved;
+  }
+
+  /**
+   * Applies the change to the matching recipes {@value #BULK_CHUNK_SIZE} ids at a time, walking the primary key
+   * upwards. Each chunk selects its ids, locks those that still match, changes them, records them in the feed and
+   * publishes them in its own transaction, so locks are held for one chunk only and a failure keeps the chunks
+   * already committed. Progress is reported after each commit and once more, with the totals, at the end.
+   */
+  private long inChunks(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Consumer<BulkProgressDto> progress,
+    Function<List<Long>, Integer> change
+  ) {
+    int chunks = 0;
+    long afterId = 0;
+    long total = 0;
+    while (true) {
+      if (RequestDeadline.current().isExpired()) {
+        throw new QueryTimeoutException("Request deadline exceeded after [" + chunks + "] bulk chunks");
+      }
+
+      long from = afterId;
+      BulkChunk chunk = inTransaction(() -> {
+        List<Long> ids = recipeJpaRepository.findIdsWithFilters(vegetarian, includedIngredients, excludedIngredients,
+          match, instruction, title, titleMatch, createdAfter, createdBefore, from, BULK_CHUNK_SIZE);
+        if (ids.isEmpty()) {
+          return null;
+        }
+        // A recipe changed since the select may no longer match; only the ones still matching are changed.
+        List<Long> matching = recipeJpaRepository.lockIdsWithFilters(ids, vegetarian, includedIngredients,
+          excludedIngredients, match, instruction, title, titleMatch, createdAfter, createdBefore);
+        int affected = matching.isEmpty() ? 0 : change.apply(matching);
+        invalidationBus.publish(matching);
+        return new BulkChunk(ids.get(ids.size() - 1), ids.size(), affected);
+      });
+      forgetInFlightReads();
+      if (chunk == null) {
+        break;
+      }
+
+      chunks++;
+      total += chunk.affected();
+      afterId = chunk.lastId();
+      log.info("Bulk chunk [{}] changed [{}] recipes with ids in ({}, {}]", chunks, chunk.affected(), from, afterId);
+      progress.accept(new BulkProgressDto(chunks, from, afterId, chunk.affected(), total, false));
+      if (chunk.size() < BULK_CHUNK_SIZE) {
+        break;
+      }
+    }
+
+    progress.accept(new BulkProgressDto(chunks, 0, afterId, 0, total, true));
+    return total;
+  }
+
+  private record BulkChunk(long lastId, int size, int affected) {
+  }
+
+  private record RecipeKey(Long id, RecipeView view) {
+  }
+
+  private record SearchKey(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
   }
 
 }
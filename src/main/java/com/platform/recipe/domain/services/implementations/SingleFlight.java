@@ -0,0 +1,127 @@
+package com.platform.recipe.domain.services.implementations;
+
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Lets concurrent callers asking for the same key share a single load: the first caller runs the loader and
+ * everyone arriving while it is still running receives its result (or its exception).
+ *
+ * <p>The load belongs to the flight rather than to the caller running it: it runs under a deadline of its own
+ * with no time limit, and is only cancelled once every caller has given up on it. Each caller waits no longer
+ * than its own deadline.
+ */
+final class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+  V execute(K key, Supplier<V> loader) {
+    RequestDeadline caller = RequestDeadline.current();
+    if (caller.isExpired()) {
+      throw new QueryTimeoutException("Request deadline exceeded before the load started");
+    }
+
+    Flight<V> flight = new Flight<>();
+    while (true) {
+      Flight<V> running = inFlight.putIfAbsent(key, flight);
+      if (running == null) {
+        return lead(key, flight, caller, loader);
+      }
+      Runnable leave = running.join();
+      if (leave != null) {
+        return follow(running, caller, leave);
+      }
+      inFlight.remove(key, running);
+    }
+  }
+
+  /**
+   * Stops new callers from joining loads that are already running, so they cannot observe data read before a
+   * write that has since committed.
+   */
+  void forgetAll() {
+    inFlight.clear();
+  }
+
+  void forget(K key) {
+    inFlight.remove(key);
+  }
+
+  private V lead(K key, Flight<V> flight, RequestDeadline caller, Supplier<V> loader) {
+    Runnable leave = flight.join();
+    try (RequestDeadline.Scope scope = flight.deadline.enter()) {
+      V value = caller.cancellable(leave, loader);
+      flight.result.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      flight.result.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+      leave.run();
+    }
+  }
+
+  private V follow(Flight<V> flight, RequestDeadline caller, Runnable leave) {
+    try {
+      long remainingNanos = caller.remainingNanos();
+      return remainingNanos == Long.MAX_VALUE
+        ? flight.result.get()
+        : flight.result.get(remainingNanos, TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (TimeoutException e) {
+      throw new QueryTimeoutException("Request deadline exceeded while waiting for a shared load");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new QueryTimeoutException("Interrupted while waiting for a shared load");
+    } finally {
+      leave.run();
+    }
+  }
+
+  private static final class Flight<V> {
+
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+    private final RequestDeadline deadline = RequestDeadline.unbounded();
+    private int waiters;
+    private boolean abandoned;
+
+    /**
+     * Adds a caller and returns the action that removes it again, or null when everyone already gave up and
+     * the load is being cancelled.
+     */
+    synchronized Runnable join() {
+      if (abandoned) {
+        return null;
+      }
+      waiters++;
+      AtomicBoolean left = new AtomicBoolean();
+      return () -> {
+        if (left.compareAndSet(false, true)) {
+          leave();
+        }
+      };
+    }
+
+    private synchronized void leave() {
+      if (--waiters == 0 && !result.isDone()) {
+        abandoned = true;
+        deadline.cancel();
+      }
+    }
+  }
+}
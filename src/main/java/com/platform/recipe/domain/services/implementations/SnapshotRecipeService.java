@@ -0,0 +1,396 @@
+package com.platform.recipe.domain.services.implementations;
+
+import com.platform.recipe.domain.dtos.BulkProgressDto;
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.services.IngredientVocabulary;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.RecipeSortPlanner;
+import com.platform.recipe.domain.services.RequestDeadline;
+import com.platform.recipe.domain.snapshot.RecipeSnapshot;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Answers reads from a mapped {@link RecipeSnapshot} instead of the database, for read nodes that have no
+ * connection to it. Filters and orders follow the database searches: ingredient names go through the catalog key,
+ * fuzzy titles fall back to the substring match used where pg_trgm is missing, and ties break on id. Writes and the
+ * change feed are refused since they need the primary.
+ */
+@Slf4j
+public class SnapshotRecipeService implements RecipeService {
+
+  private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+  private final Supplier<RecipeSnapshot> snapshot;
+
+  public SnapshotRecipeService(Supplier<RecipeSnapshot> snapshot) {
+    this.snapshot = snapshot;
+  }
+
+  @Override
+  public Long create(RecipeDto recipe) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public List<Long> createAll(List<RecipeDto> recipes) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public RecipeDto update(RecipeDto recipe) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public void deleteById(Long id) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public RecipeChangesDto findChanges(long since, int limit) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public long updateVegetarianWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    boolean markVegetarian,
+    Consumer<BulkProgressDto> progress
+  ) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public long deleteWithFilters(
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    Consumer<BulkProgressDto> progress
+  ) throws ForbiddenException {
+    throw readOnly();
+  }
+
+  @Override
+  public RecipeDto findById(Long id, RecipeView view) throws DataNotFoundException {
+    RecipeSnapshot current = snapshot.get();
+    int ordinal = current.find(id);
+    if (ordinal < 0) {
+      log.info("Recipe not found id: [{}]", id);
+      throw new DataNotFoundException(ErrorCode.RECIPE_NOT_FOUND);
+    }
+    return toDto(current, ordinal, view, 1);
+  }
+
+  @Override
+  public RecipeLookupDto findAllByIds(List<Long> ids) throws InvalidDataException {
+    List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+    if (distinctIds.isEmpty() || distinctIds.size() > RecipeServiceImpl.MAX_LOOKUP_IDS) {
+      log.info("Invalid lookup with [{}] distinct ids", distinctIds.size());
+      throw new InvalidDataException(ErrorCode.TOO_MANY_IDS);
+    }
+
+    RecipeSnapshot current = snapshot.get();
+    List<RecipeDto> found = new ArrayList<>();
+    List<Long> missingIds = new ArrayList<>();
+    distinctIds.forEach(id -> {
+      int ordinal = current.find(id);
+      if (ordinal < 0) {
+        missingIds.add(id);
+      } else {
+        found.add(toDto(current, ordinal, RecipeView.FULL, 1));
+      }
+    });
+    return new RecipeLookupDto(found, missingIds);
+  }
+
+  @Override
+  public Page<RecipeDto> searchWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view
+  ) {
+    RecipeSnapshot current = snapshot.get();
+    PageRequest pageRequest = PageRequest.of(page, pageSize, sort);
+    List<RecipeDto> content = new ArrayList<>(pageSize);
+
+    long total = search(current, vegetarian, includedIngredients, excludedIngredients, match, instruction, title,
+      titleMatch, createdAfter, createdBefore, pageRequest, ordinal -> content.add(toDto(current, ordinal, view, servings)));
+
+    return new PageImpl<>(content, pageRequest, total);
+  }
+
+  @Override
+  public long streamWithFilters(
+    Boolean vegetarian,
+    int servings,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    int page,
+    int pageSize,
+    Sort sort,
+    RecipeView view,
+    Consumer<RecipeDto> consumer
+  ) {
+    RecipeSnapshot current = snapshot.get();
+    return search(current, vegetarian, includedIngredients, excludedIngredients, match, instruction, title,
+      titleMatch, createdAfter, createdBefore, PageRequest.of(page, pageSize, sort),
+      ordinal -> consumer.accept(toDto(current, ordinal, view, servings)));
+  }
+
+  @Override
+  public void streamSearchFields(Consumer<RecipeDto> consumer) {
+    RecipeSnapshot current = snapshot.get();
+    for (int ordinal = 0; ordinal < current.size(); ordinal++) {
+      RecipeDto recipe = toDto(current, ordinal, RecipeView.SUMMARY, 1);
+      recipe.setIngredients(current.ingredients(ordinal));
+      consumer.accept(recipe);
+    }
+  }
+
+  /**
+   * Walks the stored order of the requested sort field, hands the ordinals of the requested page to the consumer
+   * and returns how many recipes matched in total. Title searches rank every match by relevance first, so they
+   * collect the matches before paging.
+   */
+  private long search(
+    RecipeSnapshot current,
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore,
+    PageRequest pageRequest,
+    IntConsumer consumer
+  ) {
+    IntPredicate filter = filter(current, vegetarian, includedIngredients, excludedIngredients, match, instruction,
+      title, titleMatch, createdAfter, createdBefore);
+    if (filter == null) {
+      return 0;
+    }
+
+    Sort.Order order = pageRequest.getSort().stream().findFirst()
+      .orElse(Sort.Order.desc(RecipeSortPlanner.TIE_BREAKER));
+    RecipeSnapshot.Order stored = storedOrder(order.getProperty());
+    RequestDeadline deadline = RequestDeadline.current();
+
+    long offset = pageRequest.getOffset();
+    int pageSize = pageRequest.getPageSize();
+    List<Integer> matches = new ArrayList<>();
+    long total = 0;
+    for (int rank = 0; rank < current.size(); rank++) {
+      if (rank % DEADLINE_CHECK_INTERVAL == 0 && deadline.isExpired()) {
+        throw new QueryTimeoutException("Request deadline exceeded while scanning the snapshot");
+      }
+
+      int ordinal = current.ordinalAt(stored, order.isAscending() ? rank : current.size() - 1 - rank);
+      if (!filter.test(ordinal)) {
+        continue;
+      }
+      if (title != null && !title.isBlank()) {
+        matches.add(ordinal);
+      } else if (total >= offset && total < offset + pageSize) {
+        consumer.accept(ordinal);
+      }
+      total++;
+    }
+
+    if (!matches.isEmpty()) {
+      String text = title.strip().toLowerCase(Locale.ROOT);
+      matches.stream()
+        .sorted(titleRelevance(current, text))
+        .skip(offset)
+        .limit(pageSize)
+        .forEach(consumer::accept);
+    }
+    return total;
+  }
+
+  /**
+   * The predicate for the filters, or null when they cannot match anything, such as an included ingredient no
+   * recipe uses.
+   */
+  private IntPredicate filter(
+    RecipeSnapshot current,
+    Boolean vegetarian,
+    List<String> includedIngredients,
+    List<String> excludedIngredients,
+    IngredientMatch match,
+    String instruction,
+    String title,
+    TitleMatch titleMatch,
+    Instant createdAfter,
+    Instant createdBefore
+  ) {
+    IntPredicate filter = ordinal -> true;
+
+    if (vegetarian != null) {
+      filter = filter.and(ordinal -> current.vegetarian(ordinal) == vegetarian);
+    }
+
+    if (createdAfter != null) {
+      long after = ChronoUnit.MICROS.between(Instant.EPOCH, createdAfter);
+      filter = filter.and(ordinal -> current.createdAtMicros(ordinal) >= after);
+    }
+
+    if (createdBefore != null) {
+      long before = ChronoUnit.MICROS.between(Instant.EPOCH, createdBefore);
+      filter = filter.and(ordinal -> current.createdAtMicros(ordinal) <= before);
+    }
+
+    if (includedIngredients != null && !includedIngredients.isEmpty()) {
+      Set<String> keys = includedIngredients.stream().map(IngredientVocabulary::nameKey).collect(Collectors.toSet());
+      List<Integer> catalog = keys.stream().map(current::catalogIndex).filter(index -> index >= 0).toList();
+      if (catalog.isEmpty() || match == IngredientMatch.ALL && catalog.size() < keys.size()) {
+        return null;
+      }
+
+      BitSet included = recipesWith(current, catalog.get(0));
+      catalog.stream().skip(1).forEach(index -> {
+        if (match == IngredientMatch.ALL) {
+          included.and(recipesWith(current, index));
+        } else {
+          included.or(recipesWith(current, index));
+        }
+      });
+      filter = filter.and(included::get);
+    }
+
+    if (excludedIngredients != null && !excludedIngredients.isEmpty()) {
+      BitSet excluded = new BitSet(current.size());
+      excludedIngredients.stream()
+        .map(name -> current.catalogIndex(IngredientVocabulary.nameKey(name)))
+        .filter(index -> index >= 0)
+        .forEach(index -> excluded.or(recipesWith(current, index)));
+      filter = filter.and(ordinal -> !excluded.get(ordinal));
+    }
+
+    if (title != null && !title.isBlank()) {
+      String text = title.strip().toLowerCase(Locale.ROOT);
+      filter = filter.and(titleMatch == TitleMatch.FUZZY
+        ? ordinal -> current.title(ordinal).toLowerCase(Locale.ROOT).contains(text)
+        : ordinal -> current.title(ordinal).toLowerCase(Locale.ROOT).startsWith(text));
+    }
+
+    if (instruction != null && !instruction.isBlank()) {
+      String text = instruction.toLowerCase();
+      filter = filter.and(ordinal -> current.instructions(ordinal).contains(text));
+    }
+
+    return filter;
+  }
+
+  private BitSet recipesWith(RecipeSnapshot current, int catalogIndex) {
+    BitSet recipes = new BitSet(current.size());
+    current.forEachRecipeWith(catalogIndex, recipes::set);
+    return recipes;
+  }
+
+  /**
+   * Exact titles first, then titles where the text appears earliest, then shorter titles, as the database does
+   * without trigram similarity. The sort is stable, so the requested order still breaks the remaining ties.
+   */
+  private Comparator<Integer> titleRelevance(RecipeSnapshot current, String text) {
+    return Comparator.<Integer>comparingInt(ordinal -> current.title(ordinal).toLowerCase(Locale.ROOT).equals(text) ? 0 : 1)
+      .thenComparingInt(ordinal -> current.title(ordinal).toLowerCase(Locale.ROOT).indexOf(text))
+      .thenComparingInt(ordinal -> current.title(ordinal).length());
+  }
+
+  private RecipeSnapshot.Order storedOrder(String property) {
+    return switch (property) {
+      case "createdAt" -> RecipeSnapshot.Order.CREATED_AT;
+      case "updatedAt" -> RecipeSnapshot.Order.UPDATED_AT;
+      case "title" -> RecipeSnapshot.Order.TITLE;
+      case RecipeSortPlanner.TIE_BREAKER -> RecipeSnapshot.Order.ID;
+      default -> throw new IllegalArgumentException("Snapshot cannot sort by [" + property + "]");
+    };
+  }
+
+  private RecipeDto toDto(RecipeSnapshot current, int ordinal, RecipeView view, int servings) {
+    RecipeDto recipe = new RecipeDto();
+    recipe.setId(current.id(ordinal));
+    recipe.setTitle(current.title(ordinal));
+    recipe.setDescription(current.description(ordinal));
+    recipe.setVegetarian(current.vegetarian(ordinal));
+    recipe.setCreatedAt(current.createdAt(ordinal));
+    recipe.setUpdatedAt(current.updatedAt(ordinal));
+
+    if (view != RecipeView.SUMMARY) {
+      List<IngredientDto> ingredients = current.ingredients(ordinal);
+      if (servings > 1) {
+        ingredients.forEach(ingredient -> ingredient.setQuantity(ingredient.getQuantity() * servings));
+      }
+      recipe.setInstructions(current.instructions(ordinal));
+      recipe.setIngredients(ingredients);
+    }
+    return recipe;
+  }
+
+  private ForbiddenException readOnly() {
+    log.info("Refusing a write on a read-only snapshot node");
+    return new ForbiddenException(ErrorCode.READ_ONLY_SNAPSHOT);
+  }
+}
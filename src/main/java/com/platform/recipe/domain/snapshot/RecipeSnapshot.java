@@ -0,0 +1,236 @@
+package com.platform.recipe.domain.snapshot;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only copy of the recipe catalog mapped from a file written by {@link RecipeSnapshotWriter}. Recipes are
+ * addressed by ordinal, their position in id order, and every field is read straight from the mapping with
+ * absolute gets, so any number of threads can query it and the page cache is the only copy of the data.
+ *
+ * <p>Layout, big-endian: a 64 byte header; an id index of {@code (id, record offset)} sorted by id; the ordinals
+ * sorted by created at, updated at and title, each ascending with ties in id order; the ingredient catalog, each
+ * entry with the ordinals of the recipes using it; the unit codes; and the recipe records.
+ */
+public final class RecipeSnapshot {
+
+  static final int MAGIC = 0x52435053;
+  static final int VERSION = 1;
+  static final int HEADER_BYTES = 64;
+  static final int ID_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+  private static final int CREATED_AT = Long.BYTES;
+  private static final int UPDATED_AT = CREATED_AT + Long.BYTES;
+  private static final int VEGETARIAN = UPDATED_AT + Long.BYTES;
+  private static final int TITLE = VEGETARIAN + 1;
+  private static final int INGREDIENT_BYTES = Long.BYTES + 3 * Integer.BYTES;
+
+  private final ByteBuffer buffer;
+  private final Instant builtAt;
+  private final int size;
+  private final int idIndexOffset;
+  private final int ordersOffset;
+  private final int recordsOffset;
+  private final Map<String, Integer> catalogByKey;
+  private final String[] catalogNames;
+  private final int[] postingOffsets;
+  private final String[] unitCodes;
+
+  private RecipeSnapshot(ByteBuffer buffer) throws IOException {
+    this.buffer = buffer;
+    if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+      throw new IOException("Not a recipe snapshot");
+    }
+    if (buffer.getInt(4) != VERSION) {
+      throw new IOException("Unsupported recipe snapshot version [" + buffer.getInt(4) + "]");
+    }
+
+    this.builtAt = Instant.ofEpochMilli(buffer.getLong(8));
+    this.size = buffer.getInt(16);
+    int catalogSize = buffer.getInt(20);
+    int unitCount = buffer.getInt(24);
+    this.idIndexOffset = buffer.getInt(28);
+    this.ordersOffset = buffer.getInt(32);
+    int catalogOffset = buffer.getInt(36);
+    int unitsOffset = buffer.getInt(40);
+    this.recordsOffset = buffer.getInt(44);
+
+    // The vocabulary is small and looked up by name, so it is the one part read onto the heap.
+    this.catalogByKey = new HashMap<>(catalogSize * 2);
+    this.catalogNames = new String[catalogSize];
+    this.postingOffsets = new int[catalogSize];
+    int position = catalogOffset;
+    for (int index = 0; index < catalogSize; index++) {
+      String key = readString(position);
+      position += Integer.BYTES + buffer.getInt(position);
+      catalogNames[index] = readString(position);
+      position += Integer.BYTES + buffer.getInt(position);
+      catalogByKey.put(key, index);
+      postingOffsets[index] = position;
+      position += Integer.BYTES + buffer.getInt(position) * Integer.BYTES;
+    }
+
+    this.unitCodes = new String[unitCount];
+    position = unitsOffset;
+    for (int index = 0; index < unitCount; index++) {
+      unitCodes[index] = readString(position);
+      position += Integer.BYTES + buffer.getInt(position);
+    }
+  }
+
+  /**
+   * The mapping outlives the channel, so the file can be replaced while this snapshot is still being read.
+   */
+  public static RecipeSnapshot open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Recipe snapshot [" + path + "] is larger than a single mapping allows");
+      }
+      return new RecipeSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  public Instant builtAt() {
+    return builtAt;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * The ordinal of the recipe with this id, or -1 when the snapshot does not have it.
+   */
+  public int find(long id) {
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      long found = id(middle);
+      if (found < id) {
+        low = middle + 1;
+      } else if (found > id) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * The ordinal at {@code rank} when recipes are ordered by the field, ascending with ties in id order.
+   */
+  public int ordinalAt(Order order, int rank) {
+    if (order == Order.ID) {
+      return rank;
+    }
+    return buffer.getInt(ordersOffset + (order.ordinal() * size + rank) * Integer.BYTES);
+  }
+
+  public long id(int ordinal) {
+    return buffer.getLong(idIndexOffset + ordinal * ID_ENTRY_BYTES);
+  }
+
+  public boolean vegetarian(int ordinal) {
+    return buffer.get(record(ordinal) + VEGETARIAN) != 0;
+  }
+
+  public long createdAtMicros(int ordinal) {
+    return buffer.getLong(record(ordinal) + CREATED_AT);
+  }
+
+  public Timestamp createdAt(int ordinal) {
+    return toTimestamp(createdAtMicros(ordinal));
+  }
+
+  public Timestamp updatedAt(int ordinal) {
+    return toTimestamp(buffer.getLong(record(ordinal) + UPDATED_AT));
+  }
+
+  public String title(int ordinal) {
+    return readString(record(ordinal) + TITLE);
+  }
+
+  public String description(int ordinal) {
+    return readString(skipString(record(ordinal) + TITLE));
+  }
+
+  public String instructions(int ordinal) {
+    return readString(skipString(skipString(record(ordinal) + TITLE)));
+  }
+
+  public List<IngredientDto> ingredients(int ordinal) {
+    int position = skipString(skipString(skipString(record(ordinal) + TITLE)));
+    int count = buffer.getInt(position);
+    position += Integer.BYTES;
+
+    List<IngredientDto> ingredients = new ArrayList<>(count);
+    for (int i = 0; i < count; i++, position += INGREDIENT_BYTES) {
+      int unit = buffer.getInt(position + Long.BYTES + 2 * Integer.BYTES);
+      ingredients.add(new IngredientDto(
+        buffer.getLong(position),
+        catalogNames[buffer.getInt(position + Long.BYTES)],
+        buffer.getInt(position + Long.BYTES + Integer.BYTES),
+        unit < 0 ? null : unitCodes[unit]
+      ));
+    }
+    return ingredients;
+  }
+
+  /**
+   * The catalog entry for an ingredient name key, or -1 when no recipe in the snapshot uses it.
+   */
+  public int catalogIndex(String nameKey) {
+    return catalogByKey.getOrDefault(nameKey, -1);
+  }
+
+  public void forEachRecipeWith(int catalogIndex, IntConsumer ordinals) {
+    int position = postingOffsets[catalogIndex];
+    int count = buffer.getInt(position);
+    for (int i = 0; i < count; i++) {
+      ordinals.accept(buffer.getInt(position + (i + 1) * Integer.BYTES));
+    }
+  }
+
+  private int record(int ordinal) {
+    return recordsOffset + buffer.getInt(idIndexOffset + ordinal * ID_ENTRY_BYTES + Long.BYTES);
+  }
+
+  private int skipString(int position) {
+    return position + Integer.BYTES + buffer.getInt(position);
+  }
+
+  private String readString(int position) {
+    byte[] bytes = new byte[buffer.getInt(position)];
+    buffer.get(position + Integer.BYTES, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static Timestamp toTimestamp(long micros) {
+    return Timestamp.from(Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L));
+  }
+
+  /**
+   * The orders kept in the file, in file order, plus id order which is the ordinal itself.
+   */
+  public enum Order {
+
+    CREATED_AT,
+    UPDATED_AT,
+    TITLE,
+    ID
+  }
+}
@@ -0,0 +1,286 @@
+package com.platform.recipe.domain.snapshot;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.services.IngredientVocabulary;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Writes recipes in the layout {@link RecipeSnapshot} maps. Readers keep the previous file mapped while a new one
+ * is written, so callers write to a temporary file and move it over the old one rather than writing in place.
+ *
+ * <p>Recipes are added one at a time in id order and their records go straight to a spill file next to the
+ * target, so the heap only holds the index: ids, offsets, timestamps, title ranks and ingredient postings. The
+ * title order is given afterwards by id, and {@link #finish()} writes the index followed by the spilled records.
+ */
+public final class RecipeSnapshotWriter implements Closeable {
+
+  private final Path target;
+  private final Instant builtAt;
+  private final Path spill;
+  private final DataOutputStream records;
+
+  // Vocabulary entries are numbered as they are first seen; readers look them up by key, not by position.
+  private final Map<String, Integer> catalogIndex = new HashMap<>();
+  private final List<String> catalogKeys = new ArrayList<>();
+  private final List<String> catalogNames = new ArrayList<>();
+  private final List<IntList> postings = new ArrayList<>();
+  private final Map<String, Integer> unitIndex = new HashMap<>();
+  private final List<String> unitCodes = new ArrayList<>();
+
+  private long[] ids = new long[1024];
+  private int[] recordOffsets = new int[1024];
+  private long[] createdAt = new long[1024];
+  private long[] updatedAt = new long[1024];
+  private int[] titleRanks;
+  private int titles;
+  private int size;
+
+  public RecipeSnapshotWriter(Path target, Instant builtAt) throws IOException {
+    this.target = target;
+    this.builtAt = builtAt;
+    Path directory = target.toAbsolutePath().getParent();
+    this.spill = Files.createTempFile(directory, target.getFileName().toString(), ".records");
+    this.records = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spill), 1 << 16));
+  }
+
+  /**
+   * Writes a snapshot of recipes already on the heap; {@code titleOrder} is given as to {@link #title(long)}.
+   */
+  public static void write(Path target, List<RecipeDto> recipes, List<Long> titleOrder, Instant builtAt)
+    throws IOException {
+    try (RecipeSnapshotWriter writer = new RecipeSnapshotWriter(target, builtAt)) {
+      for (RecipeDto recipe : recipes.stream().sorted(Comparator.comparing(RecipeDto::getId)).toList()) {
+        writer.add(recipe);
+      }
+      titleOrder.forEach(writer::title);
+      writer.finish();
+    }
+  }
+
+  /**
+   * Spills the record of the next recipe; recipes must come in ascending id order and before any title.
+   */
+  public void add(RecipeDto recipe) throws IOException {
+    if (titleRanks != null) {
+      throw new IllegalStateException("Recipes cannot be added once the title order is being given");
+    }
+    if (size > 0 && recipe.getId() <= ids[size - 1]) {
+      throw new IllegalArgumentException("Recipe [" + recipe.getId() + "] is not after [" + ids[size - 1] + "]");
+    }
+    if (size == ids.length) {
+      ids = Arrays.copyOf(ids, size * 2);
+      recordOffsets = Arrays.copyOf(recordOffsets, size * 2);
+      createdAt = Arrays.copyOf(createdAt, size * 2);
+      updatedAt = Arrays.copyOf(updatedAt, size * 2);
+    }
+
+    int ordinal = size++;
+    ids[ordinal] = recipe.getId();
+    recordOffsets[ordinal] = records.size();
+    createdAt[ordinal] = toMicros(recipe.getCreatedAt());
+    updatedAt[ordinal] = toMicros(recipe.getUpdatedAt());
+
+    records.writeLong(recipe.getId());
+    records.writeLong(createdAt[ordinal]);
+    records.writeLong(updatedAt[ordinal]);
+    records.writeByte(recipe.isVegetarian() ? 1 : 0);
+    writeString(records, recipe.getTitle());
+    writeString(records, recipe.getDescription());
+    writeString(records, recipe.getInstructions());
+
+    List<IngredientDto> ingredients = ingredientsOf(recipe);
+    records.writeInt(ingredients.size());
+    for (IngredientDto ingredient : ingredients) {
+      int catalog = catalogEntry(ingredient.getName());
+      records.writeLong(ingredient.getId() == null ? 0 : ingredient.getId());
+      records.writeInt(catalog);
+      records.writeInt(ingredient.getQuantity());
+      records.writeInt(unitEntry(ingredient.getUnit()));
+      postings.get(catalog).addOnce(ordinal);
+    }
+    if (records.size() == Integer.MAX_VALUE) {
+      throw new IOException("Snapshot records are larger than a single mapping allows");
+    }
+  }
+
+  /**
+   * Gives the next recipe in the order the database sorts titles in, so the stored title order follows the
+   * database collation rather than Java's string order. Ids that were not added are skipped, and recipes never
+   * given go last, by id.
+   */
+  public void title(long id) {
+    if (titleRanks == null) {
+      titleRanks = new int[size];
+      Arrays.fill(titleRanks, Integer.MAX_VALUE);
+    }
+    int ordinal = Arrays.binarySearch(ids, 0, size, id);
+    if (ordinal >= 0 && titleRanks[ordinal] == Integer.MAX_VALUE) {
+      titleRanks[ordinal] = titles++;
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Writes the index and then copies the spilled records after it.
+   */
+  public void finish() throws IOException {
+    records.close();
+    int[] ranks = titleRanks == null ? new int[size] : titleRanks;
+    int[][] orders = {
+      sortedOrdinals(size, Comparator.comparingLong(ordinal -> createdAt[ordinal])),
+      sortedOrdinals(size, Comparator.comparingLong(ordinal -> updatedAt[ordinal])),
+      sortedOrdinals(size, Comparator.comparingInt(ordinal -> ranks[ordinal]))
+    };
+
+    ByteArrayOutputStream catalogBytes = new ByteArrayOutputStream();
+    DataOutputStream catalog = new DataOutputStream(catalogBytes);
+    for (int index = 0; index < catalogKeys.size(); index++) {
+      writeString(catalog, catalogKeys.get(index));
+      writeString(catalog, catalogNames.get(index));
+      IntList posting = postings.get(index);
+      catalog.writeInt(posting.size);
+      for (int i = 0; i < posting.size; i++) {
+        catalog.writeInt(posting.values[i]);
+      }
+    }
+
+    ByteArrayOutputStream unitBytes = new ByteArrayOutputStream();
+    DataOutputStream units = new DataOutputStream(unitBytes);
+    for (String unit : unitCodes) {
+      writeString(units, unit);
+    }
+
+    long idIndexOffset = RecipeSnapshot.HEADER_BYTES;
+    long ordersOffset = idIndexOffset + (long) size * RecipeSnapshot.ID_ENTRY_BYTES;
+    long catalogOffset = ordersOffset + (long) orders.length * size * Integer.BYTES;
+    long unitsOffset = catalogOffset + catalog.size();
+    long recordsOffset = unitsOffset + units.size();
+    long fileSize = recordsOffset + Files.size(spill);
+    if (fileSize > Integer.MAX_VALUE) {
+      throw new IOException("Snapshot of [" + fileSize + "] bytes is larger than a single mapping allows");
+    }
+
+    try (OutputStream file = Files.newOutputStream(target);
+         DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+      out.writeInt(RecipeSnapshot.MAGIC);
+      out.writeInt(RecipeSnapshot.VERSION);
+      out.writeLong(builtAt.toEpochMilli());
+      out.writeInt(size);
+      out.writeInt(catalogKeys.size());
+      out.writeInt(unitCodes.size());
+      out.writeInt((int) idIndexOffset);
+      out.writeInt((int) ordersOffset);
+      out.writeInt((int) catalogOffset);
+      out.writeInt((int) unitsOffset);
+      out.writeInt((int) recordsOffset);
+      out.write(new byte[RecipeSnapshot.HEADER_BYTES - out.size()]);
+
+      for (int ordinal = 0; ordinal < size; ordinal++) {
+        out.writeLong(ids[ordinal]);
+        out.writeInt(recordOffsets[ordinal]);
+      }
+      for (int[] order : orders) {
+        for (int ordinal : order) {
+          out.writeInt(ordinal);
+        }
+      }
+      catalogBytes.writeTo(out);
+      unitBytes.writeTo(out);
+      Files.copy(spill, out);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      records.close();
+    } finally {
+      Files.deleteIfExists(spill);
+    }
+  }
+
+  // Ingredient names are keyed the way the catalog folds them, so the filters resolve names like the database does.
+  private int catalogEntry(String name) {
+    return catalogIndex.computeIfAbsent(IngredientVocabulary.nameKey(name), key -> {
+      catalogKeys.add(key);
+      catalogNames.add(IngredientVocabulary.displayName(name));
+      postings.add(new IntList());
+      return catalogKeys.size() - 1;
+    });
+  }
+
+  private int unitEntry(String unit) {
+    String code = IngredientVocabulary.unitCode(unit);
+    if (code == null) {
+      return -1;
+    }
+    return unitIndex.computeIfAbsent(code, key -> {
+      unitCodes.add(key);
+      return unitCodes.size() - 1;
+    });
+  }
+
+  private static List<IngredientDto> ingredientsOf(RecipeDto recipe) {
+    return recipe.getIngredients() == null ? List.of() : recipe.getIngredients();
+  }
+
+  /**
+   * Ordinals follow ids, so breaking ties on the ordinal breaks them on the id, as the sort planner does.
+   */
+  private static int[] sortedOrdinals(int count, Comparator<Integer> comparator) {
+    Integer[] ordinals = IntStream.range(0, count).boxed().toArray(Integer[]::new);
+    Arrays.sort(ordinals, comparator.thenComparing(Comparator.naturalOrder()));
+    return Arrays.stream(ordinals).mapToInt(Integer::intValue).toArray();
+  }
+
+  private static long toMicros(Timestamp timestamp) {
+    Instant instant = timestamp.toInstant();
+    return instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Ordinals of the recipes using one ingredient, ascending since recipes are added in ordinal order.
+   */
+  private static final class IntList {
+
+    private int[] values = new int[8];
+    private int size;
+
+    void addOnce(int value) {
+      if (size > 0 && values[size - 1] == value) {
+        return;
+      }
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+  }
+}
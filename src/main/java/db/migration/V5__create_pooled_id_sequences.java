@@ -0,0 +1,43 @@
+package db.migration;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Sequences for pooled id generation, so Hibernate can assign ids without inserting and batch the inserts.
+ * They start past the ids already handed out by the identity columns, which neither H2 nor PostgreSQL can
+ * express in plain DDL, hence a Java migration. The identity columns are replaced by sequence defaults so
+ * rows inserted outside Hibernate draw from the same sequence; with the pooled optimizer a plain next value
+ * never falls inside a block Hibernate has already reserved.
+ */
+public class V5__create_pooled_id_sequences extends BaseJavaMigration {
+
+  private static final int ALLOCATION_SIZE = 50;
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    boolean postgres = context.getConnection().getMetaData().getDatabaseProductName().equals("PostgreSQL");
+    try (Statement statement = context.getConnection().createStatement()) {
+      createSequence(statement, "recipe_seq", "recipe", postgres);
+      createSequence(statement, "ingredient_seq", "ingredient", postgres);
+    }
+  }
+
+  private void createSequence(Statement statement, String sequence, String table, boolean postgres)
+    throws SQLException {
+    long maxId;
+    try (ResultSet rows = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+      rows.next();
+      maxId = rows.getLong(1);
+    }
+
+    statement.execute("CREATE SEQUENCE " + sequence + " START WITH " + (maxId + ALLOCATION_SIZE + 1)
+      + " INCREMENT BY " + ALLOCATION_SIZE);
+    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+    statement.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT "
+      + (postgres ? "nextval('" + sequence + "')" : "NEXT VALUE FOR " + sequence));
+  }
+}
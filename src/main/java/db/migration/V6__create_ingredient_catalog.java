@@ -0,0 +1,226 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Moves ingredient names and units into dictionary tables and keeps only their integer ids on each ingredient
+ * row. Existing values are folded with the rules IngredientVocabulary applied on write when this migration was
+ * written, which is why this is a Java migration. The rules are copied here so later changes to the vocabulary
+ * do not change what this migration does. Rows without a name are pointed at a catalog entry of their own
+ * before the column becomes mandatory.
+ */
+public class V6__create_ingredient_catalog extends BaseJavaMigration {
+
+  private static final String UNNAMED = "(unnamed)";
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private static final Map<String, String> UNIT_ALIASES = Map.ofEntries(
+    Map.entry("gram", "g"),
+    Map.entry("grams", "g"),
+    Map.entry("gr", "g"),
+    Map.entry("kilogram", "kg"),
+    Map.entry("kilograms", "kg"),
+    Map.entry("kilo", "kg"),
+    Map.entry("kilos", "kg"),
+    Map.entry("milligram", "mg"),
+    Map.entry("milligrams", "mg"),
+    Map.entry("milliliter", "ml"),
+    Map.entry("milliliters", "ml"),
+    Map.entry("millilitre", "ml"),
+    Map.entry("millilitres", "ml"),
+    Map.entry("liter", "l"),
+    Map.entry("liters", "l"),
+    Map.entry("litre", "l"),
+    Map.entry("litres", "l"),
+    Map.entry("tablespoon", "tbsp"),
+    Map.entry("tablespoons", "tbsp"),
+    Map.entry("teaspoon", "tsp"),
+    Map.entry("teaspoons", "tsp"),
+    Map.entry("cups", "cup"),
+    Map.entry("pieces", "piece"),
+    Map.entry("pc", "piece"),
+    Map.entry("pcs", "piece"),
+    Map.entry("pinches", "pinch"),
+    Map.entry("ounce", "oz"),
+    Map.entry("ounces", "oz"),
+    Map.entry("pound", "lb"),
+    Map.entry("pounds", "lb"),
+    Map.entry("lbs", "lb")
+  );
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    Connection connection = context.getConnection();
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE ingredient_catalog ("
+        + " id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+        + " name VARCHAR(255) NOT NULL,"
+        + " normalized_name VARCHAR(255) NOT NULL,"
+        + " CONSTRAINT uk_ingredient_catalog_normalized_name UNIQUE (normalized_name))");
+      statement.execute("CREATE TABLE ingredient_unit ("
+        + " id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,"
+        + " code VARCHAR(255) NOT NULL,"
+        + " CONSTRAINT uk_ingredient_unit_code UNIQUE (code))");
+      statement.execute("ALTER TABLE ingredient ADD COLUMN catalog_id INTEGER");
+      statement.execute("ALTER TABLE ingredient ADD COLUMN unit_id INTEGER");
+
+      Map<String, Integer> catalogIds = backfill(connection,
+        "SELECT name FROM ingredient WHERE name IS NOT NULL GROUP BY name ORDER BY MIN(id)",
+        V6__create_ingredient_catalog::nameKey, V6__create_ingredient_catalog::displayName,
+        "INSERT INTO ingredient_catalog (normalized_name, name) VALUES (?, ?)",
+        "UPDATE ingredient SET catalog_id = ? WHERE name = ?");
+      assignUnnamed(connection, catalogIds);
+      backfill(connection, "SELECT unit FROM ingredient WHERE unit IS NOT NULL GROUP BY unit ORDER BY MIN(id)",
+        V6__create_ingredient_catalog::unitCode, null,
+        "INSERT INTO ingredient_unit (code) VALUES (?)",
+        "UPDATE ingredient SET unit_id = ? WHERE unit = ?");
+
+      statement.execute("ALTER TABLE ingredient ALTER COLUMN catalog_id SET NOT NULL");
+      statement.execute("ALTER TABLE ingredient ADD CONSTRAINT fk_ingredient_catalog"
+        + " FOREIGN KEY (catalog_id) REFERENCES ingredient_catalog (id)");
+      statement.execute("ALTER TABLE ingredient ADD CONSTRAINT fk_ingredient_unit"
+        + " FOREIGN KEY (unit_id) REFERENCES ingredient_unit (id)");
+
+      statement.execute("DROP INDEX idx_ingredient_recipe_id_name");
+      statement.execute("DROP INDEX idx_ingredient_name_recipe_id");
+      statement.execute("ALTER TABLE ingredient DROP COLUMN name");
+      statement.execute("ALTER TABLE ingredient DROP COLUMN unit");
+
+      // Same access paths as V2, on integer ids instead of names.
+      statement.execute("CREATE INDEX idx_ingredient_recipe_id_catalog_id ON ingredient (recipe_id, catalog_id)");
+      statement.execute("CREATE INDEX idx_ingredient_catalog_id_recipe_id ON ingredient (catalog_id, recipe_id)");
+    }
+  }
+
+  /**
+   * Inserts one dictionary row per distinct key, labelled with the first value seen for it unless the key is
+   * its own label, and points every ingredient row holding one of the key's spellings at it.
+   */
+  private Map<String, Integer> backfill(
+    Connection connection,
+    String distinctValuesSql,
+    UnaryOperator<String> key,
+    UnaryOperator<String> label,
+    String insertSql,
+    String updateSql
+  ) throws SQLException {
+    List<String> values = new ArrayList<>();
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery(distinctValuesSql)) {
+      while (rows.next()) {
+        values.add(rows.getString(1));
+      }
+    }
+
+    Map<String, Integer> idsByKey = new HashMap<>();
+    try (PreparedStatement insert = connection.prepareStatement(insertSql, new String[] {"id"});
+         PreparedStatement update = connection.prepareStatement(updateSql)) {
+      for (String value : values) {
+        String valueKey = key.apply(value);
+        if (valueKey == null) {
+          continue;
+        }
+
+        Integer id = idsByKey.get(valueKey);
+        if (id == null) {
+          id = insert(insert, valueKey, label == null ? null : label.apply(value));
+          idsByKey.put(valueKey, id);
+        }
+
+        update.setInt(1, id);
+        update.setString(2, value);
+        update.addBatch();
+      }
+      update.executeBatch();
+    }
+    return idsByKey;
+  }
+
+  /**
+   * Databases created by {@code ddl-auto: update} allowed ingredients without a name, and blank names have no
+   * key. Both are filed under one placeholder entry so the catalog id can be made mandatory.
+   */
+  private void assignUnnamed(Connection connection, Map<String, Integer> catalogIds) throws SQLException {
+    try (Statement statement = connection.createStatement();
+         ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM ingredient WHERE catalog_id IS NULL")) {
+      rows.next();
+      if (rows.getLong(1) == 0) {
+        return;
+      }
+    }
+
+    Integer id = catalogIds.get(UNNAMED);
+    if (id == null) {
+      try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO ingredient_catalog (normalized_name, name) VALUES (?, ?)", new String[] {"id"})) {
+        id = insert(insert, UNNAMED, UNNAMED);
+      }
+    }
+    try (PreparedStatement update = connection.prepareStatement(
+      "UPDATE ingredient SET catalog_id = ? WHERE catalog_id IS NULL")) {
+      update.setInt(1, id);
+      update.executeUpdate();
+    }
+  }
+
+  private int insert(PreparedStatement insert, String key, String label) throws SQLException {
+    insert.setString(1, key);
+    if (label != null) {
+      insert.setString(2, label);
+    }
+    insert.executeUpdate();
+    try (ResultSet keys = insert.getGeneratedKeys()) {
+      keys.next();
+      return keys.getInt(1);
+    }
+  }
+
+  private static String displayName(String name) {
+    return WHITESPACE.matcher(name.strip()).replaceAll(" ");
+  }
+
+  /**
+   * Returns {@code null} for a blank name, which is filed under {@link #UNNAMED}.
+   */
+  private static String nameKey(String name) {
+    if (name.isBlank()) {
+      return null;
+    }
+    return singular(displayName(name).toLowerCase(Locale.ROOT));
+  }
+
+  private static String unitCode(String unit) {
+    if (unit.isBlank()) {
+      return null;
+    }
+    String code = displayName(unit).toLowerCase(Locale.ROOT);
+    return UNIT_ALIASES.getOrDefault(code, code);
+  }
+
+  private static String singular(String key) {
+    int length = key.length();
+    if (length > 4 && key.endsWith("ies")) {
+      return key.substring(0, length - 3) + "y";
+    }
+    if (length > 4 && key.endsWith("oes")) {
+      return key.substring(0, length - 2);
+    }
+    if (length > 3 && key.endsWith("s") && !key.endsWith("ss") && !key.endsWith("us") && !key.endsWith("is")) {
+      return key.substring(0, length - 1);
+    }
+    return key;
+  }
+}
@@ -0,0 +1,30 @@
+package db.migration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Change feed positions come from a sequence instead of the single cursor row every write had to lock, which
+ * serialized all writes. The sequence starts past the last position handed out, which plain DDL cannot express
+ * on either database, hence a Java migration.
+ */
+public class V9__draw_recipe_change_positions_from_sequence extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    try (Statement statement = context.getConnection().createStatement()) {
+      long lastSeq;
+      try (ResultSet rows = statement.executeQuery(
+        "SELECT GREATEST(COALESCE(MAX(c.last_seq), 0), (SELECT COALESCE(MAX(seq), 0) FROM recipe_change))"
+          + " FROM recipe_change_cursor c")) {
+        rows.next();
+        lastSeq = rows.getLong(1);
+      }
+
+      statement.execute("CREATE SEQUENCE recipe_change_seq START WITH " + (lastSeq + 1) + " INCREMENT BY 1");
+      statement.execute("DROP TABLE recipe_change_cursor");
+    }
+  }
+}
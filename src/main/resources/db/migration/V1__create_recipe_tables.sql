@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS recipe (
+  id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  title           VARCHAR(255) NOT NULL,
+  description     VARCHAR(255) NOT NULL,
+  is_vegetarian   BOOLEAN      NOT NULL,
+  instructions    TEXT         NOT NULL,
+  created_at      TIMESTAMP(6) NOT NULL,
+  updated_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS ingredient (
+  id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  name        VARCHAR(255) NOT NULL,
+  quantity    INTEGER      NOT NULL,
+  unit        VARCHAR(255),
+  recipe_id   BIGINT,
+  CONSTRAINT fk_ingredient_recipe FOREIGN KEY (recipe_id) REFERENCES recipe (id)
+);
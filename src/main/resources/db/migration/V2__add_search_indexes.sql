@@ -0,0 +1,11 @@
+-- Ingredient hydration (findByRecipeIdIn), FK checks on recipe delete and the correlated exclude subquery.
+CREATE INDEX idx_ingredient_recipe_id_name ON ingredient (recipe_id, name);
+
+-- Include semi-join: name IN (...) resolved to recipe ids without touching the heap.
+CREATE INDEX idx_ingredient_name_recipe_id ON ingredient (name, recipe_id);
+
+-- Default listing order (createdAt DESC, id DESC) and createdAfter/createdBefore ranges.
+CREATE INDEX idx_recipe_created_at_id ON recipe (created_at DESC, id DESC);
+
+-- Vegetarian filter combined with the default order.
+CREATE INDEX idx_recipe_vegetarian_created_at_id ON recipe (is_vegetarian, created_at DESC, id DESC);
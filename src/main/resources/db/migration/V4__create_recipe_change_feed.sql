@@ -0,0 +1,20 @@
+-- Change feed: one row per created/updated/deleted recipe. The sequence is handed out from a single cursor row
+-- that each write locks right before committing, so sequence order is commit order and a reader paging with
+-- seq > cursor never skips a change that commits late.
+CREATE TABLE IF NOT EXISTS recipe_change (
+  seq          BIGINT       PRIMARY KEY,
+  recipe_id    BIGINT       NOT NULL,
+  change_type  VARCHAR(16)  NOT NULL,
+  changed_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS recipe_change_cursor (
+  id        SMALLINT PRIMARY KEY,
+  last_seq  BIGINT   NOT NULL
+);
+
+-- Existing recipes enter the feed as upserts, so syncing from 0 returns the whole catalog.
+INSERT INTO recipe_change (seq, recipe_id, change_type, changed_at)
+SELECT ROW_NUMBER() OVER (ORDER BY updated_at, id), id, 'UPSERT', updated_at FROM recipe;
+
+INSERT INTO recipe_change_cursor (id, last_seq) SELECT 1, COALESCE(MAX(seq), 0) FROM recipe_change;
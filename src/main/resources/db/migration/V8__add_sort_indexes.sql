@@ -0,0 +1,5 @@
+-- Every sortable field has a (field, id) index so a page is a bounded index scan in either direction.
+-- createdAt is already served by idx_recipe_created_at_id and id by the primary key.
+CREATE INDEX idx_recipe_updated_at_id ON recipe (updated_at DESC, id DESC);
+
+CREATE INDEX idx_recipe_title_id ON recipe (title, id);
@@ -1,13 +1,38 @@
 package com.platform.recipe;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.test.context.SpringBootTest;
 
 @SpringBootTest
 class RecipeApplicationTests {
 
+	@Autowired
+	private ApplicationAvailability applicationAvailability;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void shouldBufferStartupStepsForTheStartupEndpoint() {
+		assertInstanceOf(BufferingApplicationStartup.class, RecipeApplication.application().getApplicationStartup());
+	}
+
+	@Test
+	void shouldWarmUpOnceBeforeAcceptingTraffic() {
+		assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+		assertEquals(1, meterRegistry.get("recipe.startup.warmup").timer().count());
+	}
+
 }
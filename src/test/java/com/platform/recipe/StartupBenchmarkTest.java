@@ -0,0 +1,80 @@
+package com.platform.recipe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.startup.StartupEndpoint;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * Boots the whole application, as a new instance would, and reports how long it took and which beans were the
+ * slowest to create. The time is only logged since it depends on the machine running the build. Booting a second
+ * application is slow, so it only runs with {@code -Pbenchmark}; the default build checks the startup wiring in
+ * {@link RecipeApplicationTests}.
+ */
+@Slf4j
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+  private static final int SLOWEST_STEPS = 10;
+
+  @Test
+  void shouldRecordStartupStepsAndWarmUpBeforeAcceptingTraffic() {
+    long started = System.nanoTime();
+    try (ConfigurableApplicationContext context = RecipeApplication.application().run(
+      "--spring.profiles.active=test",
+      "--server.port=0",
+      "--management.endpoints.web.exposure.include=startup"
+    )) {
+      Duration startup = Duration.ofNanos(System.nanoTime() - started);
+
+      List<StartupTimeline.TimelineEvent> events = context.getBean(StartupEndpoint.class).startupSnapshot()
+        .getTimeline()
+        .getEvents();
+      Set<String> instantiatedBeans = events.stream()
+        .map(event -> beanName(event.getStartupStep()))
+        .filter(name -> name != null)
+        .collect(Collectors.toSet());
+
+      // The factory bean builds the Hibernate metamodel; springdoc and Jackson are the other known slow starters.
+      assertTrue(instantiatedBeans.contains("&entityManagerFactory"));
+      assertTrue(instantiatedBeans.contains("openApiResource"));
+      assertTrue(instantiatedBeans.contains("jacksonObjectMapper"));
+      assertEquals(ReadinessState.ACCEPTING_TRAFFIC, context.getBean(ApplicationAvailability.class).getReadinessState());
+      assertEquals(1, context.getBean(MeterRegistry.class).get("recipe.startup.warmup").timer().count());
+
+      log.info("Application ready in [{}] ms with [{}] startup steps recorded", startup.toMillis(), events.size());
+      events.stream()
+        .filter(event -> beanName(event.getStartupStep()) != null)
+        .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+        .limit(SLOWEST_STEPS)
+        .forEach(event -> log.info("Bean [{}] took [{}] ms", beanName(event.getStartupStep()),
+          event.getDuration().toMillis()));
+    }
+  }
+
+  private static String beanName(StartupStep step) {
+    if (!"spring.beans.instantiate".equals(step.getName())) {
+      return null;
+    }
+    return StreamSupport.stream(step.getTags().spliterator(), false)
+      .filter(tag -> "beanName".equals(tag.getKey()))
+      .map(StartupStep.Tag::getValue)
+      .findFirst()
+      .orElse(null);
+  }
+}
@@ -1,45 +1,91 @@
 package com.platform.recipe.adapters.controllers;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.platform.recipe.adapters.controllers.admin.AdminAuthorizer;
+import com.platform.recipe.adapters.controllers.admin.AdminConfig;
+import com.platform.recipe.adapters.controllers.cache.RecipeResponseCache;
+import com.platform.recipe.adapters.controllers.cache.ResponseCacheConfig;
 import com.platform.recipe.adapters.controllers.dtos.request.IngredientCreateRequest;
 import com.platform.recipe.adapters.controllers.dtos.request.IngredientUpdateRequest;
+import com.platform.recipe.adapters.controllers.dtos.request.RecipeBulkUpdateRequest;
 import com.platform.recipe.adapters.controllers.dtos.request.RecipeCreateRequest;
 import com.platform.recipe.adapters.controllers.dtos.request.RecipeUpdateRequest;
+import com.platform.recipe.adapters.controllers.dtos.response.BulkProgressResponse;
 import com.platform.recipe.adapters.controllers.dtos.response.IngredientResponse;
 import com.platform.recipe.adapters.controllers.dtos.response.RecipeIdResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeLookupResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipePageResponse;
 import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.adapters.controllers.explain.ExplainConfig;
+import com.platform.recipe.domain.dtos.BulkProgressDto;
 import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangeDto;
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
 import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.ErrorCode;
 import com.platform.recipe.domain.services.RecipeService;
+import java.io.ByteArrayInputStream;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 
 @WebMvcTest(RecipeController.class)
+@Import({AdminConfig.class, ExplainConfig.class, ResponseCacheConfig.class})
+@TestPropertySource(properties = "recipe.admin.token=" + RecipeControllerTest.ADMIN_TOKEN)
 class RecipeControllerTest {
 
+  static final String ADMIN_TOKEN = "test-admin-token";
+  private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
   @Autowired
   private MockMvc mockMvc;
 
@@ -49,6 +95,17 @@ class RecipeControllerTest {
   @MockitoBean
   private RecipeService recipeService;
 
+  @Autowired
+  private RecipeResponseCache recipeResponseCache;
+
+  private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+  private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+
+  @BeforeEach
+  void clearResponseCache() {
+    recipeResponseCache.invalidateAll();
+  }
+
   private static Stream<Arguments> invalidRecipeCreateRequests() {
     return Stream.of(
       Arguments.of(
@@ -162,7 +219,7 @@ class RecipeControllerTest {
     RecipeIdResponse expectedResponse = new RecipeIdResponse(id);
     when(recipeService.create(any(RecipeDto.class))).thenReturn(id);
 
-    mockMvc.perform(post("/v1/recipes").contentType(MediaType.APPLICATION_JSON)
+    perform(post("/v1/recipes").contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(recipeRequest)))
         .andExpect(status().isCreated())
         .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
@@ -178,7 +235,7 @@ class RecipeControllerTest {
 
     when(recipeService.update(any(RecipeDto.class))).thenReturn(dto);
 
-    mockMvc.perform(put("/v1/recipes/{id}", 123L)
+    perform(put("/v1/recipes/{id}", 123L)
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(request)))
         .andExpect(status().isOk())
@@ -190,7 +247,7 @@ class RecipeControllerTest {
   @ParameterizedTest
   @MethodSource("invalidRecipeUpdateRequests")
   void shouldReturn400ForInvalidUpdateRequests(RecipeUpdateRequest invalidRequest) throws Exception {
-    mockMvc.perform(put("/v1/recipes/{id}", 1)
+    perform(put("/v1/recipes/{id}", 1)
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(invalidRequest)))
         .andExpect(status().isBadRequest());
@@ -201,7 +258,7 @@ class RecipeControllerTest {
   @ParameterizedTest
   @MethodSource("invalidRecipeCreateRequests")
   void shouldReturn400ForInvalidCreateRequests(RecipeCreateRequest invalidRequest) throws Exception {
-    mockMvc.perform(post("/v1/recipes")
+    perform(post("/v1/recipes")
             .contentType(MediaType.APPLICATION_JSON)
             .content(objectMapper.writeValueAsString(invalidRequest)))
         .andExpect(status().isBadRequest());
@@ -213,7 +270,7 @@ class RecipeControllerTest {
   void shouldDeleteRecipeSuccessfully() throws Exception {
     Long id = 1L;
 
-    mockMvc.perform(delete("/v1/recipes/{id}", id))
+    perform(delete("/v1/recipes/{id}", id))
       .andExpect(status().isNoContent());
 
     verify(recipeService).deleteById(id);
@@ -224,45 +281,371 @@ class RecipeControllerTest {
     RecipeDto dto = createDto();
     RecipeResponse expectedResponse = createResponseFromDto(dto);
 
-    when(recipeService.findById(dto.getId())).thenReturn(dto);
+    when(recipeService.findById(dto.getId(), RecipeView.FULL)).thenReturn(dto);
+
+    perform(get("/v1/recipes/{id}", dto.getId()))
+      .andExpect(status().isOk())
+      .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+  }
+
+  @Test
+  void shouldReturnRecipeAsSmileWhenRequested() throws Exception {
+    RecipeDto dto = createDto();
+    RecipeResponse expectedResponse = createResponseFromDto(dto);
+    ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    when(recipeService.findById(dto.getId(), RecipeView.FULL)).thenReturn(dto);
+
+    byte[] body = perform(get("/v1/recipes/{id}", dto.getId()).accept(SMILE))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith(SMILE))
+      .andReturn().getResponse().getContentAsByteArray();
+
+    assertEquals(
+      objectMapper.readTree(objectMapper.writeValueAsString(expectedResponse)),
+      smileMapper.readTree(body)
+    );
+  }
+
+  @Test
+  void shouldReturnRecipeAsCborWhenRequested() throws Exception {
+    RecipeDto dto = createDto();
+    ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+
+    when(recipeService.findById(dto.getId(), RecipeView.FULL)).thenReturn(dto);
+
+    byte[] body = perform(get("/v1/recipes/{id}", dto.getId()).accept(CBOR))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith(CBOR))
+      .andReturn().getResponse().getContentAsByteArray();
+
+    assertEquals(dto.getTitle(), cborMapper.readTree(body).get("title").asText());
+  }
+
+  @Test
+  void shouldOmitInstructionsAndIngredientsForSummaryView() throws Exception {
+    RecipeDto dto = createDto();
+    dto.setInstructions(null);
+    dto.setIngredients(null);
+
+    when(recipeService.findById(dto.getId(), RecipeView.SUMMARY)).thenReturn(dto);
+
+    perform(get("/v1/recipes/{id}", dto.getId()).param("view", "summary"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.title").value(dto.getTitle()))
+      .andExpect(jsonPath("$.instructions").doesNotExist())
+      .andExpect(jsonPath("$.ingredients").doesNotExist());
+  }
+
+  @Test
+  void shouldReturnRecipesByIdsSuccessfully() throws Exception {
+    RecipeDto dto = createDto();
+    RecipeLookupDto lookupDto = new RecipeLookupDto(List.of(dto), List.of(7L));
+    RecipeLookupResponse expectedResponse = new RecipeLookupResponse(List.of(createResponseFromDto(dto)), List.of(7L));
+
+    when(recipeService.findAllByIds(List.of(123L, 7L))).thenReturn(lookupDto);
 
-    mockMvc.perform(get("/v1/recipes/{id}", dto.getId()))
+    perform(get("/v1/recipes").param("ids", "123,7"))
       .andExpect(status().isOk())
       .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+
+    verify(recipeService).findAllByIds(List.of(123L, 7L));
+  }
+
+  @Test
+  void shouldReturnRecipeChangesSinceCursor() throws Exception {
+    RecipeDto dto = createDto();
+    RecipeChangesDto changesDto = new RecipeChangesDto(List.of(
+      new RecipeChangeDto(5L, dto.getId(), RecipeChangeType.UPSERT, dto.getUpdatedAt(), dto),
+      new RecipeChangeDto(6L, 7L, RecipeChangeType.DELETE, dto.getUpdatedAt(), null)
+    ), 6L, false);
+
+    when(recipeService.findChanges(4L, 100)).thenReturn(changesDto);
+
+    perform(get("/v1/recipes/changes").param("since", "4"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.changes[0].recipe.id").value(dto.getId()))
+      .andExpect(jsonPath("$.changes[1].type").value("DELETE"))
+      .andExpect(jsonPath("$.changes[1].recipe").doesNotExist())
+      .andExpect(jsonPath("$.nextCursor").value(6))
+      .andExpect(jsonPath("$.hasMore").value(false));
+  }
+
+  @Test
+  void shouldSearchByTitleWithTheRequestedMatch() throws Exception {
+    RecipeDto recipeDto = createDto();
+    when(recipeService.searchWithFilters(any(), eq(1), any(), any(), any(), any(), eq("feij"), eq(TitleMatch.FUZZY),
+      any(), any(), eq(0), eq(10), eq(DEFAULT_SORT), eq(RecipeView.FULL))).thenReturn(new PageImpl<>(List.of(recipeDto)));
+
+    perform(get("/v1/recipes").param("title", "feij").param("titleMatch", "fuzzy"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content[0].id").value(recipeDto.getId()));
   }
 
   @Test
   void shouldReturn200AndRecipesWhenUsingFilters() throws Exception {
 
     RecipeDto recipeDto = createDto();
-    Page<RecipeDto> page = new PageImpl<>(List.of(recipeDto));
-    Page<RecipeResponse> expectedResponse = page.map(recipe -> objectMapper.convertValue(recipe, RecipeResponse.class));
+    Page<RecipeDto> page = new PageImpl<>(List.of(recipeDto), PageRequest.of(0, 10), 11);
+    RecipePageResponse expectedResponse = new RecipePageResponse(
+      List.of(objectMapper.convertValue(recipeDto, RecipeResponse.class)), 0, 10, 11, 2
+    );
 
     when(recipeService.searchWithFilters(
       eq(true),
       eq(1),
       eq(List.of("Tomato")),
       eq(List.of("Salt")),
+      eq(IngredientMatch.ALL),
       eq("bake"),
       any(),
       any(),
+      any(),
+      any(),
       eq(0),
       eq(10),
-      eq("createdAt")
+      eq(DEFAULT_SORT),
+      eq(RecipeView.FULL)
     )).thenReturn(page);
 
-    mockMvc.perform(get("/v1/recipes")
+    perform(get("/v1/recipes")
       .param("vegetarian", "true")
       .param("includedIngredients", "Tomato")
       .param("excludedIngredients", "Salt")
+      .param("match", "all")
       .param("instruction", "bake")
       .param("page", "0")
       .param("pageSize", "10")
       .param("sort", "createdAt")
       .contentType(MediaType.APPLICATION_JSON))
     .andExpect(status().isOk())
-    .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse)));
+    .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse), true));
+
+  }
+
+  @Test
+  void shouldSortByTheRequestedFieldAndDirectionWithIdTieBreaker() throws Exception {
+    RecipeDto recipeDto = createDto();
+    when(recipeService.searchWithFilters(any(), eq(1), any(), any(), any(), any(), any(), any(), any(), any(), eq(0),
+      eq(10), eq(Sort.by(Sort.Direction.ASC, "title", "id")), eq(RecipeView.FULL))).thenReturn(new PageImpl<>(List.of(recipeDto)));
+
+    perform(get("/v1/recipes").param("sort", "title,asc"))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content[0].id").value(recipeDto.getId()));
+  }
+
+  @Test
+  void shouldReturn400WhenSortingByAnUnsortableField() throws Exception {
+    perform(get("/v1/recipes").param("sort", "servings"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_SORT.getCode()));
+
+    perform(get("/v1/recipes/stream").param("sort", "createdAt,sideways"))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.code").value(ErrorCode.INVALID_SORT.getCode()));
+
+    verify(recipeService, never()).searchWithFilters(any(), eq(1), any(), any(), any(), any(), any(), any(), any(),
+      any(), eq(0), eq(10), any(), any());
+  }
+
+  @Test
+  void shouldStreamRecipePageWithTotals() throws Exception {
+
+    RecipeDto recipeDto = createDto();
+    RecipePageResponse expectedResponse = new RecipePageResponse(
+      List.of(objectMapper.convertValue(recipeDto, RecipeResponse.class)), 0, 10, 11, 2
+    );
+
+    when(recipeService.streamWithFilters(
+      eq(true),
+      eq(1),
+      any(),
+      any(),
+      eq(IngredientMatch.ANY),
+      any(),
+      any(),
+      any(),
+      any(),
+      any(),
+      eq(0),
+      eq(10),
+      eq(DEFAULT_SORT),
+      eq(RecipeView.FULL),
+      any()
+    )).thenAnswer(invocation -> {
+      invocation.<Consumer<RecipeDto>>getArgument(14).accept(recipeDto);
+      return 11L;
+    });
+
+    MvcResult result = mockMvc.perform(get("/v1/recipes/stream").param("vegetarian", "true"))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+      .andExpect(content().json(objectMapper.writeValueAsString(expectedResponse), true));
+  }
+
+  @Test
+  void shouldStreamRecipePageAsSmileWhenRequested() throws Exception {
+    RecipeDto recipeDto = createDto();
+    ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+    when(recipeService.streamWithFilters(any(), eq(1), any(), any(), any(), any(), any(), any(), any(), any(), eq(0),
+      eq(10), eq(DEFAULT_SORT), eq(RecipeView.FULL), any())).thenAnswer(invocation -> {
+        invocation.<Consumer<RecipeDto>>getArgument(14).accept(recipeDto);
+        return 1L;
+      });
+
+    MvcResult result = mockMvc.perform(get("/v1/recipes/stream").accept(SMILE))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    byte[] body = mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith(SMILE))
+      .andReturn().getResponse().getContentAsByteArray();
+
+    JsonNode page = smileMapper.readTree(body);
+    assertEquals(recipeDto.getTitle(), page.get("content").get(0).get("title").asText());
+    assertEquals(1, page.get("totalElements").asLong());
+  }
+
+  @Test
+  void shouldRefuseToExplainSearchWithoutAdminToken() throws Exception {
+    perform(get("/v1/recipes").param("explain", "true").header(AdminAuthorizer.ADMIN_TOKEN_HEADER, "wrong"))
+      .andExpect(status().isForbidden())
+      .andExpect(jsonPath("$.code").value(ErrorCode.EXPLAIN_FORBIDDEN.getCode()));
+
+    verify(recipeService, never()).searchWithFilters(any(), eq(1), any(), any(), any(), any(), any(), any(), any(),
+      any(), eq(0), eq(10), any(), any());
+  }
+
+  @Test
+  void shouldExplainSearchWithAdminToken() throws Exception {
+    RecipeDto recipeDto = createDto();
+    when(recipeService.searchWithFilters(any(), eq(1), any(), any(), any(), any(), any(), any(), any(), any(), eq(0),
+      eq(10), eq(DEFAULT_SORT), eq(RecipeView.FULL))).thenReturn(new PageImpl<>(List.of(recipeDto)));
+
+    perform(get("/v1/recipes").param("explain", "true").header(AdminAuthorizer.ADMIN_TOKEN_HEADER, ADMIN_TOKEN))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.content[0].id").value(recipeDto.getId()))
+      .andExpect(jsonPath("$.totalElements").value(1))
+      .andExpect(jsonPath("$.stageMillis.mapping").isNumber())
+      .andExpect(jsonPath("$.statements").isArray());
+  }
+
+  @Test
+  void shouldStreamBulkUpdateProgressAsLinesOfJson() throws Exception {
+    when(recipeService.updateVegetarianWithFilters(
+      any(),
+      eq(List.of("beef")),
+      any(),
+      eq(IngredientMatch.ANY),
+      any(),
+      any(),
+      any(),
+      any(),
+      any(),
+      eq(false),
+      any()
+    )).thenAnswer(invocation -> {
+      Consumer<BulkProgressDto> progress = invocation.getArgument(10);
+      progress.accept(new BulkProgressDto(1, 0, 40, 2, 2, false));
+      progress.accept(new BulkProgressDto(1, 0, 40, 0, 2, true));
+      return 2L;
+    });
+
+    MvcResult result = mockMvc.perform(patch("/v1/recipes")
+        .header(AdminAuthorizer.ADMIN_TOKEN_HEADER, ADMIN_TOKEN)
+        .param("includedIngredients", "beef")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(objectMapper.writeValueAsString(new RecipeBulkUpdateRequest(false))))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+
+    String body = mockMvc.perform(asyncDispatch(result))
+      .andExpect(status().isOk())
+      .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+      .andReturn().getResponse().getContentAsString();
+
+    List<BulkProgressResponse> lines = body.lines()
+      .map(line -> assertDoesNotThrow(() -> objectMapper.readValue(line, BulkProgressResponse.class)))
+      .toList();
+    assertEquals(List.of(new BulkProgressResponse(1, 0, 40, 2, 2, false), new BulkProgressResponse(1, 0, 40, 0, 2, true)), lines);
+  }
+
+  @Test
+  void shouldRefuseBulkDeleteWithoutAdminToken() throws Exception {
+    perform(delete("/v1/recipes").param("createdBefore", "2020-01-01T00:00:00Z"))
+      .andExpect(status().isForbidden())
+      .andExpect(jsonPath("$.code").value(ErrorCode.BULK_FORBIDDEN.getCode()));
+
+    verify(recipeService, never()).deleteWithFilters(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldRejectBulkDeleteWithoutFilters() throws Exception {
+    perform(delete("/v1/recipes").header(AdminAuthorizer.ADMIN_TOKEN_HEADER, ADMIN_TOKEN))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.code").value(ErrorCode.BULK_FILTER_REQUIRED.getCode()));
+
+    verify(recipeService, never()).deleteWithFilters(any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromResponseCacheUntilInvalidated() throws Exception {
+    RecipeDto dto = createDto();
+    when(recipeService.findById(dto.getId(), RecipeView.FULL)).thenReturn(dto);
+
+    String first = perform(get("/v1/recipes/{id}", dto.getId()))
+      .andExpect(status().isOk())
+      .andReturn().getResponse().getContentAsString();
+
+    perform(get("/v1/recipes/{id}", dto.getId()))
+      .andExpect(status().isOk())
+      .andExpect(content().json(first, true));
+    verify(recipeService, times(1)).findById(dto.getId(), RecipeView.FULL);
+
+    recipeResponseCache.invalidate(dto.getId());
+    perform(get("/v1/recipes/{id}", dto.getId())).andExpect(status().isOk());
+    verify(recipeService, times(2)).findById(dto.getId(), RecipeView.FULL);
+  }
+
+  @Test
+  void shouldReturnNotModifiedForMatchingETag() throws Exception {
+    RecipeDto dto = createDto();
+    when(recipeService.findById(dto.getId(), RecipeView.FULL)).thenReturn(dto);
+
+    String etag = perform(get("/v1/recipes/{id}", dto.getId()))
+      .andExpect(status().isOk())
+      .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    perform(get("/v1/recipes/{id}", dto.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+      .andExpect(status().isNotModified());
+  }
+
+  @Test
+  void shouldServePreGzippedBodyWhenAccepted() throws Exception {
+    RecipeDto dto = createDto();
+    dto.setInstructions("Stir slowly. ".repeat(200));
+    when(recipeService.findById(dto.getId(), RecipeView.FULL)).thenReturn(dto);
+
+    byte[] body = perform(get("/v1/recipes/{id}", dto.getId()).header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+      .andExpect(status().isOk())
+      .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+      .andReturn().getResponse().getContentAsByteArray();
+
+    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+      assertEquals(dto.getInstructions(), objectMapper.readTree(gzip).get("instructions").asText());
+    }
+  }
 
+  private ResultActions perform(RequestBuilder requestBuilder) throws Exception {
+    ResultActions actions = mockMvc.perform(requestBuilder);
+    MvcResult result = actions.andReturn();
+    return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
   }
 
   private RecipeResponse createResponseFromDto(RecipeDto dto) {
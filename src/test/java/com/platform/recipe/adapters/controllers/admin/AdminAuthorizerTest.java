@@ -0,0 +1,37 @@
+package com.platform.recipe.adapters.controllers.admin;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import org.junit.jupiter.api.Test;
+
+class AdminAuthorizerTest {
+
+  private final AdminProperties properties = new AdminProperties();
+  private final AdminAuthorizer adminAuthorizer = new AdminAuthorizer(properties);
+
+  @Test
+  void shouldRequireMatchingAdminToken() {
+    properties.setToken("secret");
+
+    assertThrows(ForbiddenException.class, () -> adminAuthorizer.authorize(null, ErrorCode.EXPLAIN_FORBIDDEN));
+    assertThrows(ForbiddenException.class, () -> adminAuthorizer.authorize("wrong", ErrorCode.EXPLAIN_FORBIDDEN));
+    assertDoesNotThrow(() -> adminAuthorizer.authorize("secret", ErrorCode.EXPLAIN_FORBIDDEN));
+
+    properties.setToken("");
+    assertThrows(ForbiddenException.class, () -> adminAuthorizer.authorize("", ErrorCode.EXPLAIN_FORBIDDEN));
+  }
+
+  @Test
+  void shouldRefuseWithTheErrorCodeOfTheOperation() {
+    properties.setToken("secret");
+
+    ForbiddenException refused = assertThrows(ForbiddenException.class,
+      () -> adminAuthorizer.authorize("wrong", ErrorCode.BULK_FORBIDDEN));
+
+    assertEquals(ErrorCode.BULK_FORBIDDEN, refused.getErrorCode());
+  }
+}
@@ -0,0 +1,167 @@
+package com.platform.recipe.adapters.controllers.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.exceptions.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.method.HandlerMethod;
+
+class AdmissionInterceptorTest {
+
+  private static final HandlerMethod SEARCH = handler("search");
+  private static final HandlerMethod LOOKUP = handler("findById");
+
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+  private AdmissionProperties properties;
+  private PoolPressure poolPressure;
+
+  @BeforeEach
+  void setUp() {
+    properties = new AdmissionProperties();
+    properties.setMaxConcurrentSearches(2);
+    properties.setMaxConcurrentWrites(1);
+    poolPressure = new PoolPressure();
+  }
+
+  @Test
+  void shouldRejectWritesBeyondTheirLimitAndReleaseSlotOnCompletion() throws Exception {
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(properties, poolPressure);
+    MockHttpServletRequest first = request("POST", "client-a");
+
+    assertTrue(interceptor.preHandle(first, response, null));
+    ServiceBusyException busy = assertThrows(ServiceBusyException.class,
+      () -> interceptor.preHandle(request("PUT", "client-b"), response, null));
+    assertEquals(1, busy.getRetryAfterSeconds());
+
+    assertTrue(interceptor.preHandle(request("GET", "client-b"), response, SEARCH));
+
+    interceptor.afterCompletion(first, response, null, null);
+    assertTrue(interceptor.preHandle(request("DELETE", "client-b"), response, null));
+  }
+
+  @Test
+  void shouldKeepSlotAcrossAsyncDispatch() throws Exception {
+    properties.setMaxConcurrentSearches(1);
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(properties, poolPressure);
+    MockHttpServletRequest stream = request("GET", "client-a");
+
+    assertTrue(interceptor.preHandle(stream, response, SEARCH));
+    stream.setDispatcherType(DispatcherType.ASYNC);
+    assertTrue(interceptor.preHandle(stream, response, SEARCH));
+    assertThrows(ServiceBusyException.class, () -> interceptor.preHandle(request("GET", "client-b"), response, SEARCH));
+
+    interceptor.afterCompletion(stream, response, SEARCH, null);
+    assertTrue(interceptor.preHandle(request("GET", "client-b"), response, SEARCH));
+  }
+
+  @Test
+  void shouldShedSearchesButAdmitWritesWhenPoolWaitIsHigh() throws Exception {
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(properties, poolPressure);
+    poolPressure.record(Duration.ofSeconds(2).toNanos());
+
+    assertThrows(ServiceBusyException.class, () -> interceptor.preHandle(request("GET", "client-a"), response, SEARCH));
+    assertTrue(interceptor.preHandle(request("GET", "client-a"), response, LOOKUP));
+    assertTrue(interceptor.preHandle(request("POST", "client-a"), response, null));
+  }
+
+  @Test
+  void shouldAdmitPointReadsAgainstTheirOwnLimit() throws Exception {
+    properties.setMaxConcurrentSearches(1);
+    properties.setMaxConcurrentReads(1);
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(properties, poolPressure);
+
+    assertTrue(interceptor.preHandle(request("GET", "client-a"), response, SEARCH));
+    assertThrows(ServiceBusyException.class, () -> interceptor.preHandle(request("GET", "client-a"), response, SEARCH));
+
+    MockHttpServletRequest lookup = request("GET", "client-b");
+    assertTrue(interceptor.preHandle(lookup, response, LOOKUP));
+    assertThrows(ServiceBusyException.class, () -> interceptor.preHandle(request("GET", "client-b"), response, LOOKUP));
+
+    interceptor.afterCompletion(lookup, response, LOOKUP, null);
+    assertTrue(interceptor.preHandle(request("GET", "client-b"), response, LOOKUP));
+  }
+
+  @Test
+  void shouldRateLimitEachClientWithItsOwnBucket() throws Exception {
+    properties.setClientBurst(2);
+    properties.setClientRequestsPerSecond(1);
+    properties.setMaxConcurrentSearches(10);
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(properties, poolPressure);
+
+    assertTrue(interceptor.preHandle(request("GET", "client-a"), response, null));
+    assertTrue(interceptor.preHandle(request("GET", "client-a"), response, null));
+    TooManyRequestsException limited = assertThrows(TooManyRequestsException.class,
+      () -> interceptor.preHandle(request("GET", "client-a"), response, null));
+    assertEquals(1, limited.getRetryAfterSeconds());
+
+    assertTrue(interceptor.preHandle(request("GET", "client-b"), response, null));
+  }
+
+  @Test
+  void shouldIgnoreClientSuppliedIdentifiers() throws Exception {
+    properties.setClientBurst(1);
+    properties.setClientRequestsPerSecond(1);
+    AdmissionInterceptor interceptor = new AdmissionInterceptor(properties, poolPressure);
+
+    MockHttpServletRequest first = request("GET", "client-a");
+    first.addHeader("X-Client-Id", "rotated-1");
+    assertTrue(interceptor.preHandle(first, response, null));
+
+    MockHttpServletRequest second = request("GET", "client-a");
+    second.addHeader("X-Client-Id", "rotated-2");
+    assertThrows(TooManyRequestsException.class, () -> interceptor.preHandle(second, response, null));
+  }
+
+  @Test
+  void shouldRefillTokensOverTime() {
+    ClientRateLimiter limiter = new ClientRateLimiter(1, 1000, 10);
+
+    assertEquals(0, limiter.tryAcquire("client-a"));
+    long wait = limiter.tryAcquire("client-a");
+    assertTrue(wait > 0 && wait <= TimeUnit.MILLISECONDS.toNanos(1));
+  }
+
+  @Test
+  void shouldForgetTheLeastRecentlySeenClientsBeyondTheLimit() {
+    ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2);
+
+    limiter.tryAcquire("client-a");
+    limiter.tryAcquire("client-b");
+    assertTrue(limiter.tryAcquire("client-a") > 0);
+    limiter.tryAcquire("client-c");
+
+    assertEquals(2, limiter.trackedClients());
+    assertTrue(limiter.tryAcquire("client-a") > 0);
+    assertEquals(0, limiter.tryAcquire("client-b"));
+  }
+
+  private MockHttpServletRequest request(String method, String client) {
+    MockHttpServletRequest request = new MockHttpServletRequest(method, "/v1/recipes");
+    request.setRemoteAddr(client);
+    return request;
+  }
+
+  private static HandlerMethod handler(String name) {
+    return new HandlerMethod(new Endpoints(), ReflectionUtils.findMethod(Endpoints.class, name));
+  }
+
+  static class Endpoints {
+
+    @SearchEndpoint
+    public void search() {
+    }
+
+    public void findById() {
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.platform.recipe.adapters.controllers.bulkhead;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+class BulkheadTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private Bulkhead bulkhead;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    bulkhead.shutdown();
+  }
+
+  @Test
+  void shouldRejectWorkWhenThreadsAndQueueAreFull() throws Exception {
+    bulkhead = bulkhead(new BulkheadProperties.Pool(1, 1, Duration.ofSeconds(5)));
+
+    CompletableFuture<String> running = bulkhead.submit(this::blockUntilReleased);
+    CompletableFuture<String> queued = bulkhead.submit(() -> "queued");
+
+    assertThrows(TaskRejectedException.class, () -> bulkhead.submit(() -> "rejected"));
+    assertEquals(1.0, registry.counter("recipe.bulkhead.rejected", "name", "search").count());
+
+    release.countDown();
+    assertEquals("released", running.get(5, TimeUnit.SECONDS));
+    assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldAnswerWithServiceBusyWhenWorkTimesOut() {
+    bulkhead = bulkhead(new BulkheadProperties.Pool(1, 0, Duration.ofMillis(50)));
+
+    ExecutionException failure = assertThrows(ExecutionException.class,
+      () -> bulkhead.submit(this::blockUntilReleased).get(5, TimeUnit.SECONDS));
+
+    ServiceBusyException busy = assertInstanceOf(ServiceBusyException.class, failure.getCause());
+    assertEquals(ErrorCode.REQUEST_TIMEOUT, busy.getErrorCode());
+    assertEquals(1.0, registry.counter("recipe.bulkhead.timeouts", "name", "search").count());
+  }
+
+  @Test
+  void shouldPropagateCheckedExceptionsFromWork() {
+    bulkhead = bulkhead(new BulkheadProperties.Pool(1, 0, Duration.ofSeconds(5)));
+
+    ExecutionException failure = assertThrows(ExecutionException.class, () -> bulkhead.submit(() -> {
+      throw new DataNotFoundException(ErrorCode.RECIPE_NOT_FOUND);
+    }).get(5, TimeUnit.SECONDS));
+
+    assertInstanceOf(DataNotFoundException.class, failure.getCause());
+  }
+
+  private Bulkhead bulkhead(BulkheadProperties.Pool pool) {
+    return new Bulkhead("search", true, pool, Duration.ofSeconds(1), registry);
+  }
+
+  private String blockUntilReleased() throws InterruptedException {
+    release.await(5, TimeUnit.SECONDS);
+    return "released";
+  }
+}
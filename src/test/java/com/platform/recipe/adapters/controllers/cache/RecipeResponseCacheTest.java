@@ -0,0 +1,108 @@
+package com.platform.recipe.adapters.controllers.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.domain.dtos.RecipeView;
+import java.sql.Timestamp;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+
+class RecipeResponseCacheTest {
+
+  private final ResponseCacheProperties properties = new ResponseCacheProperties();
+  private final RecipeResponseCache cache = new RecipeResponseCache(
+    properties,
+    new ObjectMapper(),
+    new ObjectMapper(new SmileFactory()),
+    new ObjectMapper(new CBORFactory())
+  );
+
+  @Test
+  void shouldNotStoreResponseLoadedBeforeAnInvalidation() throws Exception {
+    RecipeResponseCache.Key key = key(1L);
+    long generation = cache.generation(1L);
+
+    cache.invalidate(1L);
+    cache.put(key, response(1L), generation);
+
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  void shouldStoreResponseLoadedWhileAnotherRecipeWasInvalidated() throws Exception {
+    RecipeResponseCache.Key key = key(1L);
+    long generation = cache.generation(1L);
+
+    cache.invalidate(2L);
+    cache.put(key, response(1L), generation);
+
+    assertNotNull(cache.get(key));
+  }
+
+  @Test
+  void shouldNotStoreResponseLoadedBeforeEverythingWasInvalidated() throws Exception {
+    RecipeResponseCache.Key key = key(1L);
+    long generation = cache.generation(1L);
+
+    cache.invalidateAll();
+    cache.put(key, response(1L), generation);
+
+    assertNull(cache.get(key));
+  }
+
+  @Test
+  void shouldDropEveryViewAndFormatOfInvalidatedRecipe() throws Exception {
+    RecipeResponseCache.Key json = key(1L);
+    RecipeResponseCache.Key cbor = new RecipeResponseCache.Key(1L, RecipeView.SUMMARY, MediaType.APPLICATION_CBOR);
+    RecipeResponseCache.Key other = key(2L);
+    cache.put(json, response(1L), cache.generation(1L));
+    cache.put(cbor, response(1L), cache.generation(1L));
+    cache.put(other, response(2L), cache.generation(2L));
+
+    cache.invalidate(1L);
+
+    assertNull(cache.get(json));
+    assertNull(cache.get(cbor));
+    assertNotNull(cache.get(other));
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntries() throws Exception {
+    properties.setMaxEntries(2);
+    cache.put(key(1L), response(1L), cache.generation(1L));
+    cache.put(key(2L), response(2L), cache.generation(2L));
+    cache.get(key(1L));
+
+    cache.put(key(3L), response(3L), cache.generation(3L));
+
+    assertNotNull(cache.get(key(1L)));
+    assertNull(cache.get(key(2L)));
+  }
+
+  @Test
+  void shouldNegotiateByQualityAndRejectUnsupportedFormats() throws Exception {
+    assertEquals(MediaType.APPLICATION_JSON, cache.negotiate(List.of()));
+    assertEquals(MediaType.APPLICATION_CBOR, cache.negotiate(MediaType.parseMediaTypes("application/json;q=0.5, application/cbor")));
+    assertEquals(MediaType.APPLICATION_JSON, cache.negotiate(MediaType.parseMediaTypes("*/*")));
+    assertThrows(HttpMediaTypeNotAcceptableException.class,
+      () -> cache.negotiate(MediaType.parseMediaTypes("application/xml, application/json;q=0")));
+  }
+
+  private RecipeResponseCache.Key key(Long id) {
+    return new RecipeResponseCache.Key(id, RecipeView.FULL, MediaType.APPLICATION_JSON);
+  }
+
+  private RecipeResponse response(Long id) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    return new RecipeResponse(id, "Title", "Description", true, "Instructions", List.of(), now, now);
+  }
+}
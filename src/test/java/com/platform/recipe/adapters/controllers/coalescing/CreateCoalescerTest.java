@@ -0,0 +1,143 @@
+package com.platform.recipe.adapters.controllers.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.services.RecipeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class CreateCoalescerTest {
+
+  private final RecipeService recipeService = mock(RecipeService.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final CoalescingProperties properties = new CoalescingProperties();
+  private CreateCoalescer coalescer;
+
+  @AfterEach
+  void tearDown() {
+    if (coalescer != null) {
+      coalescer.close();
+    }
+  }
+
+  @Test
+  void shouldSaveConcurrentCreatesInOneTransactionAndHandBackEachId() throws Exception {
+    properties.setMaxDelay(Duration.ofSeconds(1));
+    properties.setMaxBatch(3);
+    AtomicLong ids = new AtomicLong();
+    when(recipeService.createAll(anyList())).thenAnswer(invocation -> {
+      List<RecipeDto> recipes = invocation.getArgument(0);
+      return recipes.stream().map(recipe -> ids.incrementAndGet() * 10).toList();
+    });
+    coalescer = new CreateCoalescer(recipeService, properties, registry);
+
+    List<CompletableFuture<Long>> results = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      results.add(coalescer.submit(recipe("Recipe " + i)));
+    }
+
+    assertEquals(List.of(10L, 20L, 30L), List.of(results.get(0).get(5, TimeUnit.SECONDS), results.get(1).get(), results.get(2).get()));
+    verify(recipeService, times(1)).createAll(anyList());
+    verify(recipeService, never()).create(any());
+    assertEquals(3, registry.get("recipe.coalescing.batch.size").summary().totalAmount());
+  }
+
+  @Test
+  void shouldRetryEachCreateAloneWhenTheBatchFailsSoOnlyTheBadOneFails() throws Exception {
+    properties.setMaxDelay(Duration.ofSeconds(1));
+    properties.setMaxBatch(2);
+    RecipeDto good = recipe("Feijoada");
+    RecipeDto bad = recipe("Broken");
+    when(recipeService.createAll(anyList())).thenThrow(new DataIntegrityViolationException("value too long"));
+    when(recipeService.create(good)).thenReturn(1L);
+    when(recipeService.create(bad)).thenThrow(new DataIntegrityViolationException("value too long"));
+    coalescer = new CreateCoalescer(recipeService, properties, registry);
+
+    CompletableFuture<Long> goodResult = coalescer.submit(good);
+    CompletableFuture<Long> badResult = coalescer.submit(bad);
+
+    assertEquals(1L, goodResult.get(5, TimeUnit.SECONDS));
+    ExecutionException failure = assertThrows(ExecutionException.class, () -> badResult.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(DataIntegrityViolationException.class, failure.getCause());
+    assertEquals(2, registry.get("recipe.coalescing.retried").counter().count());
+  }
+
+  @Test
+  void shouldWriteBatchesInParallelWithSeveralWriters() throws Exception {
+    properties.setMaxBatch(1);
+    properties.setWriters(2);
+    CountDownLatch bothWriting = new CountDownLatch(2);
+    when(recipeService.createAll(anyList())).thenAnswer(invocation -> {
+      bothWriting.countDown();
+      bothWriting.await(5, TimeUnit.SECONDS);
+      return List.of(bothWriting.getCount());
+    });
+    coalescer = new CreateCoalescer(recipeService, properties, registry);
+
+    CompletableFuture<Long> first = coalescer.submit(recipe("First"));
+    CompletableFuture<Long> second = coalescer.submit(recipe("Second"));
+
+    assertEquals(0L, first.get(5, TimeUnit.SECONDS));
+    assertEquals(0L, second.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void shouldRejectCreatesOnceTheQueueIsFullAndTimeOutCreatesThatWaitTooLong() throws Exception {
+    properties.setQueueCapacity(1);
+    properties.setMaxBatch(1);
+    properties.setTimeout(Duration.ofMillis(200));
+    CountDownLatch writing = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(recipeService.createAll(anyList())).thenAnswer(invocation -> {
+      writing.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return List.of(1L);
+    });
+    coalescer = new CreateCoalescer(recipeService, properties, registry);
+
+    CompletableFuture<Long> first = coalescer.submit(recipe("First"));
+    writing.await(5, TimeUnit.SECONDS);
+    CompletableFuture<Long> queued = coalescer.submit(recipe("Queued"));
+    CompletableFuture<Long> rejected = coalescer.submit(recipe("Rejected"));
+
+    assertBusy(rejected, ErrorCode.SERVICE_BUSY);
+    assertBusy(queued, ErrorCode.REQUEST_TIMEOUT);
+    release.countDown();
+    assertBusy(first, ErrorCode.REQUEST_TIMEOUT);
+    verify(recipeService, times(1)).createAll(anyList());
+  }
+
+  private static void assertBusy(CompletableFuture<Long> result, ErrorCode errorCode) {
+    ExecutionException failure = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    ServiceBusyException busy = assertInstanceOf(ServiceBusyException.class, failure.getCause());
+    assertEquals(errorCode, busy.getErrorCode());
+  }
+
+  private static RecipeDto recipe(String title) {
+    RecipeDto recipe = new RecipeDto();
+    recipe.setTitle(title);
+    return recipe;
+  }
+}
@@ -0,0 +1,30 @@
+package com.platform.recipe.adapters.controllers.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import java.time.DayOfWeek;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.format.support.DefaultFormattingConversionService;
+
+class CaseInsensitiveEnumConverterFactoryTest {
+
+  private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+
+  CaseInsensitiveEnumConverterFactoryTest() {
+    conversionService.addConverterFactory(new CaseInsensitiveEnumConverterFactory(IngredientMatch.class));
+  }
+
+  @Test
+  void shouldParseTheGivenEnumsCaseInsensitively() {
+    assertEquals(IngredientMatch.ALL, conversionService.convert(" all ", IngredientMatch.class));
+  }
+
+  @Test
+  void shouldLeaveOtherEnumsToExactNameConversion() {
+    assertEquals(DayOfWeek.MONDAY, conversionService.convert("MONDAY", DayOfWeek.class));
+    assertThrows(ConversionFailedException.class, () -> conversionService.convert("monday", DayOfWeek.class));
+  }
+}
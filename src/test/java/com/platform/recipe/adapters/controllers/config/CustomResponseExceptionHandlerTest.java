@@ -6,7 +6,10 @@ import static org.mockito.Mockito.when;
 
 import com.platform.recipe.domain.exceptions.DataNotFoundException;
 import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
 import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.exceptions.ServiceBusyException;
+import com.platform.recipe.domain.exceptions.TooManyRequestsException;
 import com.platform.recipe.domain.exceptions.UnexpectedErrorException;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -72,6 +76,47 @@ class CustomResponseExceptionHandlerTest {
     assertTrue(responseErrorMessage.fieldErrors().isEmpty());
   }
 
+  @Test
+  void testServiceBusyException() {
+    ServiceBusyException serviceBusyException = new ServiceBusyException(ErrorCode.SERVICE_BUSY, 2);
+    ResponseEntity<ResponseError.ResponseErrorMessage> responseError = customResponseExceptionHandler
+      .serviceBusyException(serviceBusyException);
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseError.getStatusCode());
+    assertEquals("2", responseError.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals(ErrorCode.SERVICE_BUSY.getCode(), responseError.getBody().code());
+  }
+
+  @Test
+  void testForbiddenException() {
+    ResponseEntity<ResponseError.ResponseErrorMessage> responseError = customResponseExceptionHandler
+      .forbiddenException(new ForbiddenException(ErrorCode.EXPLAIN_FORBIDDEN));
+
+    assertEquals(HttpStatus.FORBIDDEN, responseError.getStatusCode());
+    assertEquals(ErrorCode.EXPLAIN_FORBIDDEN.getCode(), responseError.getBody().code());
+  }
+
+  @Test
+  void testQueryTimeoutException() {
+    ResponseEntity<ResponseError.ResponseErrorMessage> responseError = customResponseExceptionHandler
+      .queryTimeoutException(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+    assertEquals(HttpStatus.SERVICE_UNAVAILABLE, responseError.getStatusCode());
+    assertEquals("1", responseError.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals(ErrorCode.REQUEST_TIMEOUT.getCode(), responseError.getBody().code());
+  }
+
+  @Test
+  void testTooManyRequestsException() {
+    TooManyRequestsException tooManyRequestsException = new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS, 1);
+    ResponseEntity<ResponseError.ResponseErrorMessage> responseError = customResponseExceptionHandler
+      .tooManyRequestsException(tooManyRequestsException);
+
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, responseError.getStatusCode());
+    assertEquals("1", responseError.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    assertEquals(ErrorCode.TOO_MANY_REQUESTS.getCode(), responseError.getBody().code());
+  }
+
   @Test
   void testInvalidDataException() {
     InvalidDataException invalidDataException = new InvalidDataException(ErrorCode.INVALID_DATA);
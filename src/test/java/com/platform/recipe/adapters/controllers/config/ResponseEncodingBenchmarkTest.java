@@ -0,0 +1,104 @@
+package com.platform.recipe.adapters.controllers.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.platform.recipe.adapters.controllers.dtos.response.IngredientResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares payload size and encode/decode time of a 50 recipe page in JSON, Smile and CBOR.
+ * Sizes are asserted in every build; timings depend on the machine, so they are only logged, by the
+ * {@code benchmark} tagged test that {@code -Pbenchmark} runs.
+ */
+@Slf4j
+class ResponseEncodingBenchmarkTest {
+
+  private static final int ITERATIONS = 2_000;
+  private static final int WARMUP_ITERATIONS = 500;
+  private static final TypeReference<List<JsonNode>> LIST = new TypeReference<>() { };
+
+  private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+  private final ObjectMapper smile = Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build();
+  private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+  @Test
+  void shouldEncodeRecipePagesSmallerThanJson() throws Exception {
+    List<RecipeResponse> page = recipePage();
+
+    int jsonSize = json.writeValueAsBytes(page).length;
+    int smileSize = smile.writeValueAsBytes(page).length;
+    int cborSize = cbor.writeValueAsBytes(page).length;
+
+    assertTrue(smileSize < jsonSize, "Smile payload should be smaller than JSON");
+    assertTrue(cborSize < jsonSize, "CBOR payload should be smaller than JSON");
+    assertEquals(page.size(), smile.readValue(smile.writeValueAsBytes(page), LIST).size());
+    assertEquals(page.size(), cbor.readValue(cbor.writeValueAsBytes(page), LIST).size());
+  }
+
+  @Test
+  @Tag("benchmark")
+  void shouldTimeEncodingAndDecodingOfEachFormat() throws Exception {
+    List<RecipeResponse> page = recipePage();
+
+    measure("json", json, page);
+    measure("smile", smile, page);
+    measure("cbor", cbor, page);
+  }
+
+  private void measure(String format, ObjectMapper mapper, List<RecipeResponse> page) throws Exception {
+    byte[] encoded = mapper.writeValueAsBytes(page);
+
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      mapper.readValue(mapper.writeValueAsBytes(page), LIST);
+    }
+
+    long encodeStart = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      encoded = mapper.writeValueAsBytes(page);
+    }
+    long encodeNanos = (System.nanoTime() - encodeStart) / ITERATIONS;
+
+    List<JsonNode> decoded = null;
+    long decodeStart = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      decoded = mapper.readValue(encoded, LIST);
+    }
+    long decodeNanos = (System.nanoTime() - decodeStart) / ITERATIONS;
+
+    assertEquals(page.size(), decoded.size());
+    log.info("Format [{}]: [{}] bytes, encode [{}] us, decode [{}] us", format, encoded.length,
+      encodeNanos / 1_000, decodeNanos / 1_000);
+  }
+
+  private List<RecipeResponse> recipePage() {
+    Timestamp now = Timestamp.from(Instant.now());
+    return IntStream.range(0, 50)
+      .mapToObj(i -> new RecipeResponse(
+        (long) i,
+        "Recipe " + i,
+        "Description of recipe " + i,
+        i % 2 == 0,
+        "Mix everything and cook for " + i + " minutes, stirring from time to time.",
+        IntStream.range(0, 10)
+          .mapToObj(j -> new IngredientResponse((long) (i * 10 + j), "Ingredient " + j, 100 + j, "g"))
+          .toList(),
+        now,
+        now
+      ))
+      .toList();
+  }
+}
@@ -0,0 +1,104 @@
+package com.platform.recipe.adapters.controllers.explain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.adapters.controllers.dtos.response.RecipePageResponse;
+import com.platform.recipe.adapters.controllers.dtos.response.SearchExplainResponse;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class SearchDiagnosticsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ExplainProperties properties = new ExplainProperties();
+  private DataSource dataSource;
+  private SearchDiagnostics searchDiagnostics;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    dataSource = new TracingDataSource(new DriverManagerDataSource(
+      "jdbc:h2:mem:explain;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE IF NOT EXISTS recipe (id BIGINT PRIMARY KEY, title VARCHAR(100), vegetarian BOOLEAN)");
+    }
+
+    searchDiagnostics = new SearchDiagnostics(properties, dataSource, registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    searchDiagnostics.close();
+  }
+
+  @Test
+  void shouldRecordStatementsWithBindParametersOnlyInsideTrace() throws Exception {
+    QueryTrace trace = QueryTrace.start(true);
+
+    try (RequestDeadline.Scope scope = trace.enter()) {
+      countVegetarian(true, 5);
+    }
+    countVegetarian(false, 1);
+
+    assertEquals(1, trace.statements().size());
+    QueryTrace.Statement statement = trace.statements().get(0);
+    assertTrue(statement.sql().startsWith("SELECT COUNT(*) FROM recipe"));
+    assertEquals(Arrays.asList(true, 5L), statement.parameters());
+  }
+
+  @Test
+  void shouldExplainEveryTracedStatementWithItsParameters() throws Exception {
+    QueryTrace trace = QueryTrace.start(true);
+
+    try (RequestDeadline.Scope scope = trace.enter()) {
+      QueryTrace.stage("count", () -> countVegetarian(true, 5));
+    }
+
+    SearchExplainResponse response = searchDiagnostics.explain(trace, new RecipePageResponse(List.of(), 0, 10, 0, 0));
+
+    assertEquals(1, response.getStatements().size());
+    assertTrue(response.getStatements().get(0).getPlan().contains("recipe"), response.getStatements().get(0).getPlan());
+    assertTrue(response.getStageMillis().containsKey("count"));
+  }
+
+  @Test
+  void shouldCountSearchesSlowerThanThreshold() throws Exception {
+    properties.setSlowSearchThreshold(Duration.ofNanos(1));
+    QueryTrace trace = QueryTrace.start(false);
+
+    try (RequestDeadline.Scope scope = trace.enter()) {
+      countVegetarian(true, 5);
+    }
+    searchDiagnostics.observe(trace);
+
+    assertEquals(1, registry.counter("recipe.search.slow").count());
+  }
+
+  private long countVegetarian(boolean vegetarian, long minimumId) {
+    try (Connection connection = dataSource.getConnection();
+      PreparedStatement statement = connection.prepareStatement(
+        "SELECT COUNT(*) FROM recipe WHERE vegetarian = ? AND id >= ?")) {
+      statement.setBoolean(1, vegetarian);
+      statement.setLong(2, minimumId);
+      try (ResultSet rows = statement.executeQuery()) {
+        rows.next();
+        return rows.getLong(1);
+      }
+    } catch (Exception ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
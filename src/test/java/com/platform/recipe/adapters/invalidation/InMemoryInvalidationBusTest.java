@@ -0,0 +1,134 @@
+package com.platform.recipe.adapters.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.domain.services.InvalidationBus;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class InMemoryInvalidationBusTest {
+
+  private final InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+  private final List<Long> invalidated = new CopyOnWriteArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void shouldDeliverRightAwayOutsideTransaction() {
+    bus.subscribe(listener());
+
+    bus.publish(7L);
+
+    assertEquals(List.of(7L), invalidated);
+  }
+
+  @Test
+  void shouldDeliverOnlyAfterTheTransactionCommits() {
+    bus.subscribe(listener());
+    TransactionSynchronizationManager.initSynchronization();
+
+    bus.publish(7L);
+    assertTrue(invalidated.isEmpty());
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    assertEquals(List.of(7L), invalidated);
+  }
+
+  @Test
+  void shouldDeliverEveryIdOfABatchWithOneSynchronization() {
+    bus.subscribe(listener());
+    TransactionSynchronizationManager.initSynchronization();
+
+    bus.publish(List.of(7L, 8L, 9L));
+    assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    assertEquals(List.of(7L, 8L, 9L), invalidated);
+  }
+
+  @Test
+  void shouldKeepDeliveringWhenAListenerFails() {
+    bus.subscribe(new InvalidationBus.Listener() {
+      @Override
+      public void invalidate(Long recipeId) {
+        throw new IllegalStateException("broken cache");
+      }
+
+      @Override
+      public void invalidateAll() {
+      }
+    });
+    bus.subscribe(listener());
+
+    bus.publish(7L);
+
+    assertEquals(List.of(7L), invalidated);
+  }
+
+  @Test
+  void shouldNotifyOrderedListenersFirst() {
+    List<String> order = new CopyOnWriteArrayList<>();
+    bus.subscribe(named("cache", order));
+    bus.subscribe(new OrderedListener(named("loads", order)));
+
+    bus.publish(7L);
+
+    assertEquals(List.of("loads", "cache"), order);
+  }
+
+  private InvalidationBus.Listener named(String name, List<String> order) {
+    return new InvalidationBus.Listener() {
+      @Override
+      public void invalidate(Long recipeId) {
+        order.add(name);
+      }
+
+      @Override
+      public void invalidateAll() {
+      }
+    };
+  }
+
+  private record OrderedListener(InvalidationBus.Listener delegate) implements InvalidationBus.Listener, Ordered {
+
+    @Override
+    public void invalidate(Long recipeId) {
+      delegate.invalidate(recipeId);
+    }
+
+    @Override
+    public void invalidateAll() {
+      delegate.invalidateAll();
+    }
+
+    @Override
+    public int getOrder() {
+      return Ordered.HIGHEST_PRECEDENCE;
+    }
+  }
+
+  private InvalidationBus.Listener listener() {
+    return new InvalidationBus.Listener() {
+      @Override
+      public void invalidate(Long recipeId) {
+        invalidated.add(recipeId);
+      }
+
+      @Override
+      public void invalidateAll() {
+        invalidated.add(-1L);
+      }
+    };
+  }
+}
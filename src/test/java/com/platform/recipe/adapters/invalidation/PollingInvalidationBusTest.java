@@ -0,0 +1,85 @@
+package com.platform.recipe.adapters.invalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.domain.services.ChangeFeedWatermark;
+import com.platform.recipe.domain.services.InvalidationBus;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class PollingInvalidationBusTest {
+
+  private final List<Long> invalidated = new CopyOnWriteArrayList<>();
+  private JdbcTemplate jdbcTemplate;
+  private PollingInvalidationBus bus;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+      "jdbc:h2:mem:invalidation;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+    jdbcTemplate.execute("DROP TABLE IF EXISTS recipe_change");
+    jdbcTemplate.execute("CREATE TABLE recipe_change (seq BIGINT PRIMARY KEY, recipe_id BIGINT NOT NULL,"
+      + " change_type VARCHAR(16) NOT NULL, changed_at TIMESTAMP(6) NOT NULL)");
+    jdbcTemplate.update("INSERT INTO recipe_change VALUES (1, 10, 'UPSERT', ?)", settled());
+
+    bus = new PollingInvalidationBus(jdbcTemplate, Duration.ofHours(1));
+    bus.subscribe(new InvalidationBus.Listener() {
+      @Override
+      public void invalidate(Long recipeId) {
+        invalidated.add(recipeId);
+      }
+
+      @Override
+      public void invalidateAll() {
+      }
+    });
+  }
+
+  @AfterEach
+  void tearDown() {
+    bus.close();
+  }
+
+  @Test
+  void shouldDeliverChangesWrittenAfterItStarted() {
+    bus.poll();
+    assertTrue(invalidated.isEmpty());
+
+    jdbcTemplate.update("INSERT INTO recipe_change VALUES (2, 11, 'UPSERT', CURRENT_TIMESTAMP)");
+    jdbcTemplate.update("INSERT INTO recipe_change VALUES (3, 12, 'DELETE', CURRENT_TIMESTAMP)");
+    bus.poll();
+    bus.poll();
+
+    assertEquals(List.of(11L, 12L), invalidated);
+  }
+
+  @Test
+  void shouldWaitForALowerPositionUntilItCommitsOrSettles() {
+    bus.poll();
+
+    jdbcTemplate.update("INSERT INTO recipe_change VALUES (3, 12, 'UPSERT', CURRENT_TIMESTAMP)");
+    bus.poll();
+    assertTrue(invalidated.isEmpty());
+
+    jdbcTemplate.update("INSERT INTO recipe_change VALUES (2, 11, 'UPSERT', CURRENT_TIMESTAMP)");
+    bus.poll();
+    assertEquals(List.of(11L, 12L), invalidated);
+
+    jdbcTemplate.update("INSERT INTO recipe_change VALUES (5, 14, 'DELETE', ?)", settled());
+    bus.poll();
+    assertEquals(List.of(11L, 12L, 14L), invalidated);
+  }
+
+  private static Timestamp settled() {
+    return Timestamp.from(Instant.now().minus(ChangeFeedWatermark.SETTLE_TIME).minusSeconds(1));
+  }
+}
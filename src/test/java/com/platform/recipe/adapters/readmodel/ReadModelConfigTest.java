@@ -0,0 +1,62 @@
+package com.platform.recipe.adapters.readmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.implementations.ReadModelRecipeService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "recipe.read-model.enabled=true")
+class ReadModelConfigTest {
+
+  @Autowired
+  private RecipeService recipeService;
+
+  @Test
+  void shouldServeSearchesFromTheReadModelInStepWithWrites() throws Exception {
+    List<Long> created = new ArrayList<>();
+    try {
+      created.add(recipeService.create(recipe("Pirão", "Cassava flour")));
+      created.add(recipeService.create(recipe("Farofa", "Cassava flour")));
+
+      Page<RecipeDto> page = search();
+      assertInstanceOf(ReadModelRecipeService.class, recipeService);
+      assertEquals(List.of(created.get(1), created.get(0)), page.getContent().stream().map(RecipeDto::getId).toList());
+      assertEquals(4, page.getContent().get(0).getIngredients().get(0).getQuantity());
+
+      recipeService.deleteById(created.remove(1));
+      assertEquals(1, search().getTotalElements());
+    } finally {
+      for (Long id : created) {
+        recipeService.deleteById(id);
+      }
+    }
+  }
+
+  private Page<RecipeDto> search() {
+    return recipeService.searchWithFilters(null, 2, List.of("cassava flour"), null, IngredientMatch.ANY, null, null,
+      null, null, null, 0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"), RecipeView.FULL);
+  }
+
+  private static RecipeDto recipe(String title, String ingredient) {
+    RecipeDto recipe = new RecipeDto();
+    recipe.setTitle(title);
+    recipe.setDescription(title);
+    recipe.setInstructions("Toast it");
+    recipe.setIngredients(List.of(new IngredientDto(null, ingredient, 2, "cup")));
+    return recipe;
+  }
+}
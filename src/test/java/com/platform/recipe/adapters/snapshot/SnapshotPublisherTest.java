@@ -0,0 +1,125 @@
+package com.platform.recipe.adapters.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.snapshot.RecipeSnapshot;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotPublisherTest {
+
+  private final RecipeService recipeService = mock(RecipeService.class);
+  private final List<RecipeDto> catalog = new CopyOnWriteArrayList<>();
+
+  @TempDir
+  Path directory;
+
+  private Path target;
+  private SnapshotPublisher publisher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    target = directory.resolve("published").resolve("recipes.snapshot");
+    catalog.add(recipe(1L, "Feijoada"));
+    doAnswer(invocation -> {
+      catalog.forEach(invocation.<Consumer<RecipeDto>>getArgument(14));
+      return (long) catalog.size();
+    }).when(recipeService).streamWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any(),
+      anyInt(), anyInt(), any(), eq(RecipeView.FULL), any(Consumer.class));
+    doAnswer(invocation -> {
+      catalog.stream().sorted(Comparator.comparing(RecipeDto::getTitle, String.CASE_INSENSITIVE_ORDER))
+        .forEach(invocation.<Consumer<RecipeDto>>getArgument(14));
+      return (long) catalog.size();
+    }).when(recipeService).streamWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any(),
+      anyInt(), anyInt(), any(), eq(RecipeView.SUMMARY), any(Consumer.class));
+
+    publisher = new SnapshotPublisher(recipeService, target, Duration.ofHours(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    publisher.close();
+  }
+
+  @Test
+  void shouldMoveACompleteSnapshotIntoPlaceAndLeaveNoTemporaryFiles() throws IOException {
+    catalog.add(recipe(2L, "Moqueca"));
+
+    assertEquals(2, publisher.publish());
+
+    RecipeSnapshot snapshot = RecipeSnapshot.open(target);
+    assertEquals(2, snapshot.size());
+    assertEquals("Moqueca", snapshot.title(snapshot.find(2L)));
+    try (Stream<Path> files = Files.list(target.getParent())) {
+      assertEquals(List.of(target), files.toList());
+    }
+  }
+
+  @Test
+  void shouldTakeTheTitleOrderFromTheDatabase() throws IOException {
+    catalog.add(recipe(2L, "açaí"));
+    catalog.add(recipe(3L, "Bolo"));
+
+    publisher.publish();
+
+    RecipeSnapshot snapshot = RecipeSnapshot.open(target);
+    assertEquals(List.of(2L, 3L, 1L), List.of(
+      snapshot.id(snapshot.ordinalAt(RecipeSnapshot.Order.TITLE, 0)),
+      snapshot.id(snapshot.ordinalAt(RecipeSnapshot.Order.TITLE, 1)),
+      snapshot.id(snapshot.ordinalAt(RecipeSnapshot.Order.TITLE, 2))));
+  }
+
+  @Test
+  void shouldServeTheReplacementWhileReadersKeepThePreviousMapping() throws IOException {
+    publisher.publish();
+    try (MappedSnapshot mapped = new MappedSnapshot(target, Duration.ofHours(1))) {
+      RecipeSnapshot previous = mapped.current();
+
+      catalog.add(recipe(2L, "Moqueca"));
+      publisher.publish();
+      // Both files can be written within the file system's timestamp resolution.
+      Files.setLastModifiedTime(target, FileTime.from(Instant.now().plusSeconds(60)));
+      mapped.reload();
+
+      assertEquals(2, mapped.current().size());
+      assertEquals(1, previous.size());
+      assertEquals("Feijoada", previous.title(previous.find(1L)));
+    }
+  }
+
+  @Test
+  void shouldFailToStartServingWithoutASnapshot() {
+    assertThrows(IOException.class, () -> new MappedSnapshot(directory.resolve("missing.snapshot"), Duration.ofHours(1)));
+  }
+
+  private static RecipeDto recipe(Long id, String title) {
+    Timestamp now = Timestamp.from(Instant.now());
+    return new RecipeDto(id, title, title, false, "Cook it",
+      List.of(new IngredientDto(id, "Beans", 1, "kg")), now, now);
+  }
+}
@@ -0,0 +1,102 @@
+package com.platform.recipe.adapters.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.RecipeApplication;
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.services.RecipeService;
+import com.platform.recipe.domain.services.implementations.SnapshotRecipeService;
+import com.platform.recipe.domain.snapshot.RecipeSnapshotWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application with the {@code edge} profile, as a read node would, with no database behind it.
+ */
+class SnapshotServingTest {
+
+  private final HttpClient client = HttpClient.newHttpClient();
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldServeReadsFromTheSnapshotWithoutADatabaseAndRefuseWrites() throws Exception {
+    Path snapshot = directory.resolve("recipes.snapshot");
+    Timestamp now = Timestamp.from(Instant.now());
+    RecipeSnapshotWriter.write(snapshot, List.of(
+      new RecipeDto(7L, "Pão de queijo", "Cheese bread", true, "Bake it", List.of(new IngredientDto(1L, "Cheese", 200, "g")), now, now)
+    ), List.of(7L), Instant.now());
+
+    try (ConfigurableApplicationContext context = SpringApplication.run(RecipeApplication.class,
+      "--spring.profiles.active=test,edge",
+      "--server.port=0",
+      "--recipe.snapshot.path=" + snapshot
+    )) {
+      String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/v1/recipes";
+
+      assertInstanceOf(SnapshotRecipeService.class, context.getBean(RecipeService.class));
+      assertTrue(context.getBeansOfType(DataSource.class).isEmpty());
+
+      HttpResponse<String> found = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/7")).build(),
+        HttpResponse.BodyHandlers.ofString());
+      assertEquals(200, found.statusCode());
+      assertTrue(found.body().contains("Pão de queijo"));
+
+      HttpResponse<String> deleted = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/7")).DELETE().build(),
+        HttpResponse.BodyHandlers.ofString());
+      assertEquals(403, deleted.statusCode());
+    }
+  }
+
+  @Test
+  void shouldStopServingCachedResponsesOnceAReplacementSnapshotIsMapped() throws Exception {
+    Path snapshot = directory.resolve("recipes.snapshot");
+    Timestamp now = Timestamp.from(Instant.now());
+    RecipeSnapshotWriter.write(snapshot, List.of(
+      new RecipeDto(7L, "Pão de queijo", "Cheese bread", true, "Bake it", List.of(), now, now)
+    ), List.of(7L), Instant.now());
+
+    try (ConfigurableApplicationContext context = SpringApplication.run(RecipeApplication.class,
+      "--spring.profiles.active=test,edge",
+      "--server.port=0",
+      "--recipe.snapshot.path=" + snapshot,
+      "--recipe.snapshot.reload-interval=PT1H"
+    )) {
+      URI recipe = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+        + "/v1/recipes/7");
+      assertTrue(client.send(HttpRequest.newBuilder(recipe).build(), HttpResponse.BodyHandlers.ofString()).body()
+        .contains("Pão de queijo"));
+
+      Path replacement = directory.resolve("recipes.snapshot.tmp");
+      RecipeSnapshotWriter.write(replacement, List.of(
+        new RecipeDto(7L, "Pão de batata", "Potato bread", true, "Bake it", List.of(), now, now)
+      ), List.of(7L), Instant.now());
+      Files.setLastModifiedTime(replacement, FileTime.from(Instant.now().plusSeconds(60)));
+      Files.move(replacement, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      context.getBean(MappedSnapshot.class).reload();
+
+      HttpResponse<String> found = client.send(HttpRequest.newBuilder(recipe).build(),
+        HttpResponse.BodyHandlers.ofString());
+      assertEquals(200, found.statusCode());
+      assertTrue(found.body().contains("Pão de batata"));
+    }
+  }
+}
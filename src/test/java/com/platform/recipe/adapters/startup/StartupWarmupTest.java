@@ -0,0 +1,89 @@
+package com.platform.recipe.adapters.startup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.services.RecipeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class StartupWarmupTest {
+
+  private final WarmupProperties properties = new WarmupProperties();
+  private final DataSource dataSource = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final RecipeService recipeService = mock(RecipeService.class);
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    properties.setIterations(3);
+    properties.setConnections(4);
+    when(dataSource.getConnection()).thenReturn(connection);
+  }
+
+  @Test
+  void shouldOpenConnectionsAndRunEveryViewBeforeReadiness() throws Exception {
+    RecipeDto recipe = new RecipeDto();
+    recipe.setId(7L);
+    recipe.setTitle("Feijoada");
+    when(recipeService.searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any(),
+      anyInt(), anyInt(), any(), any())).thenReturn(new PageImpl<>(List.of(recipe), PageRequest.of(0, 10), 1));
+    when(recipeService.findById(eq(7L), any())).thenReturn(recipe);
+
+    warmup().run(new DefaultApplicationArguments());
+
+    verify(dataSource, times(4)).getConnection();
+    verify(connection, times(4)).close();
+    verify(recipeService, times(3 * RecipeView.values().length * 2)).searchWithFilters(any(), anyInt(), any(), any(),
+      any(), any(), any(), any(), any(), any(), anyInt(), anyInt(), any(), any());
+    verify(recipeService, times(3)).findById(7L, RecipeView.FULL);
+    verify(recipeService, times(3)).findById(7L, RecipeView.SUMMARY);
+    assertEquals(1, registry.get("recipe.startup.warmup").timer().count());
+  }
+
+  @Test
+  void shouldStillStartWhenReadsFail() throws Exception {
+    when(recipeService.searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any(),
+      anyInt(), anyInt(), any(), any())).thenThrow(new IllegalStateException("database unavailable"));
+
+    warmup().run(new DefaultApplicationArguments());
+
+    verify(recipeService, never()).findById(any(), any());
+    assertEquals(1, registry.get("recipe.startup.warmup").timer().count());
+  }
+
+  @Test
+  void shouldDoNothingWhenDisabled() throws Exception {
+    properties.setEnabled(false);
+
+    warmup().run(new DefaultApplicationArguments());
+
+    verifyNoInteractions(recipeService);
+    verify(dataSource, never()).getConnection();
+  }
+
+  private StartupWarmup warmup() {
+    return new StartupWarmup(properties, dataSource, recipeService, objectMapper, registry);
+  }
+}
@@ -0,0 +1,98 @@
+package com.platform.recipe.domain.readmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.domain.dtos.RecipeDto;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NewestRecipesTest {
+
+  @Test
+  void shouldPutCreatedRecipesAtTheHeadAndDropTheOldestWhenFull() {
+    NewestRecipes newest = new NewestRecipes(null, 3);
+    newest.load(List.of(recipe(5L, true, 5), recipe(4L, false, 4), recipe(3L, true, 3)), 5);
+
+    newest.apply(6L, recipe(6L, false, 6));
+    newest.apply(7L, recipe(7L, true, 7));
+
+    NewestRecipes.Slice slice = newest.slice(0, 3);
+    assertEquals(List.of(7L, 6L, 5L), ids(slice));
+    assertEquals(7, slice.total());
+    assertEquals(List.of(5L), ids(newest.slice(2, 1)));
+    assertNull(newest.slice(1, 3));
+  }
+
+  @Test
+  void shouldPlaceARecipeFromASlowerClockBehindNewerOnes() {
+    NewestRecipes newest = new NewestRecipes(null, 4);
+    newest.load(List.of(recipe(5L, true, 5), recipe(3L, true, 3)), 2);
+
+    newest.apply(4L, recipe(4L, true, 4));
+
+    assertEquals(List.of(5L, 4L, 3L), ids(newest.slice(0, 4)));
+  }
+
+  @Test
+  void shouldKeepUpdatedRecipesInPlaceAndDropDeletedOnes() {
+    NewestRecipes newest = new NewestRecipes(null, 3);
+    newest.load(List.of(recipe(3L, true, 3), recipe(2L, true, 2), recipe(1L, true, 1)), 3);
+
+    RecipeDto renamed = recipe(2L, true, 2);
+    renamed.setTitle("Renamed");
+    newest.apply(2L, renamed);
+    newest.apply(3L, null);
+
+    NewestRecipes.Slice slice = newest.slice(0, 3);
+    assertEquals(List.of(2L, 1L), ids(slice));
+    assertEquals("Renamed", slice.recipes().get(0).getTitle());
+    assertEquals(2, slice.total());
+    assertFalse(newest.isStale());
+  }
+
+  @Test
+  void shouldMoveARecipeOutOfTheVegetarianRingWhenItStopsMatching() {
+    NewestRecipes vegetarian = new NewestRecipes(true, 2);
+    vegetarian.load(List.of(recipe(4L, true, 4), recipe(3L, true, 3)), 5);
+
+    vegetarian.apply(4L, recipe(4L, false, 4));
+
+    assertEquals(List.of(3L), ids(vegetarian.slice(0, 1)));
+    assertEquals(4, vegetarian.slice(0, 1).total());
+    assertNull(vegetarian.slice(0, 2));
+  }
+
+  @Test
+  void shouldGoStaleWhenAChangeIsOlderThanEverythingItHolds() {
+    NewestRecipes all = new NewestRecipes(null, 2);
+    all.load(List.of(recipe(9L, true, 9), recipe(8L, true, 8)), 10);
+    NewestRecipes vegetarian = new NewestRecipes(true, 2);
+    vegetarian.load(List.of(recipe(9L, true, 9), recipe(8L, true, 8)), 6);
+
+    all.apply(1L, recipe(1L, true, 1));
+    vegetarian.apply(1L, recipe(1L, true, 1));
+
+    assertFalse(all.isStale());
+    assertEquals(10, all.slice(0, 2).total());
+    assertTrue(vegetarian.isStale());
+
+    all.apply(2L, null);
+
+    assertTrue(all.isStale());
+    assertNull(all.slice(0, 2));
+  }
+
+  private static List<Long> ids(NewestRecipes.Slice slice) {
+    return slice.recipes().stream().map(RecipeDto::getId).toList();
+  }
+
+  private static RecipeDto recipe(Long id, boolean vegetarian, int day) {
+    Timestamp createdAt = Timestamp.from(Instant.parse("2026-01-01T10:00:00Z").plusSeconds(day * 86_400L));
+    return new RecipeDto(id, "Recipe " + id, "Description", vegetarian, "Cook it", List.of(), createdAt, createdAt);
+  }
+}
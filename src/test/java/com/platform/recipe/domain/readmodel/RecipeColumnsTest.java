@@ -0,0 +1,137 @@
+package com.platform.recipe.domain.readmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Sort;
+
+class RecipeColumnsTest {
+
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+  private RecipeColumns columns;
+
+  @BeforeEach
+  void setUp() {
+    columns = new RecipeColumns(pool);
+    columns.upsert(recipe(1L, "Tomato soup", true, "2026-01-01T10:00:00Z", "Simmer the tomatoes", "Tomatoes", "Onion"));
+    columns.upsert(recipe(2L, "Bruschetta", true, "2026-01-02T10:00:00Z", "Toast the bread", "Tomato", "Bread"));
+    columns.upsert(recipe(3L, "Grilled fish", false, "2026-01-02T10:00:00Z", "Grill the fish", "Fish", "Tomato"));
+    columns.upsert(recipe(4L, "Onion rings", true, "2026-01-04T10:00:00Z", "Fry the onions", "Onions"));
+  }
+
+  @AfterEach
+  void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  void shouldPageMatchesInTheRequestedOrderWithIdTieBreaker() {
+    assertEquals(List.of(4L, 3L), ids(search(null, null, null, IngredientMatch.ANY, NEWEST_FIRST, 0, 2)));
+    assertEquals(List.of(2L, 1L), ids(search(null, null, null, IngredientMatch.ANY, NEWEST_FIRST, 2, 2)));
+    assertEquals(List.of(1L, 2L, 3L, 4L),
+      ids(search(null, null, null, IngredientMatch.ANY, Sort.by(Sort.Direction.ASC, "createdAt", "id"), 0, 10)));
+    assertEquals(4, search(null, null, null, IngredientMatch.ANY, NEWEST_FIRST, 8, 2).total());
+  }
+
+  @Test
+  void shouldFilterLikeTheDatabasePredicates() {
+    assertEquals(List.of(3L, 2L, 1L), ids(search(null, List.of("tomato"), null, IngredientMatch.ANY, NEWEST_FIRST, 0, 10)));
+    assertEquals(List.of(1L), ids(search(null, List.of("TOMATO", "onions"), null, IngredientMatch.ALL, NEWEST_FIRST, 0, 10)));
+    assertEquals(List.of(3L, 2L), ids(search(null, List.of("tomato"), List.of("onion", "saffron"), IngredientMatch.ANY, NEWEST_FIRST, 0, 10)));
+    assertEquals(0, search(null, List.of("tomato", "saffron"), null, IngredientMatch.ALL, NEWEST_FIRST, 0, 10).total());
+    assertEquals(List.of(4L, 2L, 1L), ids(search(true, null, null, IngredientMatch.ANY, NEWEST_FIRST, 0, 10)));
+
+    RecipeColumns.Matches january = columns.search(null, null, null, IngredientMatch.ANY,
+      Instant.parse("2026-01-02T00:00:00Z"), Instant.parse("2026-01-03T00:00:00Z"), NEWEST_FIRST, 0, 10);
+    assertEquals(List.of(3L, 2L), ids(january));
+  }
+
+  @Test
+  void shouldReturnSummariesWithoutIngredientsOrInstructions() {
+    RecipeDto summary = search(null, null, null, IngredientMatch.ANY, NEWEST_FIRST, 0, 1).summaries().get(0);
+
+    assertEquals("Onion rings", summary.getTitle());
+    assertEquals("Onion rings description", summary.getDescription());
+    assertEquals(Timestamp.from(Instant.parse("2026-01-04T10:00:00Z")), summary.getCreatedAt());
+    assertNull(summary.getIngredients());
+    assertNull(summary.getInstructions());
+  }
+
+  @Test
+  void shouldApplyUpdatesAndRemovalsAndReuseFreedSlots() {
+    columns.upsert(recipe(2L, "Bruschetta", true, "2026-01-02T10:00:00Z", "Rub with garlic", "Garlic"));
+    columns.remove(1L);
+    columns.upsert(recipe(5L, "Salsa", true, "2026-01-05T10:00:00Z", "Chop the tomatoes", "Tomato"));
+
+    assertEquals(4, columns.size());
+    assertEquals(List.of(5L, 3L), ids(search(null, List.of("tomato"), null, IngredientMatch.ANY, NEWEST_FIRST, 0, 10)));
+    assertEquals(List.of(2L), ids(search(null, List.of("garlic"), null, IngredientMatch.ANY, NEWEST_FIRST, 0, 10)));
+    assertEquals(0, search(null, List.of("bread"), null, IngredientMatch.ANY, NEWEST_FIRST, 0, 10).total());
+  }
+
+  @Test
+  void shouldScanManyRecipesAcrossChunks() {
+    for (long id = 10; id < 20_010; id++) {
+      String ingredient = id % 1000 == 0 ? "Saffron" : "Flour";
+      columns.upsert(recipe(id, "Recipe " + id, id % 2 == 0, "2026-02-01T10:00:00Z", "Stir step " + id, ingredient));
+    }
+
+    RecipeColumns.Matches saffron = search(true, List.of("saffron"), null, IngredientMatch.ANY,
+      Sort.by(Sort.Direction.ASC, "createdAt", "id"), 0, 100);
+
+    assertEquals(20, saffron.total());
+    assertEquals(1000L, saffron.summaries().get(0).getId());
+    assertEquals(20_004, columns.size());
+  }
+
+  @Test
+  void shouldStopScanningOnceTheRequestDeadlineHasPassed() {
+    try (RequestDeadline.Scope ignored = RequestDeadline.after(Duration.ZERO).enter()) {
+      assertThrows(QueryTimeoutException.class,
+        () -> search(null, null, null, IngredientMatch.ANY, NEWEST_FIRST, 0, 10));
+    }
+  }
+
+  private RecipeColumns.Matches search(
+    Boolean vegetarian,
+    List<String> included,
+    List<String> excluded,
+    IngredientMatch match,
+    Sort sort,
+    long offset,
+    int limit
+  ) {
+    return columns.search(vegetarian, included, excluded, match, null, null, sort, offset, limit);
+  }
+
+  private static List<Long> ids(RecipeColumns.Matches matches) {
+    return matches.summaries().stream().map(RecipeDto::getId).toList();
+  }
+
+  private static RecipeDto recipe(Long id, String title, boolean vegetarian, String createdAt, String instructions,
+    String... ingredients) {
+    Timestamp timestamp = Timestamp.from(Instant.parse(createdAt));
+    List<IngredientDto> ingredientDtos = new ArrayList<>();
+    for (String ingredient : ingredients) {
+      ingredientDtos.add(new IngredientDto(null, ingredient, 1, "g"));
+    }
+    return new RecipeDto(id, title, title + " description", vegetarian, instructions, ingredientDtos, timestamp, timestamp);
+  }
+}
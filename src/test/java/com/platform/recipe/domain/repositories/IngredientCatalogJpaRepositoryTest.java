@@ -0,0 +1,70 @@
+package com.platform.recipe.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.platform.recipe.domain.entities.Ingredient;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IngredientCatalogJpaRepositoryTest {
+
+  @Autowired
+  private IngredientCatalogJpaRepository ingredientCatalogJpaRepository;
+
+  @Test
+  void shouldAssignOneCatalogIdToEverySpellingOfAnIngredient() {
+    Ingredient first = ingredient("Cherry  Tomato", "Grams");
+    Ingredient second = ingredient("cherry tomatoes ", "g");
+    Ingredient third = ingredient("Basil", null);
+
+    ingredientCatalogJpaRepository.assignIds(List.of(first, second, third));
+
+    assertNotNull(first.getCatalogId());
+    assertEquals(first.getCatalogId(), second.getCatalogId());
+    assertEquals(first.getUnitId(), second.getUnitId());
+    assertNotEquals(first.getCatalogId(), third.getCatalogId());
+    assertNull(third.getUnitId());
+
+    Map<String, Integer> ids = ingredientCatalogJpaRepository.findIdsByName(List.of("CHERRY TOMATOES", "Saffron"));
+    assertEquals(Map.of("cherry tomato", first.getCatalogId()), ids);
+  }
+
+  @Test
+  void shouldResolveLabelsToTheFirstSpellingAndUnitCode() {
+    Ingredient original = ingredient("Cassava  flour", "kilograms");
+    ingredientCatalogJpaRepository.assignIds(List.of(original));
+
+    Ingredient first = new Ingredient();
+    first.setCatalogId(original.getCatalogId());
+    first.setUnitId(original.getUnitId());
+    Ingredient second = new Ingredient();
+    second.setCatalogId(original.getCatalogId());
+
+    ingredientCatalogJpaRepository.resolveLabels(List.of(first, second));
+
+    assertEquals("Cassava flour", first.getName());
+    assertEquals("kg", first.getUnit());
+    assertSame(first.getName(), second.getName());
+    assertNull(second.getUnit());
+  }
+
+  private Ingredient ingredient(String name, String unit) {
+    Ingredient ingredient = new Ingredient();
+    ingredient.setName(name);
+    ingredient.setQuantity(1);
+    ingredient.setUnit(unit);
+    return ingredient;
+  }
+}
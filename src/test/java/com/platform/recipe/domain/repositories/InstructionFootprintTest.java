@@ -0,0 +1,136 @@
+package com.platform.recipe.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.entities.Recipe;
+import jakarta.persistence.EntityGraph;
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.Field;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Measures the instruction bytes a search page keeps on the heap with instructions loaded lazily, against the same
+ * page with them fetched as an eager mapping would. They are counted from the entities themselves: the in-memory
+ * database holds the very strings it hands out, so the used heap would not show them.
+ */
+@Slf4j
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:instruction_footprint;MODE=PostgreSQL;"
+  + "DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class InstructionFootprintTest {
+
+  private static final int RECIPES = 200;
+  private static final int PAGE_SIZE = 50;
+  private static final int INSTRUCTION_CHARS = 16 * 1024;
+
+  private static final Pageable NEWEST = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  @Qualifier("customRecipeJpaRepositoryImpl")
+  private CustomRecipeJpaRepository customRecipeJpaRepository;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM ingredient");
+    jdbcTemplate.update("DELETE FROM recipe");
+
+    Instant now = Instant.now();
+    List<Object[]> recipes = new ArrayList<>();
+    for (long id = 1; id <= RECIPES; id++) {
+      Timestamp createdAt = Timestamp.from(now.minus(id, ChronoUnit.MINUTES));
+      recipes.add(new Object[] {id, "Recipe " + id, "Description", id % 3 == 0, instructions(id), createdAt, createdAt});
+    }
+    jdbcTemplate.batchUpdate(
+      "INSERT INTO recipe (id, title, description, is_vegetarian, instructions, created_at, updated_at)"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+      recipes
+    );
+    jdbcTemplate.execute("ALTER SEQUENCE recipe_seq RESTART WITH " + (RECIPES + 51));
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM recipe");
+  }
+
+  @Test
+  void shouldKeepNoInstructionBytesOnASearchPage() throws Exception {
+    List<Recipe> lazy = measure("Lazy", () -> customRecipeJpaRepository.searchWithFilters(null, null, null,
+      IngredientMatch.ANY, null, null, null, null, null, NEWEST).getContent());
+    List<Long> ids = lazy.stream().map(Recipe::getId).toList();
+    List<Recipe> eager = measure("Eager", () -> withInstructions(ids));
+
+    assertEquals(PAGE_SIZE, lazy.size());
+    assertEquals(PAGE_SIZE, eager.size());
+    assertEquals(0, retainedInstructionBytes(lazy));
+    assertEquals((long) PAGE_SIZE * INSTRUCTION_CHARS, retainedInstructionBytes(eager));
+  }
+
+  /**
+   * The page as an eager mapping would load it: the same recipes with the instructions in the select.
+   */
+  private List<Recipe> withInstructions(List<Long> ids) {
+    EntityGraph<Recipe> graph = entityManager.createEntityGraph(Recipe.class);
+    graph.addAttributeNodes("instructions");
+    return entityManager.createQuery("SELECT r FROM Recipe r WHERE r.id IN :ids", Recipe.class)
+      .setParameter("ids", ids)
+      .setHint("jakarta.persistence.fetchgraph", graph)
+      .getResultList();
+  }
+
+  private List<Recipe> measure(String name, Supplier<List<Recipe>> load) throws ReflectiveOperationException {
+    entityManager.clear();
+    List<Recipe> page = load.get();
+    log.info("{} page of [{}] recipes retains [{}] instruction bytes", name, page.size(), retainedInstructionBytes(page));
+    return page;
+  }
+
+  /**
+   * Reads the field itself, since the getter would load a lazy value. Instructions are ASCII, which compact
+   * strings keep at one byte per character.
+   */
+  private static long retainedInstructionBytes(List<Recipe> recipes) throws ReflectiveOperationException {
+    Field field = Recipe.class.getDeclaredField("instructions");
+    field.setAccessible(true);
+    long bytes = 0;
+    for (Recipe recipe : recipes) {
+      String value = (String) field.get(recipe);
+      bytes += value == null ? 0 : value.length();
+    }
+    return bytes;
+  }
+
+  private static String instructions(long id) {
+    String step = "Step for recipe " + id + ": stir, season and simmer. ";
+    return step.repeat(INSTRUCTION_CHARS / step.length() + 1).substring(0, INSTRUCTION_CHARS);
+  }
+}
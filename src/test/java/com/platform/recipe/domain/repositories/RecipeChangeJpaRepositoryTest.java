@@ -0,0 +1,65 @@
+package com.platform.recipe.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import com.platform.recipe.domain.entities.RecipeChange;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RecipeChangeJpaRepositoryTest {
+
+  @Autowired
+  private RecipeChangeJpaRepository recipeChangeJpaRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void shouldRecordChangesAtIncreasingPositionsAndPageThroughThem() {
+    long cursor = lastPosition();
+
+    recipeChangeJpaRepository.record(10L, RecipeChangeType.UPSERT);
+    recipeChangeJpaRepository.record(11L, RecipeChangeType.UPSERT);
+    recipeChangeJpaRepository.record(10L, RecipeChangeType.DELETE);
+
+    List<RecipeChange> firstPage = recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(cursor, Limit.of(2));
+    List<RecipeChange> secondPage = recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(
+      firstPage.get(1).getSeq(), Limit.of(2));
+
+    assertEquals(firstPage.get(0).getSeq() + 1, firstPage.get(1).getSeq());
+    assertEquals(List.of(10L, 11L), firstPage.stream().map(RecipeChange::getRecipeId).toList());
+    assertEquals(1, secondPage.size());
+    assertEquals(firstPage.get(1).getSeq() + 1, secondPage.get(0).getSeq());
+    assertEquals(RecipeChangeType.DELETE, secondPage.get(0).getChangeType());
+  }
+
+  @Test
+  void shouldRecordAChangePerExistingRecipeInIdOrder() {
+    long cursor = lastPosition();
+    for (long id : List.of(900_001L, 900_002L)) {
+      jdbcTemplate.update("INSERT INTO recipe (id, title, description, is_vegetarian, instructions, created_at, updated_at)"
+        + " VALUES (?, 'Bulk', 'Bulk', FALSE, 'Bulk', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", id);
+    }
+
+    recipeChangeJpaRepository.recordAll(List.of(900_002L, 900_001L, 900_003L), RecipeChangeType.DELETE);
+
+    List<RecipeChange> changes = recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(cursor, Limit.of(10));
+    assertEquals(List.of(900_001L, 900_002L), changes.stream().map(RecipeChange::getRecipeId).toList());
+    assertEquals(changes.get(0).getSeq() + 1, changes.get(1).getSeq());
+    assertEquals(RecipeChangeType.DELETE, changes.get(1).getChangeType());
+  }
+
+  private long lastPosition() {
+    return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(seq), 0) FROM recipe_change", Long.class);
+  }
+}
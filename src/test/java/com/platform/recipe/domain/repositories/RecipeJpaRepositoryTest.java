@@ -0,0 +1,81 @@
+package com.platform.recipe.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.adapters.controllers.explain.ExplainConfig;
+import com.platform.recipe.domain.entities.Ingredient;
+import com.platform.recipe.domain.entities.Recipe;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ActiveProfiles("test")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ExplainConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecipeJpaRepositoryTest {
+
+  private static final int INGREDIENTS = 150;
+
+  @Autowired
+  private RecipeJpaRepository recipeJpaRepository;
+
+  @Autowired
+  private IngredientCatalogJpaRepository ingredientCatalogJpaRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void shouldInsertRecipeWithManyIngredientsInBatches() {
+    Recipe recipe = new Recipe();
+    recipe.setTitle("Big batch stew");
+    recipe.setDescription("Everything in the pantry");
+    recipe.setInstructions("Chop and simmer");
+    List<Ingredient> ingredients = new ArrayList<>();
+    for (int i = 0; i < INGREDIENTS; i++) {
+      Ingredient ingredient = new Ingredient();
+      ingredient.setName("Ingredient " + i);
+      ingredient.setQuantity(i + 1);
+      ingredient.setUnit("g");
+      ingredient.setRecipe(recipe);
+      ingredients.add(ingredient);
+    }
+    recipe.setIngredients(ingredients);
+    new TransactionTemplate(transactionManager).executeWithoutResult(
+      status -> ingredientCatalogJpaRepository.assignIds(ingredients));
+
+    QueryTrace trace = QueryTrace.start(false);
+    try (RequestDeadline.Scope ignored = trace.enter()) {
+      new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+        recipeJpaRepository.saveAndFlush(recipe);
+        status.setRollbackOnly();
+      });
+    }
+
+    List<String> statements = trace.statements().stream()
+      .map(statement -> statement.sql().toLowerCase(Locale.ROOT))
+      .toList();
+    assertEquals(1, count(statements, "insert into recipe "));
+    assertEquals(3, count(statements, "insert into ingredient "));
+    assertTrue(statements.size() <= 10, "Expected at most 10 round trips but got " + statements);
+  }
+
+  private static long count(List<String> statements, String prefix) {
+    return statements.stream().filter(sql -> sql.startsWith(prefix)).count();
+  }
+}
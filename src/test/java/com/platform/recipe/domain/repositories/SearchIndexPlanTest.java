@@ -0,0 +1,169 @@
+package com.platform.recipe.domain.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.adapters.controllers.explain.ExplainConfig;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.services.QueryTrace;
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Explains the SQL the repository generates, captured through the tracing data source. ANALYZE
+ * commits the fixture, so it lives in its own database and runs outside the test transaction.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:search_index_plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+  + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@Import(ExplainConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SearchIndexPlanTest {
+
+  private static final int RECIPES = 2_000;
+  private static final String[] INGREDIENTS = {"Bean", "Milk", "Tomato", "Lettuce", "Rice", "Egg", "Flour", "Salt"};
+
+  private static final Pageable NEWEST = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  @Qualifier("customRecipeJpaRepositoryImpl")
+  private CustomRecipeJpaRepository customRecipeJpaRepository;
+
+  @Autowired
+  private IngredientJpaRepository ingredientJpaRepository;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate.update("DELETE FROM ingredient");
+    jdbcTemplate.update("DELETE FROM recipe");
+
+    Instant now = Instant.now();
+    List<Object[]> recipes = new ArrayList<>();
+    for (long id = 1; id <= RECIPES; id++) {
+      Timestamp createdAt = Timestamp.from(now.minus(id, ChronoUnit.MINUTES));
+      recipes.add(new Object[] {id, "Recipe " + id, "Description", id % 3 == 0, "Instructions " + id, createdAt, createdAt});
+    }
+    jdbcTemplate.batchUpdate(
+      "INSERT INTO recipe (id, title, description, is_vegetarian, instructions, created_at, updated_at)"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?)",
+      recipes
+    );
+
+    for (String name : INGREDIENTS) {
+      jdbcTemplate.update("INSERT INTO ingredient_catalog (name, normalized_name) VALUES (?, ?) ON CONFLICT DO NOTHING",
+        name, name.toLowerCase(Locale.ROOT));
+    }
+
+    List<Object[]> ingredients = new ArrayList<>();
+    for (long id = 1; id <= RECIPES; id++) {
+      for (int i = 0; i < 3; i++) {
+        ingredients.add(new Object[] {catalogId(INGREDIENTS[(int) ((id + i) % INGREDIENTS.length)]), 100, id});
+      }
+    }
+    jdbcTemplate.batchUpdate("INSERT INTO ingredient (catalog_id, quantity, recipe_id) VALUES (?, ?, ?)", ingredients);
+    // Move the sequence past the explicit ids as the V5 migration would.
+    jdbcTemplate.execute("ALTER SEQUENCE recipe_seq RESTART WITH " + (RECIPES + 51));
+
+    jdbcTemplate.execute("ANALYZE");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("DELETE FROM ingredient");
+    jdbcTemplate.update("DELETE FROM recipe");
+    jdbcTemplate.update("DELETE FROM ingredient_catalog");
+  }
+
+  @Test
+  void shouldUseRecipeIdIndexWhenHydratingIngredients() {
+    String plan = explain(traced(() -> ingredientJpaRepository.findByRecipeIdIn(List.of(10L, 20L, 30L))), "ingredient");
+
+    // H2 backs the foreign key with its own index, Postgres relies on idx_ingredient_recipe_id_catalog_id.
+    assertFalse(plan.toLowerCase(Locale.ROOT).contains("tablescan"), () -> "Expected an index lookup:\n" + plan);
+  }
+
+  @Test
+  void shouldUseNameIndexForIncludedIngredientsSemiJoin() {
+    String plan = explain(traced(() -> customRecipeJpaRepository.searchSummariesWithFilters(null, List.of("Bean", "Milk"),
+      null, IngredientMatch.ALL, null, null, null, null, null, NEWEST)), "recipe");
+
+    assertUsesIndex(plan, "idx_ingredient_catalog_id_recipe_id");
+  }
+
+  @Test
+  void shouldUseRecipeIdIndexForExcludedIngredientsSubquery() {
+    String plan = explain(traced(() -> customRecipeJpaRepository.searchSummariesWithFilters(null, null, List.of("Salt"),
+      IngredientMatch.ANY, null, null, null, null, null, NEWEST)), "recipe");
+
+    assertUsesIndex(plan, "idx_ingredient_recipe_id_catalog_id");
+  }
+
+  @Test
+  void shouldUseCreatedAtIndexForDateRangeAndDefaultSort() {
+    String plan = explain(traced(() -> customRecipeJpaRepository.searchSummariesWithFilters(null, null, null,
+      IngredientMatch.ANY, null, null, null, Instant.parse("2000-01-01T00:00:00Z"), null, NEWEST)), "recipe");
+
+    assertUsesIndex(plan, "idx_recipe_created_at_id");
+  }
+
+  @Test
+  void shouldUseVegetarianIndexWithDefaultSort() {
+    String plan = explain(traced(() -> customRecipeJpaRepository.searchSummariesWithFilters(true, null, null,
+      IngredientMatch.ANY, null, null, null, null, null, NEWEST)), "recipe");
+
+    assertUsesIndex(plan, "idx_recipe_vegetarian_created_at_id");
+  }
+
+  private int catalogId(String name) {
+    return jdbcTemplate.queryForObject("SELECT id FROM ingredient_catalog WHERE normalized_name = ?", Integer.class,
+      name.toLowerCase(Locale.ROOT));
+  }
+
+  private List<QueryTrace.Statement> traced(Runnable search) {
+    QueryTrace trace = QueryTrace.start(false);
+    try (RequestDeadline.Scope ignored = trace.enter()) {
+      search.run();
+    }
+    return trace.statements();
+  }
+
+  /**
+   * Explains the first generated statement reading from {@code table}, with the parameters it was bound with.
+   */
+  private String explain(List<QueryTrace.Statement> statements, String table) {
+    QueryTrace.Statement statement = statements.stream()
+      .filter(candidate -> candidate.sql().toLowerCase(Locale.ROOT).contains(" from " + table + " "))
+      .findFirst()
+      .orElseThrow(() -> new AssertionError("No statement reads from " + table + ": " + statements));
+    return String.join("\n",
+      jdbcTemplate.queryForList("EXPLAIN " + statement.sql(), String.class, statement.parameters().toArray()));
+  }
+
+  private void assertUsesIndex(String plan, String index) {
+    assertTrue(plan.toLowerCase(Locale.ROOT).contains(index), () -> "Expected plan to use " + index + ":\n" + plan);
+  }
+}
@@ -1,22 +1,44 @@
 package com.platform.recipe.domain.repositories.implementations;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.TitleMatch;
 import com.platform.recipe.domain.entities.Ingredient;
 import com.platform.recipe.domain.entities.Recipe;
 import com.platform.recipe.domain.repositories.CustomRecipeJpaRepository;
+import com.platform.recipe.domain.repositories.IngredientCatalogJpaRepository;
+import com.platform.recipe.domain.repositories.IngredientJpaRepository;
 import com.platform.recipe.domain.repositories.RecipeJpaRepository;
+import com.platform.recipe.domain.services.RecipeSortPlanner;
+import com.platform.recipe.domain.services.RequestDeadline;
+import jakarta.persistence.Query;
+import jakarta.persistence.QueryTimeoutException;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -34,6 +56,15 @@ class CustomRecipeJpaRepositoryImplTest {
   @Autowired
   private RecipeJpaRepository recipeJpaRepository;
 
+  @Autowired
+  private IngredientCatalogJpaRepository ingredientCatalogJpaRepository;
+
+  @Autowired
+  private IngredientJpaRepository ingredientJpaRepository;
+
+  @Autowired
+  private TestEntityManager testEntityManager;
+
   @BeforeEach
   void setUp() {
     recipeJpaRepository.deleteAll();
@@ -53,6 +84,7 @@ class CustomRecipeJpaRepositoryImplTest {
     Ingredient ing6 = createIngredient("Cassava flour", 80, "g", recipe3);
     recipe3.setIngredients(List.of(ing5, ing6));
 
+    ingredientCatalogJpaRepository.assignIds(List.of(ing1, ing2, ing3, ing4, ing5, ing6));
     recipeJpaRepository.saveAll(List.of(recipe1, recipe2, recipe3));
   }
 
@@ -62,6 +94,9 @@ class CustomRecipeJpaRepositoryImplTest {
       true,
       List.of("bean"),
       null,
+      IngredientMatch.ANY,
+      null,
+      null,
       null,
       null,
       null,
@@ -84,6 +119,9 @@ class CustomRecipeJpaRepositoryImplTest {
       null,
       null,
       null,
+      IngredientMatch.ANY,
+      null,
+      null,
       null,
       createdAfter,
       createdBefore,
@@ -105,9 +143,12 @@ class CustomRecipeJpaRepositoryImplTest {
       null,
       null,
       null,
+      IngredientMatch.ANY,
       "mix",
       null,
       null,
+      null,
+      null,
       PageRequest.of(0, 10)
     );
 
@@ -123,6 +164,9 @@ class CustomRecipeJpaRepositoryImplTest {
       null,
       null,
       List.of("Lettuce"),
+      IngredientMatch.ANY,
+      null,
+      null,
       null,
       null,
       null,
@@ -136,6 +180,379 @@ class CustomRecipeJpaRepositoryImplTest {
     assertTrue(titles.contains("Tropeiro beans"));
   }
 
+  @Test
+  void shouldReturnEachRecipeOnceWhenSeveralIngredientsMatchAny() {
+
+    Page<Recipe> result = customRecipeJpaRepository.searchWithFilters(
+      null,
+      List.of("Bean", "Milk", "Tomato"),
+      null,
+      IngredientMatch.ANY,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(3, result.getTotalElements());
+    assertEquals(3, result.getContent().size());
+    List<String> titles = result.stream().map(Recipe::getTitle).toList();
+    assertTrue(titles.contains("Feijoada"));
+    assertTrue(titles.contains("Salad"));
+    assertTrue(titles.contains("Tropeiro beans"));
+  }
+
+  @Test
+  void shouldMatchIngredientSpellingVariantsThroughTheCatalog() {
+
+    Page<Recipe> result = customRecipeJpaRepository.searchWithFilters(
+      null,
+      List.of(" tomatoes", "LETTUCE"),
+      List.of("beans"),
+      IngredientMatch.ALL,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(1, result.getTotalElements());
+    assertEquals("Salad", result.getContent().get(0).getTitle());
+  }
+
+  @Test
+  void shouldIgnoreUnknownIngredientsUnlessAllMustMatch() {
+
+    Page<Recipe> any = customRecipeJpaRepository.searchWithFilters(
+      null,
+      List.of("Bean", "Saffron"),
+      List.of("Saffron"),
+      IngredientMatch.ANY,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+    Page<Recipe> all = customRecipeJpaRepository.searchWithFilters(
+      null,
+      List.of("Bean", "Saffron"),
+      null,
+      IngredientMatch.ALL,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(2, any.getTotalElements());
+    assertEquals(0, all.getTotalElements());
+  }
+
+  @Test
+  void shouldReturnOnlyRecipesContainingAllIngredientsSuccessfully() {
+
+    Page<Recipe> result = customRecipeJpaRepository.searchWithFilters(
+      null,
+      List.of("Bean", "Milk", "Milk"),
+      null,
+      IngredientMatch.ALL,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(1, result.getTotalElements());
+    assertEquals("Feijoada", result.getContent().get(0).getTitle());
+  }
+
+  @Test
+  void shouldReturnNothingWhenNoRecipeContainsAllIngredients() {
+
+    Page<Recipe> result = customRecipeJpaRepository.searchWithFilters(
+      null,
+      List.of("Bean", "Tomato"),
+      null,
+      IngredientMatch.ALL,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(0, result.getTotalElements());
+    assertTrue(result.getContent().isEmpty());
+  }
+
+  @Test
+  void shouldFilterByTitlePrefixIgnoringCase() {
+
+    Page<Recipe> prefix = customRecipeJpaRepository.searchWithFilters(
+      null,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      " FEIJ",
+      TitleMatch.PREFIX,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+    Page<Recipe> notPrefix = customRecipeJpaRepository.searchWithFilters(
+      null,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      "beans",
+      TitleMatch.PREFIX,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+    Page<Recipe> wildcard = customRecipeJpaRepository.searchWithFilters(
+      null,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      "%",
+      TitleMatch.PREFIX,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(List.of("Feijoada"), prefix.stream().map(Recipe::getTitle).toList());
+    assertEquals(0, notPrefix.getTotalElements());
+    assertEquals(0, wildcard.getTotalElements());
+  }
+
+  @Test
+  void shouldOrderFuzzyTitleMatchesByRelevanceBeforeRequestedSort() {
+    recipeJpaRepository.saveAll(List.of(
+      createRecipe("Fruit salad", "Cut the fruit", "Sweet", true),
+      createRecipe("Salad bowl", "Toss everything", "Big", true)
+    ));
+
+    Page<Recipe> result = customRecipeJpaRepository.searchWithFilters(
+      null,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      "salad",
+      TitleMatch.FUZZY,
+      null,
+      null,
+      PageRequest.of(0, 10, Sort.by("createdAt").descending())
+    );
+
+    assertEquals(List.of("Salad", "Salad bowl", "Fruit salad"), result.stream().map(Recipe::getTitle).toList());
+    assertEquals(3, result.getTotalElements());
+  }
+
+  @Test
+  void shouldPageRecipesWithEqualCreationTimesDeterministically() throws Exception {
+    testEntityManager.flush();
+    testEntityManager.getEntityManager()
+      .createNativeQuery("UPDATE recipe SET created_at = TIMESTAMP '2024-01-01 12:00:00'")
+      .executeUpdate();
+    testEntityManager.clear();
+
+    List<Long> expectedIds = recipeJpaRepository.findAll().stream().map(Recipe::getId).sorted().toList();
+    Sort sort = RecipeSortPlanner.plan("createdAt,asc");
+
+    List<Long> pagedIds = new ArrayList<>();
+    for (int page = 0; page < expectedIds.size(); page++) {
+      customRecipeJpaRepository.searchWithFilters(
+        null,
+        null,
+        null,
+        IngredientMatch.ANY,
+        null,
+        null,
+        null,
+        null,
+        null,
+        PageRequest.of(page, 1, sort)
+      ).forEach(recipe -> pagedIds.add(recipe.getId()));
+    }
+
+    assertEquals(expectedIds, pagedIds);
+  }
+
+  @Test
+  void shouldReturnSummariesWithoutInstructionsOrIngredients() {
+
+    Page<Recipe> result = customRecipeJpaRepository.searchSummariesWithFilters(
+      true,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10, Sort.by("createdAt").descending())
+    );
+
+    assertEquals(1, result.getTotalElements());
+    Recipe summary = result.getContent().get(0);
+    assertEquals("Tropeiro beans", summary.getTitle());
+    assertEquals("Vegetarian version", summary.getDescription());
+    assertNotNull(summary.getId());
+    assertNotNull(summary.getCreatedAt());
+    assertNull(summary.getInstructions());
+    assertNull(summary.getIngredients());
+  }
+
+  @Test
+  void shouldFindSummaryByIdSuccessfully() {
+    Long id = recipeJpaRepository.findAll().get(0).getId();
+
+    Optional<Recipe> summary = customRecipeJpaRepository.findSummaryById(id);
+
+    assertTrue(summary.isPresent());
+    assertEquals(id, summary.get().getId());
+    assertNull(summary.get().getInstructions());
+    assertTrue(customRecipeJpaRepository.findSummaryById(-1L).isEmpty());
+  }
+
+  @Test
+  void shouldLoadInstructionsLazilyAndInBatch() {
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    Page<Recipe> result = customRecipeJpaRepository.searchWithFilters(
+      null,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10)
+    );
+
+    assertEquals(3, result.getContent().size());
+    result.forEach(recipe -> assertFalse(Hibernate.isPropertyInitialized(recipe, "instructions")));
+
+    List<Long> ids = result.stream().map(Recipe::getId).toList();
+    Map<Long, String> instructions = customRecipeJpaRepository.findInstructionsByIds(ids);
+
+    assertEquals(3, instructions.size());
+    assertTrue(instructions.containsValue("Cook and mix everything"));
+  }
+
+  @Test
+  void shouldStreamFilteredRecipesAndCountThemSuccessfully() {
+    testEntityManager.flush();
+    testEntityManager.clear();
+
+    List<Recipe> streamed;
+    try (Stream<Recipe> recipes = customRecipeJpaRepository.streamWithFilters(
+      false,
+      null,
+      null,
+      IngredientMatch.ANY,
+      null,
+      null,
+      null,
+      null,
+      null,
+      PageRequest.of(0, 10, Sort.by("title").ascending())
+    )) {
+      streamed = recipes.toList();
+    }
+
+    assertEquals(List.of("Feijoada", "Salad"), streamed.stream().map(Recipe::getTitle).toList());
+    assertEquals(2, customRecipeJpaRepository.countWithFilters(
+      false, null, null, IngredientMatch.ANY, null, null, null, null, null
+    ));
+
+    customRecipeJpaRepository.detach(streamed);
+    streamed.forEach(recipe -> assertFalse(testEntityManager.getEntityManager().contains(recipe)));
+  }
+
+  @Test
+  void shouldCancelRunningQueryFromAnotherThread() {
+    RequestDeadline deadline = RequestDeadline.after(Duration.ofMinutes(1));
+    CompletableFuture.runAsync(deadline::cancel, CompletableFuture.delayedExecutor(300, TimeUnit.MILLISECONDS));
+
+    Query slowQuery = testEntityManager.getEntityManager()
+      .createNativeQuery("SELECT SUM(a.\"X\" * b.\"X\") FROM SYSTEM_RANGE(1, 20000) a, SYSTEM_RANGE(1, 20000) b");
+
+    assertThrows(QueryTimeoutException.class,
+      () -> deadline.cancellable(customRecipeJpaRepository.queryCanceller(), slowQuery::getSingleResult));
+  }
+
+  @Test
+  void shouldFindMatchingIdsAfterTheGivenIdInIdOrder() {
+    List<Long> first = customRecipeJpaRepository.findIdsWithFilters(
+      null, List.of("bean"), null, IngredientMatch.ANY, null, null, null, null, null, 0L, 1);
+    List<Long> second = customRecipeJpaRepository.findIdsWithFilters(
+      null, List.of("bean"), null, IngredientMatch.ANY, null, null, null, null, null, first.get(0), 10);
+
+    assertEquals(1, first.size());
+    assertEquals(1, second.size());
+    assertTrue(first.get(0) < second.get(0));
+    assertEquals(Set.of("Feijoada", "Tropeiro beans"), Set.of(
+      recipeJpaRepository.findById(first.get(0)).orElseThrow().getTitle(),
+      recipeJpaRepository.findById(second.get(0)).orElseThrow().getTitle()));
+  }
+
+  @Test
+  void shouldMarkAndDeleteRecipesByIdInBulk() {
+    List<Long> ids = customRecipeJpaRepository.findIdsWithFilters(
+      false, null, null, IngredientMatch.ANY, null, null, null, null, null, 0L, 10);
+
+    int updated = recipeJpaRepository.updateVegetarianByIds(ids, true, Timestamp.from(Instant.now()));
+    int unchanged = recipeJpaRepository.updateVegetarianByIds(ids, true, Timestamp.from(Instant.now()));
+    testEntityManager.clear();
+
+    assertEquals(2, updated);
+    assertEquals(0, unchanged);
+    assertTrue(recipeJpaRepository.findAllById(ids).stream().allMatch(Recipe::isVegetarian));
+
+    ingredientJpaRepository.deleteByRecipeIds(ids);
+    int deleted = recipeJpaRepository.deleteByIds(ids);
+    testEntityManager.clear();
+
+    assertEquals(2, deleted);
+    assertEquals(1, recipeJpaRepository.count());
+    assertTrue(ingredientJpaRepository.findByRecipeIdIn(ids).isEmpty());
+  }
+
+  @Test
+  void shouldLockOnlyTheIdsThatStillMatchTheFilters() {
+    List<Long> ids = customRecipeJpaRepository.findIdsWithFilters(
+      false, null, null, IngredientMatch.ANY, null, null, null, null, null, 0L, 10);
+    recipeJpaRepository.updateVegetarianByIds(List.of(ids.get(0)), true, Timestamp.from(Instant.now()));
+    testEntityManager.clear();
+
+    List<Long> locked = customRecipeJpaRepository.lockIdsWithFilters(
+      ids, false, null, null, IngredientMatch.ANY, null, null, null, null, null);
+
+    assertEquals(List.of(ids.get(1)), locked);
+  }
+
   private Recipe createRecipe(
     String title,
     String instructions,
@@ -0,0 +1,34 @@
+package com.platform.recipe.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class IngredientVocabularyTest {
+
+  @Test
+  void shouldFoldCaseWhitespaceAndPluralsIntoOneKey() {
+    assertEquals("tomato", IngredientVocabulary.nameKey("Tomato"));
+    assertEquals("tomato", IngredientVocabulary.nameKey("tomato "));
+    assertEquals("tomato", IngredientVocabulary.nameKey("tomatoes"));
+    assertEquals("black bean", IngredientVocabulary.nameKey(" Black   Beans"));
+    assertEquals("berry", IngredientVocabulary.nameKey("Berries"));
+    assertEquals("hummus", IngredientVocabulary.nameKey("Hummus"));
+    assertEquals("swiss", IngredientVocabulary.nameKey("Swiss"));
+  }
+
+  @Test
+  void shouldKeepTheSpellingForDisplay() {
+    assertEquals("Black Beans", IngredientVocabulary.displayName(" Black   Beans "));
+  }
+
+  @Test
+  void shouldFoldUnitAliasesOntoCodes() {
+    assertEquals("g", IngredientVocabulary.unitCode(" Grams"));
+    assertEquals("tbsp", IngredientVocabulary.unitCode("tablespoons"));
+    assertEquals("handful", IngredientVocabulary.unitCode("Handful"));
+    assertNull(IngredientVocabulary.unitCode(" "));
+    assertNull(IngredientVocabulary.unitCode(null));
+  }
+}
@@ -0,0 +1,33 @@
+package com.platform.recipe.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class RecipeSortPlannerTest {
+
+  @Test
+  void shouldDefaultToDescendingWithIdTieBreaker() throws Exception {
+    assertEquals(Sort.by(Sort.Direction.DESC, "createdAt", "id"), RecipeSortPlanner.plan("createdAt"));
+    assertEquals(Sort.by(Sort.Direction.DESC, "updatedAt", "id"), RecipeSortPlanner.plan("updatedat"));
+  }
+
+  @Test
+  void shouldApplyTheRequestedDirectionToTheTieBreakerToo() throws Exception {
+    assertEquals(Sort.by(Sort.Direction.ASC, "title", "id"), RecipeSortPlanner.plan("title,asc"));
+    assertEquals(Sort.by(Sort.Direction.DESC, "title", "id"), RecipeSortPlanner.plan(" Title , DESC "));
+    assertEquals(Sort.by(Sort.Direction.ASC, "id"), RecipeSortPlanner.plan("id,asc"));
+  }
+
+  @Test
+  void shouldRejectFieldsWithoutAnIndexAndUnknownDirections() {
+    for (String sort : new String[] {"servings", "instructions", "createdAt,sideways", "createdAt,asc,id", ""}) {
+      InvalidDataException exception = assertThrows(InvalidDataException.class, () -> RecipeSortPlanner.plan(sort));
+      assertEquals(ErrorCode.INVALID_SORT, exception.getErrorCode());
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.platform.recipe.domain.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+
+class RequestDeadlineTest {
+
+  @Test
+  void shouldRoundRemainingTimeUpToWholeSeconds() {
+    assertEquals(2, RequestDeadline.after(Duration.ofMillis(1500)).remainingSeconds());
+    assertEquals(1, RequestDeadline.after(Duration.ZERO).remainingSeconds());
+  }
+
+  @Test
+  void shouldUseDefaultTimeoutWhenNoDeadlineIsBound() {
+    RequestDeadline deadline = RequestDeadline.current();
+
+    assertFalse(deadline.isExpired());
+    assertEquals(TransactionDefinition.TIMEOUT_DEFAULT, deadline.remainingSeconds());
+  }
+
+  @Test
+  void shouldRestorePreviousDeadlineWhenScopeCloses() {
+    RequestDeadline outer = RequestDeadline.after(Duration.ofSeconds(10));
+    RequestDeadline inner = RequestDeadline.after(Duration.ofSeconds(1));
+
+    try (RequestDeadline.Scope outerScope = outer.enter()) {
+      try (RequestDeadline.Scope innerScope = inner.enter()) {
+        assertSame(inner, RequestDeadline.current());
+      }
+      assertSame(outer, RequestDeadline.current());
+    }
+
+    assertEquals(TransactionDefinition.TIMEOUT_DEFAULT, RequestDeadline.current().remainingSeconds());
+  }
+
+  @Test
+  void shouldRunCancellerOnlyWhileWorkIsRunning() {
+    RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(10));
+    AtomicInteger cancellations = new AtomicInteger();
+
+    deadline.cancellable(cancellations::incrementAndGet, () -> {
+      deadline.cancel();
+      return null;
+    });
+    deadline.cancel();
+
+    assertEquals(1, cancellations.get());
+    assertTrue(deadline.isExpired());
+  }
+
+  @Test
+  void shouldCancelImmediatelyWhenAlreadyCancelled() {
+    RequestDeadline deadline = RequestDeadline.after(Duration.ofSeconds(10));
+    AtomicInteger cancellations = new AtomicInteger();
+    deadline.cancel();
+
+    deadline.cancellable(cancellations::incrementAndGet, () -> null);
+
+    assertEquals(1, cancellations.get());
+  }
+}
@@ -0,0 +1,168 @@
+package com.platform.recipe.domain.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.readmodel.NewestRecipes;
+import com.platform.recipe.domain.services.RecipeService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+class NewestRecipesServiceTest {
+
+  private final RecipeService delegate = mock(RecipeService.class);
+  private final Map<Long, RecipeDto> database = new ConcurrentHashMap<>();
+  private NewestRecipesService service;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    database.put(1L, recipe(1L, "Feijoada", "2026-01-01T10:00:00Z"));
+    database.put(2L, recipe(2L, "Moqueca", "2026-01-02T10:00:00Z"));
+
+    when(delegate.searchWithFilters(any(), eq(1), any(), any(), any(), any(), any(), any(), any(), any(), eq(0),
+      eq(50), eq(NewestRecipes.ORDER), eq(RecipeView.FULL))).thenAnswer(invocation -> {
+        Boolean vegetarian = invocation.getArgument(0);
+        List<RecipeDto> matching = database.values().stream()
+          .filter(recipe -> vegetarian == null || vegetarian == recipe.isVegetarian())
+          .sorted(Comparator.comparing(RecipeDto::getCreatedAt).reversed())
+          .map(NewestRecipesServiceTest::copy)
+          .toList();
+        return new PageImpl<>(matching, PageRequest.of(0, 50, NewestRecipes.ORDER), matching.size());
+      });
+
+    when(delegate.findAllByIds(anyList())).thenAnswer(invocation -> {
+      List<Long> ids = invocation.getArgument(0);
+      List<RecipeDto> found = new ArrayList<>();
+      List<Long> missing = new ArrayList<>();
+      ids.forEach(id -> {
+        if (database.containsKey(id)) {
+          found.add(copy(database.get(id)));
+        } else {
+          missing.add(id);
+        }
+      });
+      return new RecipeLookupDto(found, missing);
+    });
+
+    service = new NewestRecipesService(delegate, 50);
+  }
+
+  @Test
+  void shouldServeTheDefaultFirstPageFromMemoryAfterOneLoad() {
+    Page<RecipeDto> first = newest(null, 3, RecipeView.FULL);
+    Page<RecipeDto> second = newest(null, 1, RecipeView.SUMMARY);
+
+    assertEquals(List.of(2L, 1L), first.getContent().stream().map(RecipeDto::getId).toList());
+    assertEquals(2, first.getTotalElements());
+    assertEquals(6, first.getContent().get(0).getIngredients().get(0).getQuantity());
+    assertNull(second.getContent().get(0).getIngredients());
+    assertNull(second.getContent().get(0).getInstructions());
+    verify(delegate, times(1)).searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(),
+      any(), anyInt(), anyInt(), any(), any());
+  }
+
+  @Test
+  void shouldKeepQuantitiesUnscaledForServingsBelowTwo() {
+    Page<RecipeDto> none = newest(null, 0, RecipeView.FULL);
+    Page<RecipeDto> negative = newest(null, -2, RecipeView.FULL);
+
+    assertEquals(2, none.getContent().get(0).getIngredients().get(0).getQuantity());
+    assertEquals(2, negative.getContent().get(0).getIngredients().get(0).getQuantity());
+    verify(delegate, times(1)).searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(),
+      any(), anyInt(), anyInt(), any(), any());
+  }
+
+  @Test
+  void shouldApplyWritesBeforeTheNextRead() throws Exception {
+    newest(null, 1, RecipeView.FULL);
+    RecipeDto created = recipe(3L, "Acaraje", "2026-01-03T10:00:00Z");
+    when(delegate.create(any())).thenAnswer(invocation -> {
+      database.put(3L, created);
+      service.invalidate(3L);
+      return 3L;
+    });
+
+    service.create(created);
+    database.remove(1L);
+    service.invalidate(1L);
+    Page<RecipeDto> page = newest(null, 1, RecipeView.SUMMARY);
+
+    assertEquals(List.of(3L, 2L), page.getContent().stream().map(RecipeDto::getId).toList());
+    assertEquals(2, page.getTotalElements());
+    verify(delegate, times(1)).searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(),
+      any(), anyInt(), anyInt(), any(), any());
+  }
+
+  @Test
+  void shouldKeepASeparateRingPerVegetarianFlag() {
+    database.get(1L).setVegetarian(true);
+
+    Page<RecipeDto> vegetarian = newest(true, 1, RecipeView.SUMMARY);
+    Page<RecipeDto> others = newest(false, 1, RecipeView.SUMMARY);
+
+    assertEquals(List.of(1L), vegetarian.getContent().stream().map(RecipeDto::getId).toList());
+    assertEquals(List.of(2L), others.getContent().stream().map(RecipeDto::getId).toList());
+  }
+
+  @Test
+  void shouldSendFilteredOtherwiseSortedAndDeepPagesToTheDelegate() {
+    Sort byTitle = Sort.by(Sort.Direction.DESC, "title", "id");
+    service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, "feij", TitleMatch.PREFIX, null, null,
+      0, 10, NewestRecipes.ORDER, RecipeView.SUMMARY);
+    service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, null, TitleMatch.PREFIX, null, null,
+      0, 10, byTitle, RecipeView.SUMMARY);
+    service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, null, TitleMatch.PREFIX, null, null,
+      5, 10, NewestRecipes.ORDER, RecipeView.SUMMARY);
+
+    verify(delegate).searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, "feij", TitleMatch.PREFIX,
+      null, null, 0, 10, NewestRecipes.ORDER, RecipeView.SUMMARY);
+    verify(delegate).searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, null, TitleMatch.PREFIX,
+      null, null, 0, 10, byTitle, RecipeView.SUMMARY);
+    verify(delegate).searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, null, TitleMatch.PREFIX,
+      null, null, 5, 10, NewestRecipes.ORDER, RecipeView.SUMMARY);
+  }
+
+  private Page<RecipeDto> newest(Boolean vegetarian, int servings, RecipeView view) {
+    return service.searchWithFilters(vegetarian, servings, null, null, IngredientMatch.ANY, null, null,
+      TitleMatch.PREFIX, null, null, 0, 10, NewestRecipes.ORDER, view);
+  }
+
+  private static RecipeDto recipe(Long id, String title, String createdAt) {
+    Timestamp timestamp = Timestamp.from(Instant.parse(createdAt));
+    return new RecipeDto(id, title, title, false, "Cook it",
+      List.of(new IngredientDto(id, "Beans", 2, "g")), timestamp, timestamp);
+  }
+
+  private static RecipeDto copy(RecipeDto recipe) {
+    List<IngredientDto> ingredients = recipe.getIngredients().stream()
+      .map(ingredient -> new IngredientDto(ingredient.getId(), ingredient.getName(), ingredient.getQuantity(), ingredient.getUnit()))
+      .toList();
+    return new RecipeDto(recipe.getId(), recipe.getTitle(), recipe.getDescription(), recipe.isVegetarian(),
+      recipe.getInstructions(), ingredients, recipe.getCreatedAt(), recipe.getUpdatedAt());
+  }
+}
@@ -0,0 +1,234 @@
+package com.platform.recipe.domain.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.services.RecipeService;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+
+class ReadModelRecipeServiceTest {
+
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+  private final RecipeService delegate = mock(RecipeService.class);
+  private final Map<Long, RecipeDto> database = new ConcurrentHashMap<>();
+  private final List<Runnable> loads = new ArrayList<>();
+  private Runnable whileLoading = () -> {
+  };
+  private ReadModelRecipeService service;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    database.put(1L, recipe(1L, "Feijoada", "2026-01-01T10:00:00Z", "Beans"));
+    database.put(2L, recipe(2L, "Moqueca", "2026-01-02T10:00:00Z", "Fish"));
+
+    doAnswer(invocation -> {
+      Consumer<RecipeDto> consumer = invocation.getArgument(0);
+      database.values().stream().map(ReadModelRecipeServiceTest::searchFields).forEach(consumer);
+      whileLoading.run();
+      return null;
+    }).when(delegate).streamSearchFields(any());
+
+    when(delegate.findAllByIds(anyList())).thenAnswer(invocation -> {
+      List<Long> ids = invocation.getArgument(0);
+      List<RecipeDto> found = new ArrayList<>();
+      List<Long> missing = new ArrayList<>();
+      ids.forEach(id -> {
+        if (database.containsKey(id)) {
+          found.add(copy(database.get(id)));
+        } else {
+          missing.add(id);
+        }
+      });
+      return new RecipeLookupDto(found, missing);
+    });
+
+    service = new ReadModelRecipeService(delegate, 2, loads::add);
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.close();
+  }
+
+  @Test
+  void shouldSearchTheDatabaseUntilTheFirstLoadHasFinished() {
+    when(delegate.searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(), any(),
+      anyInt(), anyInt(), any(), any())).thenReturn(new PageImpl<>(List.of(database.get(2L))));
+
+    assertEquals(List.of(2L), ids(search(null, RecipeView.SUMMARY, 1)));
+    assertEquals(List.of(2L), ids(search(null, RecipeView.SUMMARY, 1)));
+    assertEquals(1, loads.size());
+    verify(delegate, never()).streamSearchFields(any());
+
+    runLoads();
+
+    assertEquals(List.of(2L, 1L), ids(search(null, RecipeView.SUMMARY, 1)));
+    verify(delegate, times(2)).searchWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(),
+      any(), anyInt(), anyInt(), any(), any());
+  }
+
+  @Test
+  void shouldAnswerSummarySearchesFromMemoryAfterLoadingOnlyTheSearchFields() throws Exception {
+    service.load();
+
+    Page<RecipeDto> first = search(null, RecipeView.SUMMARY, 1);
+    Page<RecipeDto> second = search(List.of("beans"), RecipeView.SUMMARY, 1);
+
+    assertEquals(List.of(2L, 1L), ids(first));
+    assertEquals(List.of(1L), ids(second));
+    assertNull(first.getContent().get(0).getIngredients());
+    assertEquals(0, loads.size());
+    verify(delegate, times(1)).streamSearchFields(any());
+    verify(delegate, never()).streamWithFilters(any(), anyInt(), any(), any(), any(), any(), any(), any(), any(),
+      any(), anyInt(), anyInt(), any(), any(), any());
+    verify(delegate, never()).findAllByIds(anyList());
+  }
+
+  @Test
+  void shouldFetchOnlyThePageRowsForFullResultsAndScaleServings() throws Exception {
+    service.load();
+
+    Page<RecipeDto> page = search(null, RecipeView.FULL, 3);
+
+    assertEquals(List.of(2L, 1L), ids(page));
+    assertEquals(6, page.getContent().get(0).getIngredients().get(0).getQuantity());
+    verify(delegate).findAllByIds(List.of(2L, 1L));
+  }
+
+  @Test
+  void shouldApplyLocalWritesBeforeReturningAndRemoteChangesBeforeTheNextSearch() throws Exception {
+    service.load();
+
+    RecipeDto created = recipe(3L, "Vatapá", "2026-01-03T10:00:00Z", "Shrimp");
+    when(delegate.create(created)).thenAnswer(invocation -> {
+      database.put(3L, created);
+      service.invalidate(3L);
+      return 3L;
+    });
+    service.create(created);
+    assertEquals(List.of(3L, 2L, 1L), ids(search(null, RecipeView.SUMMARY, 1)));
+
+    database.remove(2L);
+    service.invalidate(2L);
+    assertEquals(List.of(3L, 1L), ids(search(null, RecipeView.SUMMARY, 1)));
+  }
+
+  @Test
+  void shouldKeepServingThePreviousLoadUntilTheReloadHasFinished() {
+    service.load();
+    database.put(4L, recipe(4L, "Acarajé", "2026-01-04T10:00:00Z", "Beans"));
+
+    service.invalidateAll();
+    service.invalidateAll();
+
+    assertEquals(1, loads.size());
+    assertEquals(List.of(2L, 1L), ids(search(null, RecipeView.SUMMARY, 1)));
+
+    runLoads();
+
+    assertEquals(List.of(4L, 2L, 1L), ids(search(null, RecipeView.SUMMARY, 1)));
+    verify(delegate, times(2)).streamSearchFields(any());
+  }
+
+  @Test
+  void shouldApplyChangesPublishedWhileLoadingAfterTheSwap() {
+    whileLoading = () -> {
+      database.remove(2L);
+      service.invalidate(2L);
+    };
+
+    service.load();
+
+    assertEquals(List.of(1L), ids(search(null, RecipeView.SUMMARY, 1)));
+  }
+
+  @Test
+  void shouldLeaveTitleAndInstructionSearchesAndTitleSortsToTheDatabase() {
+    service.load();
+    when(delegate.searchWithFilters(any(), anyInt(), any(), any(), any(), isNull(), eq("moq"), any(), any(), any(),
+      anyInt(), anyInt(), any(), any())).thenReturn(new PageImpl<>(List.of(database.get(2L))));
+    when(delegate.searchWithFilters(any(), anyInt(), any(), any(), any(), eq("simmer"), isNull(), any(), any(),
+      any(), anyInt(), anyInt(), any(), any())).thenReturn(new PageImpl<>(List.of(database.get(1L))));
+
+    Page<RecipeDto> byTitle = service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, "moq",
+      TitleMatch.PREFIX, null, null, 0, 10, NEWEST_FIRST, RecipeView.FULL);
+    Page<RecipeDto> byInstruction = service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, "simmer",
+      null, null, null, null, 0, 10, NEWEST_FIRST, RecipeView.FULL);
+    Sort titleOrder = Sort.by(Sort.Direction.ASC, "title", "id");
+    when(delegate.searchWithFilters(any(), anyInt(), any(), any(), any(), isNull(), isNull(), any(), any(), any(),
+      anyInt(), anyInt(), eq(titleOrder), any())).thenReturn(new PageImpl<>(List.of(database.get(1L))));
+    Page<RecipeDto> sortedByTitle = service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, null,
+      null, null, null, 0, 10, titleOrder, RecipeView.SUMMARY);
+
+    assertEquals(List.of(2L), ids(byTitle));
+    assertEquals(List.of(1L), ids(byInstruction));
+    assertEquals(List.of(1L), ids(sortedByTitle));
+  }
+
+  private void runLoads() {
+    List<Runnable> scheduled = new ArrayList<>(loads);
+    loads.clear();
+    scheduled.forEach(Runnable::run);
+  }
+
+  private Page<RecipeDto> search(List<String> included, RecipeView view, int servings) {
+    return service.searchWithFilters(null, servings, included, null, IngredientMatch.ANY, null, null, null, null,
+      null, 0, 10, NEWEST_FIRST, view);
+  }
+
+  private static List<Long> ids(Page<RecipeDto> page) {
+    return page.getContent().stream().map(RecipeDto::getId).toList();
+  }
+
+  private static RecipeDto recipe(Long id, String title, String createdAt, String ingredient) {
+    Timestamp timestamp = Timestamp.from(Instant.parse(createdAt));
+    return new RecipeDto(id, title, title, false, "Cook it",
+      List.of(new IngredientDto(id, ingredient, 2, "g")), timestamp, timestamp);
+  }
+
+  private static RecipeDto searchFields(RecipeDto recipe) {
+    List<IngredientDto> names = recipe.getIngredients().stream()
+      .map(ingredient -> new IngredientDto(null, ingredient.getName(), 0, null))
+      .toList();
+    return new RecipeDto(recipe.getId(), recipe.getTitle(), recipe.getDescription(), recipe.isVegetarian(), null,
+      names, recipe.getCreatedAt(), recipe.getUpdatedAt());
+  }
+
+  private static RecipeDto copy(RecipeDto recipe) {
+    List<IngredientDto> ingredients = recipe.getIngredients().stream()
+      .map(ingredient -> new IngredientDto(ingredient.getId(), ingredient.getName(), ingredient.getQuantity(), ingredient.getUnit()))
+      .toList();
+    return new RecipeDto(recipe.getId(), recipe.getTitle(), recipe.getDescription(), recipe.isVegetarian(),
+      recipe.getInstructions(), ingredients, recipe.getCreatedAt(), recipe.getUpdatedAt());
+  }
+}
@@ -4,34 +4,65 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.platform.recipe.adapters.controllers.cache.RecipeResponseCache;
+import com.platform.recipe.adapters.controllers.cache.ResponseCacheProperties;
+import com.platform.recipe.adapters.controllers.dtos.response.RecipeResponse;
+import com.platform.recipe.adapters.invalidation.InMemoryInvalidationBus;
+import com.platform.recipe.domain.dtos.BulkProgressDto;
 import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeChangeDto;
+import com.platform.recipe.domain.dtos.RecipeChangeType;
+import com.platform.recipe.domain.dtos.RecipeChangesDto;
 import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeLookupDto;
+import com.platform.recipe.domain.dtos.RecipeView;
 import com.platform.recipe.domain.entities.Ingredient;
 import com.platform.recipe.domain.entities.Recipe;
+import com.platform.recipe.domain.entities.RecipeChange;
 import com.platform.recipe.domain.exceptions.DataNotFoundException;
 import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.InvalidDataException;
+import com.platform.recipe.domain.repositories.IngredientCatalogJpaRepository;
 import com.platform.recipe.domain.repositories.IngredientJpaRepository;
+import com.platform.recipe.domain.repositories.RecipeChangeJpaRepository;
 import com.platform.recipe.domain.repositories.RecipeJpaRepository;
+import com.platform.recipe.domain.services.ChangeFeedWatermark;
+import com.platform.recipe.domain.services.InvalidationBus;
+import com.platform.recipe.domain.services.RequestDeadline;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class RecipeServiceImplTest {
@@ -45,9 +76,21 @@ class RecipeServiceImplTest {
   @Mock
   private IngredientJpaRepository ingredientJpaRepository;
 
+  @Mock
+  private IngredientCatalogJpaRepository ingredientCatalogJpaRepository;
+
+  @Mock
+  private RecipeChangeJpaRepository recipeChangeJpaRepository;
+
+  @Mock
+  private InvalidationBus invalidationBus;
+
   @Mock
   private ObjectMapper objectMapper;
 
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
   @Test
   void shouldCreateRecipeAndReturnId() {
 
@@ -64,9 +107,95 @@ class RecipeServiceImplTest {
 
     assertEquals(1L, returnedId);
     verify(recipeJpaRepository).save(entity);
+    verify(recipeChangeJpaRepository).record(1L, RecipeChangeType.UPSERT);
+    verify(invalidationBus).publish(List.of(1L));
     verify(objectMapper).convertValue(recipeDto, Recipe.class);
   }
 
+  @Test
+  void shouldCreateAllRecipesInOneTransactionAndReturnIdsInOrder() {
+    RecipeDto first = createDto();
+    RecipeDto second = createDto();
+    second.setTitle("Moqueca");
+    Recipe firstEntity = createRecipe(first);
+    Recipe secondEntity = createRecipe(second);
+
+    Recipe firstSaved = new Recipe();
+    firstSaved.setId(7L);
+    Recipe secondSaved = new Recipe();
+    secondSaved.setId(8L);
+
+    when(objectMapper.convertValue(first, Recipe.class)).thenReturn(firstEntity);
+    when(objectMapper.convertValue(second, Recipe.class)).thenReturn(secondEntity);
+    when(recipeJpaRepository.save(firstEntity)).thenReturn(firstSaved);
+    when(recipeJpaRepository.save(secondEntity)).thenReturn(secondSaved);
+
+    List<Long> ids = recipeService.createAll(List.of(first, second));
+
+    assertEquals(List.of(7L, 8L), ids);
+    verify(transactionManager, times(1)).getTransaction(any());
+    verify(ingredientCatalogJpaRepository).assignIds(argThat(ingredients -> ingredients.size() == 4));
+    verify(recipeChangeJpaRepository).record(7L, RecipeChangeType.UPSERT);
+    verify(recipeChangeJpaRepository).record(8L, RecipeChangeType.UPSERT);
+    verify(invalidationBus).publish(List.of(7L, 8L));
+  }
+
+  @Test
+  void shouldDeleteRecipesStillMatchingChunkByChunkInSeparateTransactions() throws InvalidDataException {
+    Instant createdBefore = Instant.parse("2020-01-01T00:00:00Z");
+    List<Long> firstChunk = LongStream.rangeClosed(1, 500).boxed().toList();
+    when(recipeJpaRepository.findIdsWithFilters(null, null, null, IngredientMatch.ANY, null, null, null, null,
+      createdBefore, 0L, 500)).thenReturn(firstChunk);
+    when(recipeJpaRepository.findIdsWithFilters(null, null, null, IngredientMatch.ANY, null, null, null, null,
+      createdBefore, 500L, 500)).thenReturn(List.of(501L, 502L));
+    when(recipeJpaRepository.lockIdsWithFilters(firstChunk, null, null, null, IngredientMatch.ANY, null, null, null,
+      null, createdBefore)).thenReturn(firstChunk);
+    when(recipeJpaRepository.lockIdsWithFilters(List.of(501L, 502L), null, null, null, IngredientMatch.ANY, null, null,
+      null, null, createdBefore)).thenReturn(List.of(502L));
+    when(recipeJpaRepository.deleteByIds(firstChunk)).thenReturn(500);
+    when(recipeJpaRepository.deleteByIds(List.of(502L))).thenReturn(1);
+
+    List<BulkProgressDto> progress = new ArrayList<>();
+    long deleted = recipeService.deleteWithFilters(null, null, null, IngredientMatch.ANY, null, null, null, null,
+      createdBefore, progress::add);
+
+    assertEquals(501, deleted);
+    verify(transactionManager, times(2)).getTransaction(any());
+    verify(ingredientJpaRepository).deleteByRecipeIds(firstChunk);
+    verify(ingredientJpaRepository).deleteByRecipeIds(List.of(502L));
+    verify(recipeChangeJpaRepository).recordAll(List.of(502L), RecipeChangeType.DELETE);
+    verify(invalidationBus).publish(firstChunk);
+    verify(invalidationBus).publish(List.of(502L));
+    assertEquals(List.of(500L, 502L, 502L), progress.stream().map(BulkProgressDto::getLastId).toList());
+    assertEquals(List.of(500L, 501L, 501L), progress.stream().map(BulkProgressDto::getTotalAffected).toList());
+    assertTrue(progress.get(2).isDone());
+  }
+
+  @Test
+  void shouldSelectOnlyRecipesThatStillNeedTheBulkMark() throws InvalidDataException {
+    when(recipeJpaRepository.findIdsWithFilters(true, List.of("beef"), null, IngredientMatch.ANY, null, null, null,
+      null, null, 0L, 500)).thenReturn(List.of(3L));
+    when(recipeJpaRepository.lockIdsWithFilters(List.of(3L), true, List.of("beef"), null, IngredientMatch.ANY, null,
+      null, null, null, null)).thenReturn(List.of(3L));
+    when(recipeJpaRepository.updateVegetarianByIds(eq(List.of(3L)), eq(false), any())).thenReturn(1);
+
+    long updated = recipeService.updateVegetarianWithFilters(null, List.of("beef"), null, IngredientMatch.ANY, null,
+      null, null, null, null, false, progress -> { });
+
+    assertEquals(1, updated);
+    verify(recipeChangeJpaRepository).recordAll(List.of(3L), RecipeChangeType.UPSERT);
+    verify(invalidationBus).publish(List.of(3L));
+  }
+
+  @Test
+  void shouldRefuseBulkChangeWithoutAnyFilter() {
+    InvalidDataException exception = assertThrows(InvalidDataException.class, () -> recipeService.deleteWithFilters(
+      null, List.of(), null, IngredientMatch.ANY, " ", null, null, null, null, progress -> { }));
+
+    assertEquals(ErrorCode.BULK_FILTER_REQUIRED, exception.getErrorCode());
+    verify(transactionManager, never()).getTransaction(any());
+  }
+
   @Test
   void shouldUpdateRecipeSuccessfully() throws DataNotFoundException {
     Long id = 1L;
@@ -127,6 +256,8 @@ class RecipeServiceImplTest {
     recipeService.deleteById(id);
 
     verify(recipeJpaRepository).deleteById(id);
+    verify(recipeChangeJpaRepository).record(id, RecipeChangeType.DELETE);
+    verify(invalidationBus).publish(id);
   }
 
   @Test
@@ -152,7 +283,7 @@ class RecipeServiceImplTest {
     when(recipeJpaRepository.findById(id)).thenReturn(Optional.of(recipeEntity));
     when(objectMapper.convertValue(recipeEntity, RecipeDto.class)).thenReturn(recipeDto);
 
-    RecipeDto result = recipeService.findById(id);
+    RecipeDto result = recipeService.findById(id, RecipeView.FULL);
 
     assertEquals(id, result.getId());
     assertEquals(recipeEntity.getTitle(), result.getTitle());
@@ -166,12 +297,51 @@ class RecipeServiceImplTest {
 
     DataNotFoundException exception = assertThrows(
       DataNotFoundException.class,
-      () -> recipeService.findById(id)
+      () -> recipeService.findById(id, RecipeView.FULL)
     );
 
     assertEquals(ErrorCode.RECIPE_NOT_FOUND, exception.getErrorCode());
   }
 
+  @Test
+  void shouldFindAllByIdsKeepingRequestOrderAndReportingMissingIds() throws Exception {
+    Recipe firstRecipe = createRecipe(createDto());
+    firstRecipe.setId(1L);
+    Recipe thirdRecipe = createRecipe(createDto());
+    thirdRecipe.setId(3L);
+
+    Ingredient ingredient = new Ingredient();
+    ingredient.setRecipe(thirdRecipe);
+
+    when(recipeJpaRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(firstRecipe, thirdRecipe));
+    when(ingredientJpaRepository.findByRecipeIdIn(List.of(1L, 3L))).thenReturn(List.of(ingredient));
+    when(objectMapper.convertValue(any(Recipe.class), eq(RecipeDto.class))).thenAnswer(invocation -> {
+      Recipe r = invocation.getArgument(0);
+      RecipeDto dto = new RecipeDto();
+      dto.setId(r.getId());
+      return dto;
+    });
+
+    RecipeLookupDto result = recipeService.findAllByIds(List.of(3L, 2L, 1L, 3L));
+
+    assertEquals(List.of(3L, 1L), result.getRecipes().stream().map(RecipeDto::getId).toList());
+    assertEquals(List.of(2L), result.getMissingIds());
+    assertEquals(1, thirdRecipe.getIngredients().size());
+    assertTrue(firstRecipe.getIngredients().isEmpty());
+    verify(recipeJpaRepository).findAllById(List.of(3L, 2L, 1L));
+    verify(ingredientJpaRepository).findByRecipeIdIn(List.of(1L, 3L));
+  }
+
+  @Test
+  void shouldThrowInvalidDataExceptionWhenLookupHasTooManyIds() {
+    List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+    InvalidDataException exception = assertThrows(InvalidDataException.class, () -> recipeService.findAllByIds(ids));
+
+    assertEquals(ErrorCode.TOO_MANY_IDS, exception.getErrorCode());
+    verify(recipeJpaRepository, never()).findAllById(any());
+  }
+
   @Test
   void shouldSearchWithFiltersAndConvertPage() {
     Boolean vegetarian = true;
@@ -183,7 +353,7 @@ class RecipeServiceImplTest {
     Instant createdBefore = Instant.parse("2023-12-31T23:59:59Z");
     int page = 0;
     int pageSize = 10;
-    String sort = "createdAt";
+    Sort sort = Sort.by(Sort.Direction.DESC, "createdAt", "id");
 
     RecipeDto firstRecipeDto = createDto();
     Recipe firstRecipe = createRecipe(firstRecipeDto);
@@ -195,7 +365,7 @@ class RecipeServiceImplTest {
 
     List<Recipe> recipes = List.of(firstRecipe, secondRecipe);
 
-    Page<Recipe> recipePage = new PageImpl<>(recipes, PageRequest.of(page, pageSize, Sort.by(sort).descending()), 2);
+    Page<Recipe> recipePage = new PageImpl<>(recipes, PageRequest.of(page, pageSize, sort), 2);
 
     Ingredient firstIngredient = new Ingredient();
     firstIngredient.setRecipe(firstRecipe);
@@ -210,7 +380,10 @@ class RecipeServiceImplTest {
       eq(vegetarian),
       eq(includedIngredients),
       eq(excludedIngredients),
+      eq(IngredientMatch.ALL),
       eq(instruction),
+      any(),
+      any(),
       eq(createdAfter),
       eq(createdBefore),
       any(Pageable.class)
@@ -237,12 +410,16 @@ class RecipeServiceImplTest {
       serving,
       includedIngredients,
       excludedIngredients,
+      IngredientMatch.ALL,
       instruction,
+      null,
+      null,
       createdAfter,
       createdBefore,
       page,
       pageSize,
-      sort
+      sort,
+      RecipeView.FULL
     );
 
     assertNotNull(result);
@@ -258,7 +435,10 @@ class RecipeServiceImplTest {
       eq(vegetarian),
       eq(includedIngredients),
       eq(excludedIngredients),
+      eq(IngredientMatch.ALL),
       eq(instruction),
+      any(),
+      any(),
       eq(createdAfter),
       eq(createdBefore),
       argThat(pageable -> pageable.getPageNumber() == page
@@ -269,6 +449,265 @@ class RecipeServiceImplTest {
     verify(ingredientJpaRepository).findByRecipeIdIn(List.of(1L, 2L));
   }
 
+  @Test
+  void shouldSearchSummariesWithoutHydratingIngredients() {
+    Recipe summary = new Recipe();
+    summary.setId(1L);
+    summary.setTitle("Feijoada");
+    summary.setIngredients(null);
+
+    Page<Recipe> summaryPage = new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1);
+    RecipeDto summaryDto = new RecipeDto();
+    summaryDto.setId(1L);
+
+    when(recipeJpaRepository.searchSummariesWithFilters(
+      any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)
+    )).thenReturn(summaryPage);
+    when(objectMapper.convertValue(summary, RecipeDto.class)).thenReturn(summaryDto);
+
+    Page<RecipeDto> result = recipeService.searchWithFilters(
+      null, 1, null, null, IngredientMatch.ANY, null, null, null, null, null, 0, 10, Sort.by(Sort.Direction.DESC, "createdAt", "id"), RecipeView.SUMMARY
+    );
+
+    assertEquals(1, result.getTotalElements());
+    assertEquals(1L, result.getContent().get(0).getId());
+    verify(recipeJpaRepository, never()).searchWithFilters(
+      any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)
+    );
+    verify(ingredientJpaRepository, never()).findByRecipeIdIn(any());
+  }
+
+  @Test
+  void shouldFindSummaryByIdWithoutLoadingTheEntity() throws Exception {
+    Long id = 1L;
+    Recipe summary = new Recipe();
+    summary.setId(id);
+    RecipeDto summaryDto = new RecipeDto();
+    summaryDto.setId(id);
+
+    when(recipeJpaRepository.findSummaryById(id)).thenReturn(Optional.of(summary));
+    when(objectMapper.convertValue(summary, RecipeDto.class)).thenReturn(summaryDto);
+
+    RecipeDto result = recipeService.findById(id, RecipeView.SUMMARY);
+
+    assertEquals(id, result.getId());
+    verify(recipeJpaRepository, never()).findById(any());
+  }
+
+  @Test
+  void shouldStreamRecipesInChunksAndReturnTotal() {
+    List<Recipe> recipes = LongStream.rangeClosed(1, 25).mapToObj(id -> {
+      Recipe recipe = new Recipe();
+      recipe.setId(id);
+      return recipe;
+    }).toList();
+
+    when(recipeJpaRepository.streamWithFilters(
+      any(), any(), any(), any(), any(), any(), any(), any(), any(), any(Pageable.class)
+    )).thenReturn(recipes.stream());
+    when(recipeJpaRepository.countWithFilters(any(), any(), any(), any(), any(), any(), any(), any(), any())).thenReturn(40L);
+    when(objectMapper.convertValue(any(Recipe.class), eq(RecipeDto.class))).thenAnswer(invocation -> {
+      RecipeDto recipeDto = new RecipeDto();
+      recipeDto.setId(invocation.<Recipe>getArgument(0).getId());
+      return recipeDto;
+    });
+
+    List<Long> streamedIds = new ArrayList<>();
+    long total = recipeService.streamWithFilters(
+      null, 1, null, null, IngredientMatch.ANY, null, null, null, null, null, 0, 25, Sort.by(Sort.Direction.DESC, "createdAt", "id"), RecipeView.FULL,
+      recipeDto -> streamedIds.add(recipeDto.getId())
+    );
+
+    assertEquals(40L, total);
+    assertEquals(LongStream.rangeClosed(1, 25).boxed().toList(), streamedIds);
+    verify(ingredientJpaRepository).findByRecipeIdIn(LongStream.rangeClosed(1, 20).boxed().toList());
+    verify(ingredientJpaRepository).findByRecipeIdIn(LongStream.rangeClosed(21, 25).boxed().toList());
+    verify(recipeJpaRepository, times(2)).detach(any());
+  }
+
+  @Test
+  void shouldStreamSearchFieldsWithIngredientNamesAndNoInstructions() {
+    List<Recipe> summaries = LongStream.rangeClosed(1, 101).mapToObj(id -> {
+      Recipe recipe = new Recipe();
+      recipe.setId(id);
+      recipe.setTitle("Recipe " + id);
+      recipe.setIngredients(null);
+      return recipe;
+    }).toList();
+
+    when(recipeJpaRepository.streamSummaries()).thenReturn(summaries.stream());
+    when(ingredientJpaRepository.findCatalogIdsByRecipeIdIn(any())).thenAnswer(invocation -> {
+      List<Long> recipeIds = invocation.getArgument(0);
+      return recipeIds.stream().map(id -> new Object[] {id, 7}).toList();
+    });
+    doAnswer(invocation -> {
+      invocation.<List<Ingredient>>getArgument(0).forEach(ingredient -> ingredient.setName("Beans"));
+      return null;
+    }).when(ingredientCatalogJpaRepository).resolveLabels(any());
+
+    List<RecipeDto> streamed = new ArrayList<>();
+    recipeService.streamSearchFields(streamed::add);
+
+    assertEquals(101, streamed.size());
+    assertEquals("Recipe 101", streamed.get(100).getTitle());
+    assertNull(streamed.get(0).getInstructions());
+    assertEquals("Beans", streamed.get(0).getIngredients().get(0).getName());
+    verify(ingredientJpaRepository).findCatalogIdsByRecipeIdIn(LongStream.rangeClosed(1, 100).boxed().toList());
+    verify(ingredientJpaRepository).findCatalogIdsByRecipeIdIn(List.of(101L));
+    verify(recipeJpaRepository, never()).findInstructionsByIds(any());
+  }
+
+  @Test
+  void shouldNotQueryOnceTheRequestDeadlineHasPassed() {
+    try (RequestDeadline.Scope scope = RequestDeadline.after(Duration.ZERO).enter()) {
+      assertThrows(QueryTimeoutException.class, () -> recipeService.findById(1L, RecipeView.FULL));
+    }
+
+    verify(recipeJpaRepository, never()).findById(any());
+  }
+
+  @Test
+  void shouldNotLetALoadStartedBeforeAnInvalidationBeJoinedAndCached() throws Exception {
+    InMemoryInvalidationBus bus = new InMemoryInvalidationBus();
+    ObjectMapper jsonMapper = new ObjectMapper();
+    RecipeResponseCache cache = new RecipeResponseCache(new ResponseCacheProperties(), jsonMapper,
+      new ObjectMapper(new SmileFactory()), new ObjectMapper(new CBORFactory()));
+    bus.subscribe(cache);
+    RecipeServiceImpl service = new RecipeServiceImpl(recipeJpaRepository, ingredientJpaRepository,
+      ingredientCatalogJpaRepository, recipeChangeJpaRepository, bus, objectMapper, transactionManager);
+
+    Recipe stale = new Recipe();
+    Recipe fresh = new Recipe();
+    RecipeDto staleDto = createDto();
+    staleDto.setTitle("Before");
+    RecipeDto freshDto = createDto();
+    freshDto.setTitle("After");
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(recipeJpaRepository.findById(1L))
+      .thenAnswer(invocation -> {
+        loading.countDown();
+        release.await();
+        return Optional.of(stale);
+      })
+      .thenReturn(Optional.of(fresh));
+    when(objectMapper.convertValue(stale, RecipeDto.class)).thenReturn(staleDto);
+    when(objectMapper.convertValue(fresh, RecipeDto.class)).thenReturn(freshDto);
+
+    RecipeResponseCache.Key key = new RecipeResponseCache.Key(1L, RecipeView.FULL, MediaType.APPLICATION_JSON);
+    long firstGeneration = cache.generation(1L);
+    CompletableFuture<RecipeDto> first = CompletableFuture.supplyAsync(() -> find(service));
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    bus.publish(1L);
+    long secondGeneration = cache.generation(1L);
+    RecipeDto second = CompletableFuture.supplyAsync(() -> find(service)).get(5, TimeUnit.SECONDS);
+    cache.put(key, response(second), secondGeneration);
+    release.countDown();
+    cache.put(key, response(first.get(5, TimeUnit.SECONDS)), firstGeneration);
+
+    assertEquals("After", jsonMapper.readTree(cache.get(key).body()).get("title").asText());
+  }
+
+  private static RecipeDto find(RecipeServiceImpl service) {
+    try {
+      return service.findById(1L, RecipeView.FULL);
+    } catch (DataNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static RecipeResponse response(RecipeDto dto) {
+    return new RecipeResponse(1L, dto.getTitle(), dto.getDescription(), dto.isVegetarian(), dto.getInstructions(),
+      List.of(), dto.getCreatedAt(), dto.getUpdatedAt());
+  }
+
+  @Test
+  void shouldReturnLatestChangePerRecipeWithTombstones() throws Exception {
+    Recipe updated = new Recipe();
+    updated.setId(1L);
+    updated.setInstructions("Bake");
+    RecipeDto updatedDto = new RecipeDto();
+    updatedDto.setId(1L);
+
+    when(recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(eq(10L), any())).thenReturn(List.of(
+      change(11L, 1L, RecipeChangeType.UPSERT),
+      change(12L, 2L, RecipeChangeType.UPSERT),
+      change(13L, 1L, RecipeChangeType.UPSERT),
+      change(14L, 2L, RecipeChangeType.DELETE)
+    ));
+    when(recipeJpaRepository.findAllById(List.of(1L))).thenReturn(List.of(updated));
+    when(ingredientJpaRepository.findByRecipeIdIn(List.of(1L))).thenReturn(List.of());
+    when(objectMapper.convertValue(updated, RecipeDto.class)).thenReturn(updatedDto);
+
+    RecipeChangesDto result = recipeService.findChanges(10L, 4);
+
+    assertEquals(List.of(13L, 14L), result.getChanges().stream().map(RecipeChangeDto::getSeq).toList());
+    assertSame(updatedDto, result.getChanges().get(0).getRecipe());
+    assertEquals(RecipeChangeType.DELETE, result.getChanges().get(1).getType());
+    assertNull(result.getChanges().get(1).getRecipe());
+    assertEquals(14L, result.getNextCursor());
+    assertTrue(result.isHasMore());
+  }
+
+  @Test
+  void shouldStopAtAPositionThatMayStillCommit() throws Exception {
+    when(recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(eq(10L), any())).thenReturn(List.of(
+      change(11L, 1L, RecipeChangeType.DELETE),
+      change(13L, 2L, RecipeChangeType.DELETE)
+    ));
+
+    RecipeChangesDto result = recipeService.findChanges(10L, 2);
+
+    assertEquals(List.of(11L), result.getChanges().stream().map(RecipeChangeDto::getSeq).toList());
+    assertEquals(11L, result.getNextCursor());
+    assertFalse(result.isHasMore());
+  }
+
+  @Test
+  void shouldSkipAPositionThatCanNoLongerCommit() throws Exception {
+    RecipeChange afterGap = change(13L, 2L, RecipeChangeType.DELETE);
+    afterGap.setChangedAt(Timestamp.from(Instant.now().minus(ChangeFeedWatermark.SETTLE_TIME).minusSeconds(1)));
+    when(recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(eq(10L), any())).thenReturn(List.of(
+      change(11L, 1L, RecipeChangeType.DELETE),
+      afterGap
+    ));
+
+    RecipeChangesDto result = recipeService.findChanges(10L, 2);
+
+    assertEquals(List.of(11L, 13L), result.getChanges().stream().map(RecipeChangeDto::getSeq).toList());
+    assertEquals(13L, result.getNextCursor());
+  }
+
+  @Test
+  void shouldKeepCursorWhenThereAreNoNewChanges() throws Exception {
+    when(recipeChangeJpaRepository.findBySeqGreaterThanOrderBySeqAsc(eq(42L), any())).thenReturn(List.of());
+
+    RecipeChangesDto result = recipeService.findChanges(42L, 100);
+
+    assertTrue(result.getChanges().isEmpty());
+    assertEquals(42L, result.getNextCursor());
+    assertFalse(result.isHasMore());
+    verify(recipeJpaRepository, never()).findAllById(any());
+  }
+
+  @Test
+  void shouldThrowInvalidDataExceptionForInvalidChangeCursor() {
+    InvalidDataException exception = assertThrows(InvalidDataException.class, () -> recipeService.findChanges(-1L, 100));
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+
+    assertThrows(InvalidDataException.class, () -> recipeService.findChanges(0L, 501));
+  }
+
+  private RecipeChange change(Long seq, Long recipeId, RecipeChangeType type) {
+    RecipeChange change = new RecipeChange();
+    change.setSeq(seq);
+    change.setRecipeId(recipeId);
+    change.setChangeType(type);
+    change.setChangedAt(Timestamp.from(Instant.now()));
+    return change;
+  }
+
   private RecipeDto createDto() {
     RecipeDto recipeDto = new RecipeDto();
     recipeDto.setTitle("Feijoada");
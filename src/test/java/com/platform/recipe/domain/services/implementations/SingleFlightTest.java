@@ -0,0 +1,174 @@
+package com.platform.recipe.domain.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.domain.services.RequestDeadline;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+class SingleFlightTest {
+
+  private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+  private final CountDownLatch loading = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void shouldShareOneLoadBetweenConcurrentCallers() throws Exception {
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+      () -> singleFlight.execute("recipe-1", blockingLoader(() -> "Feijoada"))
+    );
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<String> follower = joinFlight("recipe-1");
+    release.countDown();
+
+    assertEquals("Feijoada", leader.get(5, TimeUnit.SECONDS));
+    assertEquals("Feijoada", follower.get(5, TimeUnit.SECONDS));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldPropagateLoaderFailureToFollowers() throws Exception {
+    IllegalStateException failure = new IllegalStateException("database unavailable");
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+      () -> singleFlight.execute("recipe-1", blockingLoader(() -> {
+        throw failure;
+      }))
+    );
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<String> follower = joinFlight("recipe-1");
+    release.countDown();
+
+    assertSame(failure, assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+    assertSame(failure, assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+  }
+
+  @Test
+  void shouldStartNewLoadAfterForgetAll() throws Exception {
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+      () -> singleFlight.execute("recipe-1", blockingLoader(() -> "before update"))
+    );
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    singleFlight.forgetAll();
+
+    assertEquals("after update", singleFlight.execute("recipe-1", () -> "after update"));
+    release.countDown();
+    assertEquals("before update", leader.get(5, TimeUnit.SECONDS));
+    assertEquals("fresh", singleFlight.execute("recipe-1", () -> "fresh"));
+  }
+
+  @Test
+  void shouldKeepLoadingForFollowersWhenTheLeaderIsCancelled() throws Exception {
+    RequestDeadline leaderDeadline = RequestDeadline.after(Duration.ofSeconds(10));
+    AtomicReference<RequestDeadline> loadDeadline = new AtomicReference<>();
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> {
+      try (RequestDeadline.Scope scope = leaderDeadline.enter()) {
+        return singleFlight.execute("recipe-1", blockingLoader(() -> {
+          loadDeadline.set(RequestDeadline.current());
+          return "Feijoada";
+        }));
+      }
+    });
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<String> follower = joinFlight("recipe-1");
+    leaderDeadline.cancel();
+    release.countDown();
+
+    assertEquals("Feijoada", follower.get(5, TimeUnit.SECONDS));
+    assertEquals("Feijoada", leader.get(5, TimeUnit.SECONDS));
+    assertNotSame(leaderDeadline, loadDeadline.get());
+    assertFalse(loadDeadline.get().isExpired());
+  }
+
+  @Test
+  void shouldCancelTheLoadOnceEveryCallerHasGivenUp() throws Exception {
+    RequestDeadline leaderDeadline = RequestDeadline.after(Duration.ofSeconds(10));
+    AtomicReference<RequestDeadline> loadDeadline = new AtomicReference<>();
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> {
+      try (RequestDeadline.Scope scope = leaderDeadline.enter()) {
+        return singleFlight.execute("recipe-1", blockingLoader(() -> {
+          loadDeadline.set(RequestDeadline.current());
+          return "Feijoada";
+        }));
+      }
+    });
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    leaderDeadline.cancel();
+    release.countDown();
+
+    leader.get(5, TimeUnit.SECONDS);
+    assertTrue(loadDeadline.get().isExpired());
+  }
+
+  @Test
+  void shouldStopWaitingAtTheFollowersOwnDeadline() throws Exception {
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+      () -> singleFlight.execute("recipe-1", blockingLoader(() -> "Feijoada"))
+    );
+    assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+    CompletableFuture<String> follower = joinFlight("recipe-1", RequestDeadline.after(Duration.ofMillis(50)));
+
+    ExecutionException timedOut = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+    assertInstanceOf(QueryTimeoutException.class, timedOut.getCause());
+    release.countDown();
+    assertEquals("Feijoada", leader.get(5, TimeUnit.SECONDS));
+    assertEquals(1, loads.get());
+  }
+
+  private CompletableFuture<String> joinFlight(String key) throws InterruptedException {
+    return joinFlight(key, null);
+  }
+
+  private CompletableFuture<String> joinFlight(String key, RequestDeadline deadline) throws InterruptedException {
+    CompletableFuture<String> result = new CompletableFuture<>();
+    Thread follower = new Thread(() -> {
+      RequestDeadline.Scope scope = deadline == null ? () -> { } : deadline.enter();
+      try (scope) {
+        result.complete(singleFlight.execute(key, () -> "should not run"));
+      } catch (RuntimeException e) {
+        result.completeExceptionally(e);
+      }
+    });
+    follower.start();
+
+    long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (follower.getState() != Thread.State.WAITING && follower.getState() != Thread.State.TIMED_WAITING
+      && !result.isDone() && System.nanoTime() < waitUntil) {
+      Thread.sleep(1);
+    }
+    return result;
+  }
+
+  private Supplier<String> blockingLoader(Supplier<String> result) {
+    return () -> {
+      loads.incrementAndGet();
+      loading.countDown();
+      try {
+        release.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return result.get();
+    };
+  }
+}
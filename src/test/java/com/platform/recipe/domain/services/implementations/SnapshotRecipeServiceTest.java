@@ -0,0 +1,157 @@
+package com.platform.recipe.domain.services.implementations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.IngredientMatch;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import com.platform.recipe.domain.dtos.RecipeView;
+import com.platform.recipe.domain.dtos.TitleMatch;
+import com.platform.recipe.domain.exceptions.DataNotFoundException;
+import com.platform.recipe.domain.exceptions.ErrorCode;
+import com.platform.recipe.domain.exceptions.ForbiddenException;
+import com.platform.recipe.domain.services.RequestDeadline;
+import com.platform.recipe.domain.snapshot.RecipeSnapshot;
+import com.platform.recipe.domain.snapshot.RecipeSnapshotWriter;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+class SnapshotRecipeServiceTest {
+
+  private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+  @TempDir
+  Path directory;
+
+  private SnapshotRecipeService service;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Path file = directory.resolve("recipes.snapshot");
+    RecipeSnapshotWriter.write(file, List.of(
+      recipe(1L, "Tomato soup", true, "2026-01-01T10:00:00Z", "Tomatoes", "Onion"),
+      recipe(2L, "Tomato", true, "2026-01-02T10:00:00Z", "Tomato"),
+      recipe(3L, "Grilled fish with tomato", false, "2026-01-02T10:00:00Z", "Fish", "Tomato"),
+      recipe(4L, "Onion rings", true, "2026-01-04T10:00:00Z", "Onions")
+    ), List.of(3L, 4L, 2L, 1L), Instant.now());
+    RecipeSnapshot snapshot = RecipeSnapshot.open(file);
+    service = new SnapshotRecipeService(() -> snapshot);
+  }
+
+  @Test
+  void shouldPageNewestFirstWithTiesBrokenByIdInTheSameDirection() {
+    assertEquals(List.of(4L, 3L), ids(search(null, null, null, IngredientMatch.ANY, null, 0, 2, NEWEST_FIRST)));
+    assertEquals(List.of(2L, 1L), ids(search(null, null, null, IngredientMatch.ANY, null, 1, 2, NEWEST_FIRST)));
+    assertEquals(List.of(1L, 2L, 3L, 4L),
+      ids(search(null, null, null, IngredientMatch.ANY, null, 0, 10, Sort.by(Sort.Direction.ASC, "createdAt", "id"))));
+  }
+
+  @Test
+  void shouldFilterOnTheCatalogKeyOfIncludedAndExcludedIngredients() {
+    assertEquals(List.of(3L, 2L, 1L), ids(search(null, List.of("tomato"), null, IngredientMatch.ANY, null, 0, 10, NEWEST_FIRST)));
+    assertEquals(List.of(1L), ids(search(null, List.of("tomato", "ONIONS"), null, IngredientMatch.ALL, null, 0, 10, NEWEST_FIRST)));
+    assertEquals(List.of(3L, 2L), ids(search(null, List.of("tomato"), List.of("onion"), IngredientMatch.ANY, null, 0, 10, NEWEST_FIRST)));
+    assertEquals(0, search(null, List.of("tomato", "saffron"), null, IngredientMatch.ALL, null, 0, 10, NEWEST_FIRST).getTotalElements());
+    assertEquals(List.of(4L, 2L, 1L), ids(search(true, null, null, IngredientMatch.ANY, null, 0, 10, NEWEST_FIRST)));
+  }
+
+  @Test
+  void shouldRankTitleMatchesByRelevanceBeforeTheRequestedOrder() {
+    Page<RecipeDto> prefix = search(null, null, null, IngredientMatch.ANY, "tomato", 0, 10, NEWEST_FIRST);
+    Page<RecipeDto> fuzzy = service.searchWithFilters(null, 1, null, null, IngredientMatch.ANY, null, "tomato",
+      TitleMatch.FUZZY, null, null, 0, 10, NEWEST_FIRST, RecipeView.FULL);
+
+    assertEquals(List.of(2L, 1L), ids(prefix));
+    assertEquals(2, prefix.getTotalElements());
+    assertEquals(List.of(2L, 1L, 3L), ids(fuzzy));
+  }
+
+  @Test
+  void shouldScaleQuantitiesAndLeaveDetailsOutOfSummaries() throws DataNotFoundException {
+    Page<RecipeDto> scaled = service.searchWithFilters(null, 3, null, null, IngredientMatch.ANY, null, null, null,
+      null, null, 0, 1, NEWEST_FIRST, RecipeView.FULL);
+    RecipeDto summary = service.findById(1L, RecipeView.SUMMARY);
+
+    assertEquals(6, scaled.getContent().get(0).getIngredients().get(0).getQuantity());
+    assertEquals("Tomato soup", summary.getTitle());
+    assertNotNull(summary.getCreatedAt());
+    assertNull(summary.getIngredients());
+    assertNull(summary.getInstructions());
+  }
+
+  @Test
+  void shouldStreamTheRequestedPageAndReturnTheTotal() {
+    List<RecipeDto> streamed = new ArrayList<>();
+
+    long total = service.streamWithFilters(null, 1, null, null, IngredientMatch.ANY, null, null, null, null, null, 1,
+      3, NEWEST_FIRST, RecipeView.FULL, streamed::add);
+
+    assertEquals(4, total);
+    assertEquals(List.of(1L), streamed.stream().map(RecipeDto::getId).toList());
+  }
+
+  @Test
+  void shouldFindRecipesByIdAndReportMissingOnes() throws Exception {
+    assertEquals("Onion rings", service.findById(4L, RecipeView.FULL).getTitle());
+    assertThrows(DataNotFoundException.class, () -> service.findById(99L, RecipeView.FULL));
+    assertEquals(List.of(99L), service.findAllByIds(List.of(2L, 99L, 2L)).getMissingIds());
+  }
+
+  @Test
+  void shouldRefuseWritesAndTheChangeFeed() {
+    ForbiddenException create = assertThrows(ForbiddenException.class, () -> service.create(new RecipeDto()));
+
+    assertEquals(ErrorCode.READ_ONLY_SNAPSHOT, create.getErrorCode());
+    assertThrows(ForbiddenException.class, () -> service.update(new RecipeDto()));
+    assertThrows(ForbiddenException.class, () -> service.deleteById(1L));
+    assertThrows(ForbiddenException.class, () -> service.findChanges(0, 10));
+  }
+
+  @Test
+  void shouldStopScanningOnceTheRequestDeadlineHasPassed() {
+    try (RequestDeadline.Scope ignored = RequestDeadline.after(Duration.ZERO).enter()) {
+      assertThrows(QueryTimeoutException.class,
+        () -> search(null, null, null, IngredientMatch.ANY, null, 0, 10, NEWEST_FIRST));
+    }
+  }
+
+  private Page<RecipeDto> search(
+    Boolean vegetarian,
+    List<String> included,
+    List<String> excluded,
+    IngredientMatch match,
+    String title,
+    int page,
+    int pageSize,
+    Sort sort
+  ) {
+    return service.searchWithFilters(vegetarian, 1, included, excluded, match, null, title, TitleMatch.PREFIX, null,
+      null, page, pageSize, sort, RecipeView.FULL);
+  }
+
+  private static List<Long> ids(Page<RecipeDto> page) {
+    return page.getContent().stream().map(RecipeDto::getId).toList();
+  }
+
+  private static RecipeDto recipe(Long id, String title, boolean vegetarian, String createdAt, String... ingredients) {
+    Timestamp timestamp = Timestamp.from(Instant.parse(createdAt));
+    List<IngredientDto> ingredientDtos = new ArrayList<>();
+    for (int i = 0; i < ingredients.length; i++) {
+      ingredientDtos.add(new IngredientDto(id * 10 + i, ingredients[i], 2, "g"));
+    }
+    return new RecipeDto(id, title, title, vegetarian, "Cook it", ingredientDtos, timestamp, timestamp);
+  }
+}
@@ -0,0 +1,158 @@
+package com.platform.recipe.domain.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.platform.recipe.domain.dtos.IngredientDto;
+import com.platform.recipe.domain.dtos.RecipeDto;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecipeSnapshotTest {
+
+  private static final Instant BUILT_AT = Instant.parse("2026-10-19T12:00:00Z");
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldReadBackEveryFieldByIdFromTheMappedFile() throws IOException {
+    RecipeSnapshot snapshot = write(List.of(
+      recipe(30L, "Moqueca", false, "2026-01-03T10:00:00.123456Z", new IngredientDto(5L, "  Fish ", 400, "G")),
+      recipe(10L, "Açaí bowl", true, "2026-01-01T10:00:00Z", new IngredientDto(1L, "Banana", 2, null))
+    ));
+
+    assertEquals(BUILT_AT, snapshot.builtAt());
+    assertEquals(2, snapshot.size());
+    assertEquals(-1, snapshot.find(20L));
+
+    int moqueca = snapshot.find(30L);
+    assertEquals(1, moqueca);
+    assertEquals("Moqueca", snapshot.title(moqueca));
+    assertEquals("Moqueca description", snapshot.description(moqueca));
+    assertEquals("cook moqueca slowly", snapshot.instructions(moqueca));
+    assertFalse(snapshot.vegetarian(moqueca));
+    assertEquals(Timestamp.from(Instant.parse("2026-01-03T10:00:00.123456Z")), snapshot.createdAt(moqueca));
+
+    IngredientDto fish = snapshot.ingredients(moqueca).get(0);
+    assertEquals(5L, fish.getId());
+    assertEquals("Fish", fish.getName());
+    assertEquals(400, fish.getQuantity());
+    assertEquals("g", fish.getUnit());
+
+    int bowl = snapshot.find(10L);
+    assertEquals("Açaí bowl", snapshot.title(bowl));
+    assertTrue(snapshot.vegetarian(bowl));
+    assertNull(snapshot.ingredients(bowl).get(0).getUnit());
+  }
+
+  @Test
+  void shouldKeepEachOrderAscendingWithTiesInIdOrder() throws IOException {
+    RecipeSnapshot snapshot = write(List.of(
+      recipe(3L, "Bolo", true, "2026-01-01T10:00:00Z"),
+      recipe(1L, "Arroz", true, "2026-01-02T10:00:00Z"),
+      recipe(2L, "Bolo", true, "2026-01-01T10:00:00Z")
+    ), List.of(1L, 2L, 3L));
+
+    assertEquals(List.of(2L, 3L, 1L), idsIn(snapshot, RecipeSnapshot.Order.CREATED_AT));
+    assertEquals(List.of(1L, 2L, 3L), idsIn(snapshot, RecipeSnapshot.Order.TITLE));
+    assertEquals(List.of(1L, 2L, 3L), idsIn(snapshot, RecipeSnapshot.Order.ID));
+  }
+
+  @Test
+  void shouldStoreTitlesInTheDatabaseOrderAndPutUnlistedRecipesLast() throws IOException {
+    RecipeSnapshot snapshot = write(List.of(
+      recipe(1L, "Bolo", true, "2026-01-01T10:00:00Z"),
+      recipe(2L, "açaí", true, "2026-01-01T10:00:00Z"),
+      recipe(3L, "Arroz", true, "2026-01-01T10:00:00Z")
+    ), List.of(2L, 1L));
+
+    assertEquals(List.of(2L, 1L, 3L), idsIn(snapshot, RecipeSnapshot.Order.TITLE));
+  }
+
+  @Test
+  void shouldIndexRecipesByCatalogIngredientOnce() throws IOException {
+    RecipeSnapshot snapshot = write(List.of(
+      recipe(1L, "Farofa", true, "2026-01-01T10:00:00Z",
+        new IngredientDto(1L, "Manioc flour", 1, "cup"), new IngredientDto(2L, "manioc  FLOUR", 2, "tbsp")),
+      recipe(2L, "Tapioca", true, "2026-01-01T10:00:00Z", new IngredientDto(3L, "Manioc Flour", 1, null)),
+      recipe(3L, "Salad", true, "2026-01-01T10:00:00Z", new IngredientDto(4L, "Lettuce", 1, null))
+    ));
+
+    int flour = snapshot.catalogIndex("manioc flour");
+    List<Integer> ordinals = new ArrayList<>();
+    snapshot.forEachRecipeWith(flour, ordinals::add);
+
+    assertEquals(List.of(0, 1), ordinals);
+    assertEquals(-1, snapshot.catalogIndex("rice"));
+  }
+
+  @Test
+  void shouldStreamRecipesThroughASpillFileAndRemoveItWhenDone() throws IOException {
+    Path file = directory.resolve("recipes.snapshot");
+    try (RecipeSnapshotWriter writer = new RecipeSnapshotWriter(file, BUILT_AT)) {
+      for (long id = 1; id <= 3_000; id++) {
+        writer.add(recipe(id, "Recipe " + id, id % 2 == 0, "2026-01-01T10:00:00Z",
+          new IngredientDto(id, id % 3 == 0 ? "Rice" : "Beans", 1, "g")));
+      }
+      assertThrows(IllegalArgumentException.class,
+        () -> writer.add(recipe(2_000L, "Late", true, "2026-01-01T10:00:00Z")));
+      writer.title(3_000L);
+      writer.title(42_000L);
+      writer.finish();
+    }
+
+    RecipeSnapshot snapshot = RecipeSnapshot.open(file);
+    assertEquals(3_000, snapshot.size());
+    assertEquals("Recipe 2500", snapshot.title(snapshot.find(2_500L)));
+    assertEquals(3_000L, snapshot.id(snapshot.ordinalAt(RecipeSnapshot.Order.TITLE, 0)));
+    List<Integer> rice = new ArrayList<>();
+    snapshot.forEachRecipeWith(snapshot.catalogIndex("rice"), rice::add);
+    assertEquals(1_000, rice.size());
+    try (Stream<Path> files = Files.list(directory)) {
+      assertEquals(List.of(file), files.toList());
+    }
+  }
+
+  @Test
+  void shouldRejectFilesThatAreNotSnapshots() throws IOException {
+    Path file = Files.write(directory.resolve("other.snapshot"), new byte[128]);
+
+    assertThrows(IOException.class, () -> RecipeSnapshot.open(file));
+  }
+
+  private RecipeSnapshot write(List<RecipeDto> recipes) throws IOException {
+    return write(recipes, List.of());
+  }
+
+  private RecipeSnapshot write(List<RecipeDto> recipes, List<Long> titleOrder) throws IOException {
+    Path file = directory.resolve("recipes.snapshot");
+    RecipeSnapshotWriter.write(file, recipes, titleOrder, BUILT_AT);
+    return RecipeSnapshot.open(file);
+  }
+
+  private static List<Long> idsIn(RecipeSnapshot snapshot, RecipeSnapshot.Order order) {
+    List<Long> ids = new ArrayList<>();
+    for (int rank = 0; rank < snapshot.size(); rank++) {
+      ids.add(snapshot.id(snapshot.ordinalAt(order, rank)));
+    }
+    return ids;
+  }
+
+  static RecipeDto recipe(Long id, String title, boolean vegetarian, String createdAt, IngredientDto... ingredients) {
+    Timestamp timestamp = Timestamp.from(Instant.parse(createdAt));
+    return new RecipeDto(id, title, title + " description", vegetarian, "cook " + title.toLowerCase() + " slowly",
+      List.of(ingredients), timestamp, timestamp);
+  }
+}
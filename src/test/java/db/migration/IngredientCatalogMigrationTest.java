@@ -0,0 +1,60 @@
+package db.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class IngredientCatalogMigrationTest {
+
+  private DriverManagerDataSource dataSource;
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    dataSource = new DriverManagerDataSource(
+      "jdbc:h2:mem:catalog_migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    migrate("5");
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.execute("DROP ALL OBJECTS");
+  }
+
+  @Test
+  void shouldFileMissingAndBlankNamesUnderOneEntry() {
+    jdbcTemplate.execute("ALTER TABLE ingredient ALTER COLUMN name SET NULL");
+    jdbcTemplate.update("INSERT INTO recipe (title, description, is_vegetarian, instructions, created_at, updated_at)"
+      + " VALUES ('Salad', 'Fresh', TRUE, 'Mix', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+    Long recipeId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM recipe", Long.class);
+    for (String name : new String[] {"Tomatoes", "tomato ", null, "  "}) {
+      jdbcTemplate.update("INSERT INTO ingredient (name, quantity, unit, recipe_id) VALUES (?, 1, 'grams', ?)",
+        name, recipeId);
+    }
+
+    migrate("6");
+
+    assertEquals(List.of("(unnamed)", "tomato"), jdbcTemplate.queryForList(
+      "SELECT normalized_name FROM ingredient_catalog ORDER BY normalized_name", String.class));
+    assertEquals(List.of("(unnamed)", "(unnamed)", "Tomatoes", "Tomatoes"), jdbcTemplate.queryForList(
+      "SELECT c.name FROM ingredient i JOIN ingredient_catalog c ON c.id = i.catalog_id ORDER BY c.name",
+      String.class));
+    assertEquals(List.of("g"), jdbcTemplate.queryForList("SELECT code FROM ingredient_unit", String.class));
+  }
+
+  private void migrate(String target) {
+    Flyway.configure()
+      .dataSource(dataSource)
+      .locations("classpath:db/migration")
+      .target(target)
+      .load()
+      .migrate();
+  }
+}